@@ -31,13 +31,15 @@ public class ArbolAVL<T extends Comparable<T>> extends ArbolBinarioOrdenado<T> {
         }
 
         /**
-         * Regresa la altura del vértice.
+         * Regresa la altura del vértice. El árbol mantiene la altura de cada
+         * vértice al agregar, eliminar y girar, así que no hay que recorrer el
+         * subárbol para calcularla.
          * 
          * @return la altura del vértice.
          */
         @Override
         public int altura() {
-            return super.altura();
+            return altura;
         }
 
         /**
@@ -142,42 +144,48 @@ public class ArbolAVL<T extends Comparable<T>> extends ArbolBinarioOrdenado<T> {
         return (VerticeAVL) vertice;
     }
 
+    /*
+     * Sube desde el vértice hasta la raíz actualizando alturas y girando donde
+     * el balance se salió de [-1, 1]. Cada paso toma tiempo constante, así que
+     * rebalancear toma tiempo proporcional a la altura del árbol.
+     */
     private void rebalanceo(VerticeAVL v) {
         if (v == null)
             return;
-        v.altura = v.altura();
+        actualizaAltura(v);
         VerticeAVL p = verticeAVL(v.izquierdo);
         VerticeAVL q = verticeAVL(v.derecho);
         if (balance(v) == -2) {
             if (balance(q) == 1) {
                 super.giraDerecha(q);
-                q.altura = q.altura();
+                actualizaAltura(q);
             }
             super.giraIzquierda(v);
-            v.altura = v.altura();
+            actualizaAltura(v);
         } else if (balance(v) == 2) {
             if (balance(p) == -1) {
                 super.giraIzquierda(p);
-                p.altura = p.altura();
+                actualizaAltura(p);
             }
             super.giraDerecha(v);
-            v.altura = v.altura();
+            actualizaAltura(v);
         }
         rebalanceo(verticeAVL(v.padre));
     }
 
-    private int balance(VerticeAVL v) {
-        int altura;
-        if (v.hayIzquierdo() && v.hayDerecho())
-            altura = v.izquierdo().altura() - v.derecho().altura();
-        else if (!v.hayIzquierdo() && v.hayDerecho())
-            altura = -1 - v.derecho().altura();
-        else if (v.hayIzquierdo() && !v.hayDerecho())
-            altura = v.izquierdo().altura() + 1;
-        else
-            altura = 0;
+    /* Regresa la altura del vértice, o -1 si es null. */
+    private int altura(Vertice v) {
+        return v == null ? -1 : verticeAVL(v).altura;
+    }
 
-        return altura;
+    /* Calcula la altura del vértice a partir de las de sus hijos. */
+    private void actualizaAltura(VerticeAVL v) {
+        v.altura = 1 + Math.max(altura(v.izquierdo), altura(v.derecho));
+    }
+
+    /* Regresa el balance del vértice. */
+    private int balance(VerticeAVL v) {
+        return altura(v.izquierdo) - altura(v.derecho);
     }
 
     /**
@@ -18,11 +18,11 @@ public class ArbolBinarioCompleto<T> extends ArbolBinario<T> {
     private class Iterador implements Iterator<T> {
 
         /* Cola para recorrer los vértices en BFS. */
-        private Cola<Vertice> cola;
+        private ColaArreglo<Vertice> cola;
 
         /* Inicializa al iterador. */
         public Iterador() {
-            cola = new Cola<ArbolBinario<T>.Vertice>();
+            cola = new ColaArreglo<ArbolBinario<T>.Vertice>();
             if (raiz != null)
                 cola.mete(raiz);
         }
@@ -82,28 +82,12 @@ public class ArbolBinarioCompleto<T> extends ArbolBinario<T> {
             raiz = nuevo;
             return;
         }
-        Cola<VerticeArbolBinario<T>> cola = new Cola<>();
-        cola.mete(raiz());
-        VerticeArbolBinario<T> vertice;
-        while (!cola.esVacia()) {
-            vertice = cola.saca();
-            if (vertice.hayIzquierdo())
-                cola.mete(vertice.izquierdo());
-            if (vertice.hayDerecho())
-                cola.mete(vertice.derecho());
-            if (!vertice.hayIzquierdo()) {
-                Vertice i = vertice(vertice);
-                i.izquierdo = nuevo;
-                nuevo.padre = i;
-                return;
-            }
-            if (!vertice.hayDerecho()) {
-                Vertice d = vertice(vertice);
-                d.derecho = nuevo;
-                nuevo.padre = d;
-                return;
-            }
-        }
+        Vertice padre = verticeBFS(elementos / 2);
+        if (elementos % 2 == 0)
+            padre.izquierdo = nuevo;
+        else
+            padre.derecho = nuevo;
+        nuevo.padre = padre;
     }
 
     /**
@@ -116,25 +100,16 @@ public class ArbolBinarioCompleto<T> extends ArbolBinario<T> {
     public void elimina(T elemento) {
         if (elemento == null)
             throw new IllegalArgumentException();
-        if (!contiene(elemento))
+        VerticeArbolBinario<T> v = busca(elemento);
+        if (v == null)
             return;
+        Vertice ultimo = verticeBFS(elementos);
         elementos--;
         if (elementos == 0) {
             limpia();
             return;
         }
-        Cola<Vertice> cola = new Cola<>();
-        cola.mete(raiz);
-        Vertice ultimo = null;
-        while (!cola.esVacia()) {
-            ultimo = cola.saca();
-            if (ultimo.hayIzquierdo())
-                cola.mete(ultimo.izquierdo);
-            if (ultimo.hayDerecho())
-                cola.mete(ultimo.derecho);
-        }
-        Vertice e = vertice(busca(elemento));
-        e.elemento = ultimo.elemento;
+        vertice(v).elemento = ultimo.elemento;
         Vertice padre = ultimo.padre;
         if (padre.izquierdo == ultimo) {
             padre.izquierdo = null;
@@ -143,6 +118,23 @@ public class ArbolBinarioCompleto<T> extends ArbolBinario<T> {
         }
     }
 
+    /**
+     * Regresa el vértice en la posición <em>k</em> (contando desde 1) del
+     * recorrido BFS del árbol. Como el árbol es completo, los bits de
+     * <em>k</em> después del más significativo dicen, de arriba hacia abajo, si
+     * hay que bajar a la izquierda (0) o a la derecha (1), así que el vértice
+     * se encuentra en tiempo logarítmico.
+     * 
+     * @param k la posición del vértice, entre 1 y el número de elementos.
+     * @return el vértice en la posición <em>k</em> del recorrido BFS.
+     */
+    private Vertice verticeBFS(int k) {
+        Vertice v = raiz;
+        for (int b = 30 - Integer.numberOfLeadingZeros(k); b >= 0; b--)
+            v = ((k >>> b) & 1) == 0 ? v.izquierdo : v.derecho;
+        return v;
+    }
+
     /**
      * Regresa la altura del árbol. La altura de un árbol binario completo siempre
      * es ⌊log<sub>2</sub><em>n</em>⌋.
@@ -153,7 +145,7 @@ public class ArbolBinarioCompleto<T> extends ArbolBinario<T> {
     public int altura() {
         if (raiz == null)
             return -1;
-        return raiz.altura();
+        return 31 - Integer.numberOfLeadingZeros(elementos);
     }
 
     /**
@@ -165,7 +157,7 @@ public class ArbolBinarioCompleto<T> extends ArbolBinario<T> {
     public void bfs(AccionVerticeArbolBinario<T> accion) {
         if (raiz == null)
             return;
-        Cola<ArbolBinario<T>.Vertice> cola = new Cola<>();
+        ColaArreglo<ArbolBinario<T>.Vertice> cola = new ColaArreglo<>();
         cola.mete(raiz);
         Vertice vertice;
         while (!cola.esVacia()) {
@@ -0,0 +1,180 @@
+package mx.unam.ciencias.edd;
+
+/**
+ * <p>
+ * Clase para buscar en un arreglo ordenado de enteros acomodado en el orden de
+ * Eytzinger: el orden en que BFS recorrería el árbol binario ordenado completo
+ * que tiene esos enteros, como en un {@link MonticuloMinimo}. La raíz está en
+ * el índice 1, y los hijos del índice k están en 2k y 2k+1.
+ * </p>
+ *
+ * <p>
+ * Una búsqueda binaria en un arreglo ordenado brinca de un extremo al otro del
+ * arreglo, y casi cada paso es un fallo de caché. En el orden de Eytzinger los
+ * primeros niveles del árbol están juntos al inicio del arreglo, y se quedan en
+ * caché entre búsquedas; además los cuatro nietos de un índice son contiguos,
+ * así que el siguiente paso casi siempre está en una línea de caché que el
+ * procesador ya está trayendo. Cada paso es una sola comparación, sin saltos
+ * que dependan de los datos.
+ * </p>
+ *
+ * <p>
+ * Los índices que regresan las búsquedas son los del arreglo ordenado original.
+ * </p>
+ */
+public class ArregloEytzinger {
+
+    /* Número de búsquedas que cotasInferiores hace a la vez. */
+    private static final int LOTE = 16;
+
+    /* Los valores en el orden de Eytzinger, a partir del índice 1. */
+    private int[] arbol;
+    /*
+     * El índice en el arreglo ordenado de cada valor del árbol; en el índice 0
+     * está la longitud, que es la cota de un valor mayor que todos.
+     */
+    private int[] indices;
+    /* Número máximo de pasos de una búsqueda. */
+    private int altura;
+
+    /**
+     * Construye un arreglo en el orden de Eytzinger a partir de un arreglo
+     * ordenado. El arreglo recibido no se modifica.
+     *
+     * @param ordenado el arreglo ordenado de enteros.
+     * @throws IllegalArgumentException si el arreglo es <code>null</code> o no
+     *                                  está ordenado.
+     */
+    public ArregloEytzinger(int[] ordenado) {
+        if (ordenado == null)
+            throw new IllegalArgumentException();
+        for (int i = 1; i < ordenado.length; i++)
+            if (ordenado[i - 1] > ordenado[i])
+                throw new IllegalArgumentException();
+        int n = ordenado.length;
+        arbol = new int[n + 1];
+        indices = new int[n + 1];
+        indices[0] = n;
+        altura = 32 - Integer.numberOfLeadingZeros(n);
+        llena(ordenado, 0, 1);
+    }
+
+    /*
+     * Llena el subárbol con raíz en k con los valores del arreglo ordenado a
+     * partir de i, en inorden, y regresa el siguiente índice sin usar.
+     */
+    private int llena(int[] ordenado, int i, int k) {
+        if (k >= arbol.length)
+            return i;
+        i = llena(ordenado, i, 2 * k);
+        arbol[k] = ordenado[i];
+        indices[k] = i++;
+        return llena(ordenado, i, 2 * k + 1);
+    }
+
+    /**
+     * Regresa el número de elementos en el arreglo.
+     *
+     * @return el número de elementos en el arreglo.
+     */
+    public int getLongitud() {
+        return arbol.length - 1;
+    }
+
+    /*
+     * Regresa el índice ordenado al que llega la búsqueda que terminó en k:
+     * quitamos los pasos a la derecha del final del camino y el último a la
+     * izquierda, y quedamos en el último vértice donde fuimos a la izquierda.
+     */
+    private int indice(int k) {
+        return indices[k >>> (Integer.numberOfTrailingZeros(~k) + 1)];
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado cuyo valor no es menor
+     * que el recibido, o la longitud si todos son menores.
+     *
+     * @param elemento el valor a buscar.
+     * @return el primer índice cuyo valor no es menor que el recibido.
+     */
+    public int cotaInferior(int elemento) {
+        int n = arbol.length - 1;
+        int k = 1;
+        while (k <= n)
+            k = 2 * k + (arbol[k] < elemento ? 1 : 0);
+        return indice(k);
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado cuyo valor es mayor que el
+     * recibido, o la longitud si ninguno es mayor.
+     *
+     * @param elemento el valor a buscar.
+     * @return el primer índice cuyo valor es mayor que el recibido.
+     */
+    public int cotaSuperior(int elemento) {
+        int n = arbol.length - 1;
+        int k = 1;
+        while (k <= n)
+            k = 2 * k + (arbol[k] <= elemento ? 1 : 0);
+        return indice(k);
+    }
+
+    /**
+     * Regresa el índice en el arreglo ordenado del valor recibido, o -1 si no
+     * está. Si el valor aparece varias veces, regresa el índice de la primera.
+     *
+     * @param elemento el valor a buscar.
+     * @return el índice del valor en el arreglo ordenado, o -1 si no está.
+     */
+    public int busca(int elemento) {
+        int n = arbol.length - 1;
+        int k = 1;
+        while (k <= n)
+            k = 2 * k + (arbol[k] < elemento ? 1 : 0);
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && arbol[k] == elemento ? indices[k] : -1;
+    }
+
+    /**
+     * Nos dice si el valor recibido está en el arreglo.
+     *
+     * @param elemento el valor a buscar.
+     * @return <code>true</code> si el valor está en el arreglo,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean contiene(int elemento) {
+        return busca(elemento) != -1;
+    }
+
+    /**
+     * Regresa la {@link #cotaInferior} de cada una de las agujas. Las
+     * búsquedas se hacen por lotes, avanzando un nivel en todas las del lote
+     * antes de bajar al siguiente, para que el procesador espere a la memoria
+     * por varias a la vez.
+     *
+     * @param agujas los valores a buscar.
+     * @return un arreglo con la cota inferior de cada aguja, en el mismo orden.
+     * @throws IllegalArgumentException si <code>agujas</code> es
+     *                                  <code>null</code>.
+     */
+    public int[] cotasInferiores(int[] agujas) {
+        if (agujas == null)
+            throw new IllegalArgumentException();
+        int n = arbol.length - 1;
+        int[] cotas = new int[agujas.length];
+        int[] k = new int[LOTE];
+        for (int ini = 0; ini < agujas.length; ini += LOTE) {
+            int m = Math.min(LOTE, agujas.length - ini);
+            for (int j = 0; j < m; j++)
+                k[j] = 1;
+            for (int nivel = 0; nivel < altura; nivel++)
+                for (int j = 0; j < m; j++)
+                    if (k[j] <= n)
+                        k[j] = 2 * k[j] + (arbol[k[j]] < agujas[ini + j] ? 1 : 0);
+            for (int j = 0; j < m; j++)
+                cotas[ini + j] = indice(k[j]);
+        }
+        return cotas;
+    }
+}
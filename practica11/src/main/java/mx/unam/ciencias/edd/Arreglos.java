@@ -1,12 +1,23 @@
 package mx.unam.ciencias.edd;
 
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Clase para ordenar y buscar arreglos genéricos.
  */
 public class Arreglos {
 
+    /* Tamaño de los rangos que se ordenan con InsertionSort. */
+    private static final int CORTE_INSERCION = 16;
+    /* Tamaño a partir del cual el pivote es la mediana de tres medianas. */
+    private static final int CORTE_NOVENO = 128;
+    /* Tamaño de los rangos que los ordenamientos paralelos ya no dividen. */
+    private static final int UMBRAL_PARALELO = 1 << 13;
+    /* Número de búsquedas que cotasInferiores hace a la vez. */
+    private static final int LOTE_BUSQUEDAS = 16;
+
     /* Constructor privado para evitar instanciación. */
     private Arreglos() {
     }
@@ -25,7 +36,14 @@ public class Arreglos {
     }
 
     /**
-     * Ordena el arreglo recibido usando QuickSort.
+     * Ordena el arreglo recibido usando QuickSort. Es un QuickSort introspectivo:
+     * el pivote es la mediana del primero, el de en medio y el último (o de
+     * tres medianas así, en rangos grandes); los
+     * elementos iguales al pivote se juntan en medio y ya no se vuelven a
+     * tocar; los rangos pequeños se terminan con InsertionSort, y si la
+     * recursión se hace demasiado profunda el rango se ordena con HeapSort. Así
+     * el algoritmo nunca es cuadrático, ni con arreglos ordenados o con muchos
+     * elementos repetidos.
      * 
      * @param <T>        tipo del que puede ser el arreglo.
      * @param arreglo    el arreglo a ordenar.
@@ -36,20 +54,193 @@ public class Arreglos {
     public static <T> void quickSort(T[] arreglo, Comparator<T> comparador, int a, int b) {
         if (b <= a)
             return;
+        int profundidad = 0;
+        for (int n = b - a + 1; n > 1; n >>= 1)
+            profundidad += 2;
+        introSort(arreglo, comparador, a, b, profundidad);
+    }
+
+    /**
+     * Ordena el rango [a, b] del arreglo, recursando en la parte más pequeña e
+     * iterando en la más grande. Cuando se acaba la profundidad, usa HeapSort.
+     * 
+     * @param arreglo     el arreglo a ordenar.
+     * @param comparador  el comparador para ordenar el arreglo.
+     * @param a           índice inferior del rango a ordenar.
+     * @param b           índice superior del rango a ordenar.
+     * @param profundidad cuántos niveles de recursión quedan antes de HeapSort.
+     */
+    private static <T> void introSort(T[] arreglo, Comparator<T> comparador, int a, int b, int profundidad) {
+        while (b - a >= CORTE_INSERCION) {
+            if (profundidad-- == 0) {
+                heapSort(arreglo, comparador, a, b);
+                return;
+            }
+            long partes = particiona(arreglo, comparador, a, b);
+            int menores = (int) (partes >>> 32);
+            int mayores = (int) partes;
+            if (menores - a < b - mayores) {
+                introSort(arreglo, comparador, a, menores - 1, profundidad);
+                a = mayores + 1;
+            } else {
+                introSort(arreglo, comparador, mayores + 1, b, profundidad);
+                b = menores - 1;
+            }
+        }
+        insertionSort(arreglo, comparador, a, b);
+    }
+
+    /**
+     * Parte el rango [a, b] del arreglo en tres: los menores al pivote, los
+     * iguales y los mayores. Los iguales al pivote se guardan primero en los
+     * extremos, y al final se mueven al centro.
+     * 
+     * @param arreglo    el arreglo a partir.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param a          índice inferior del rango a partir.
+     * @param b          índice superior del rango a partir.
+     * @return el índice del primer igual al pivote en los 32 bits altos, y el
+     *         del último en los 32 bajos.
+     */
+    private static <T> long particiona(T[] arreglo, Comparator<T> comparador, int a, int b) {
+        intercambia(arreglo, a, pivote(arreglo, comparador, a, b));
+        T pivote = arreglo[a];
+        /* Los iguales al pivote se guardan en [a, p] y [q, b]. */
         int i = a;
-        int j = b;
-        while (i < j) {
-            if (comparador.compare(arreglo[j], arreglo[a]) > 0)
+        int j = b + 1;
+        int p = a;
+        int q = b + 1;
+        while (true) {
+            while (comparador.compare(arreglo[++i], pivote) < 0)
+                if (i == b)
+                    break;
+            while (comparador.compare(pivote, arreglo[--j]) < 0)
+                if (j == a)
+                    break;
+            if (i == j && comparador.compare(arreglo[i], pivote) == 0)
+                intercambia(arreglo, ++p, i);
+            if (i >= j)
+                break;
+            intercambia(arreglo, i, j);
+            if (comparador.compare(arreglo[i], pivote) == 0)
+                intercambia(arreglo, ++p, i);
+            if (comparador.compare(arreglo[j], pivote) == 0)
+                intercambia(arreglo, --q, j);
+        }
+        i = j + 1;
+        for (int k = a; k <= p; k++)
+            intercambia(arreglo, k, j--);
+        for (int k = b; k >= q; k--)
+            intercambia(arreglo, k, i++);
+        /* [a, j] < pivote, (j, i) = pivote, [i, b] > pivote. */
+        return ((long) (j + 1) << 32) | (i - 1);
+    }
+
+    /**
+     * Regresa el índice del pivote para el rango [a, b]: la mediana del
+     * primero, el de en medio y el último, o en rangos grandes la mediana de
+     * tres de esas medianas, para no caer en arreglos en forma de montaña.
+     * 
+     * @param arreglo    el arreglo.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param a          índice inferior del rango.
+     * @param b          índice superior del rango.
+     * @return el índice del pivote.
+     */
+    private static <T> int pivote(T[] arreglo, Comparator<T> comparador, int a, int b) {
+        int m = a + (b - a) / 2;
+        if (b - a < CORTE_NOVENO)
+            return mediana(arreglo, comparador, a, m, b);
+        int s = (b - a) / 8;
+        return mediana(arreglo, comparador,
+                       mediana(arreglo, comparador, a, a + s, a + 2 * s),
+                       mediana(arreglo, comparador, m - s, m, m + s),
+                       mediana(arreglo, comparador, b - 2 * s, b - s, b));
+    }
+
+    /**
+     * Regresa el índice del elemento que es la mediana de los tres índices
+     * recibidos.
+     * 
+     * @param arreglo    el arreglo.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param x          el primer índice.
+     * @param y          el segundo índice.
+     * @param z          el tercer índice.
+     * @return el índice de la mediana.
+     */
+    private static <T> int mediana(T[] arreglo, Comparator<T> comparador, int x, int y, int z) {
+        if (comparador.compare(arreglo[x], arreglo[y]) < 0) {
+            if (comparador.compare(arreglo[y], arreglo[z]) < 0)
+                return y;
+            return comparador.compare(arreglo[x], arreglo[z]) < 0 ? z : x;
+        }
+        if (comparador.compare(arreglo[z], arreglo[y]) < 0)
+            return y;
+        return comparador.compare(arreglo[z], arreglo[x]) < 0 ? z : x;
+    }
+
+    /**
+     * Ordena el rango [a, b] del arreglo usando InsertionSort.
+     * 
+     * @param arreglo    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param a          índice inferior del rango a ordenar.
+     * @param b          índice superior del rango a ordenar.
+     */
+    private static <T> void insertionSort(T[] arreglo, Comparator<T> comparador, int a, int b) {
+        for (int i = a + 1; i <= b; i++) {
+            T e = arreglo[i];
+            int j = i;
+            while (j > a && comparador.compare(arreglo[j - 1], e) > 0) {
+                arreglo[j] = arreglo[j - 1];
                 j--;
-            else if (comparador.compare(arreglo[i], arreglo[a]) <= 0)
-                i++;
-            else {
-                intercambia(arreglo, i, j);
             }
+            arreglo[j] = e;
+        }
+    }
+
+    /**
+     * Ordena el rango [a, b] del arreglo usando HeapSort, con un montículo de
+     * máximos acomodado a partir del índice a.
+     * 
+     * @param arreglo    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param a          índice inferior del rango a ordenar.
+     * @param b          índice superior del rango a ordenar.
+     */
+    private static <T> void heapSort(T[] arreglo, Comparator<T> comparador, int a, int b) {
+        int n = b - a + 1;
+        for (int i = n / 2 - 1; i >= 0; i--)
+            bajaMaximo(arreglo, comparador, a, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            intercambia(arreglo, a, a + k);
+            bajaMaximo(arreglo, comparador, a, 0, k);
+        }
+    }
+
+    /**
+     * Baja el elemento en la posición i del montículo de máximos de tamaño n
+     * que empieza en el índice a del arreglo.
+     * 
+     * @param arreglo    el arreglo con el montículo.
+     * @param comparador el comparador del montículo.
+     * @param a          el índice donde empieza el montículo.
+     * @param i          la posición en el montículo del elemento a bajar.
+     * @param n          el tamaño del montículo.
+     */
+    private static <T> void bajaMaximo(T[] arreglo, Comparator<T> comparador, int a, int i, int n) {
+        T e = arreglo[a + i];
+        int h;
+        while ((h = 2 * i + 1) < n) {
+            if (h + 1 < n && comparador.compare(arreglo[a + h + 1], arreglo[a + h]) > 0)
+                h++;
+            if (comparador.compare(arreglo[a + h], e) <= 0)
+                break;
+            arreglo[a + i] = arreglo[a + h];
+            i = h;
         }
-        intercambia(arreglo, a, j);
-        quickSort(arreglo, comparador, a, i - 1);
-        quickSort(arreglo, comparador, i + 1, b);
+        arreglo[a + i] = e;
     }
 
     /**
@@ -73,6 +264,329 @@ public class Arreglos {
         quickSort(arreglo, (a, b) -> a.compareTo(b));
     }
 
+    /**
+     * Tarea de fork/join que ordena un rango con QuickSort: lo parte, y ordena
+     * las dos partes en paralelo hasta que son más chicas que el umbral.
+     */
+    private static class TareaQuickSort<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] arreglo;
+        private final Comparator<T> comparador;
+        private final int a;
+        private final int b;
+        private final int profundidad;
+        private final int umbral;
+
+        public TareaQuickSort(T[] arreglo, Comparator<T> comparador, int a, int b, int profundidad, int umbral) {
+            this.arreglo = arreglo;
+            this.comparador = comparador;
+            this.a = a;
+            this.b = b;
+            this.profundidad = profundidad;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected void compute() {
+            if (b - a < umbral || profundidad == 0) {
+                introSort(arreglo, comparador, a, b, profundidad);
+                return;
+            }
+            long partes = particiona(arreglo, comparador, a, b);
+            int menores = (int) (partes >>> 32);
+            int mayores = (int) partes;
+            invokeAll(new TareaQuickSort<T>(arreglo, comparador, a, menores - 1, profundidad - 1, umbral),
+                      new TareaQuickSort<T>(arreglo, comparador, mayores + 1, b, profundidad - 1, umbral));
+        }
+    }
+
+    /**
+     * Ordena el arreglo recibido usando QuickSort en paralelo, en la alberca de
+     * hilos recibida. Los rangos con menos elementos que el umbral se ordenan
+     * de manera secuencial.
+     * 
+     * @param <T>        tipo del que puede ser el arreglo.
+     * @param arreglo    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param umbral     el tamaño a partir del cual un rango se ordena en
+     *                   paralelo.
+     * @param alberca    la alberca de hilos en la que se ordena.
+     * @throws IllegalArgumentException si el umbral no es positivo.
+     */
+    public static <T> void quickSortParalelo(T[] arreglo, Comparator<T> comparador, int umbral, ForkJoinPool alberca) {
+        if (umbral < 1)
+            throw new IllegalArgumentException();
+        int profundidad = 0;
+        for (int n = arreglo.length; n > 1; n >>= 1)
+            profundidad += 2;
+        if (arreglo.length > 1)
+            alberca.invoke(new TareaQuickSort<T>(arreglo, comparador, 0, arreglo.length - 1, profundidad, umbral));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando QuickSort en paralelo, en la alberca
+     * común de hilos.
+     * 
+     * @param <T>        tipo del que puede ser el arreglo.
+     * @param arreglo    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param umbral     el tamaño a partir del cual un rango se ordena en
+     *                   paralelo.
+     * @throws IllegalArgumentException si el umbral no es positivo.
+     */
+    public static <T> void quickSortParalelo(T[] arreglo, Comparator<T> comparador, int umbral) {
+        quickSortParalelo(arreglo, comparador, umbral, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ordena el arreglo recibido usando QuickSort en paralelo.
+     * 
+     * @param <T>        tipo del que puede ser el arreglo.
+     * @param arreglo    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    public static <T> void quickSortParalelo(T[] arreglo, Comparator<T> comparador) {
+        quickSortParalelo(arreglo, comparador, UMBRAL_PARALELO);
+    }
+
+    /**
+     * Ordena el arreglo recibido usando QuickSort en paralelo.
+     * 
+     * @param <T>     tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void quickSortParalelo(T[] arreglo) {
+        quickSortParalelo(arreglo, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Ordena el rango [a, b) de destino usando MergeSort. El rango de fuente
+     * debe tener los mismos elementos, y se usa como auxiliar: cada nivel de
+     * la recursión mezcla de un arreglo al otro, así que no hay que copiar.
+     * 
+     * @param fuente     el arreglo auxiliar.
+     * @param destino    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param a          índice inferior del rango a ordenar.
+     * @param b          índice superior, exclusivo, del rango a ordenar.
+     */
+    private static <T> void mergeSort(T[] fuente, T[] destino, Comparator<T> comparador, int a, int b) {
+        if (b - a <= CORTE_INSERCION) {
+            insertionSort(destino, comparador, a, b - 1);
+            return;
+        }
+        int m = (a + b) >>> 1;
+        mergeSort(destino, fuente, comparador, a, m);
+        mergeSort(destino, fuente, comparador, m, b);
+        if (comparador.compare(fuente[m - 1], fuente[m]) <= 0)
+            System.arraycopy(fuente, a, destino, a, b - a);
+        else
+            mezcla(fuente, a, m, m, b, destino, a, comparador);
+    }
+
+    /**
+     * Mezcla de manera estable los rangos [a1, b1) y [a2, b2) de fuente en
+     * destino, a partir del índice d; en empates gana el primer rango.
+     * 
+     * @param fuente     el arreglo con los rangos ordenados.
+     * @param a1         índice inferior del primer rango.
+     * @param b1         índice superior, exclusivo, del primer rango.
+     * @param a2         índice inferior del segundo rango.
+     * @param b2         índice superior, exclusivo, del segundo rango.
+     * @param destino    el arreglo donde se mezcla.
+     * @param d          el índice de destino donde empieza la mezcla.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    private static <T> void mezcla(T[] fuente, int a1, int b1, int a2, int b2, T[] destino, int d, Comparator<T> comparador) {
+        while (a1 < b1 && a2 < b2) {
+            if (comparador.compare(fuente[a1], fuente[a2]) <= 0)
+                destino[d++] = fuente[a1++];
+            else
+                destino[d++] = fuente[a2++];
+        }
+        System.arraycopy(fuente, a1, destino, d, b1 - a1);
+        System.arraycopy(fuente, a2, destino, d + b1 - a1, b2 - a2);
+    }
+
+    /**
+     * Regresa el primer índice en [a, b) del arreglo ordenado cuyo elemento es
+     * mayor que el recibido, o igual si <code>igual</code> es
+     * <code>true</code>.
+     * 
+     * @param arreglo    el arreglo ordenado en el rango.
+     * @param a          índice inferior del rango.
+     * @param b          índice superior, exclusivo, del rango.
+     * @param elemento   el elemento a buscar.
+     * @param igual      si el índice buscado puede tener un elemento igual.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el primer índice en el rango que no va antes del elemento.
+     */
+    private static <T> int corte(T[] arreglo, int a, int b, T elemento, boolean igual, Comparator<T> comparador) {
+        while (a < b) {
+            int m = (a + b) >>> 1;
+            int c = comparador.compare(arreglo[m], elemento);
+            if (c < 0 || (c == 0 && !igual))
+                a = m + 1;
+            else
+                b = m;
+        }
+        return a;
+    }
+
+    /**
+     * Tarea de fork/join que mezcla dos rangos ordenados: parte el más grande
+     * por la mitad, busca el corte correspondiente en el otro, y mezcla las dos
+     * mitades en paralelo hasta que son más chicas que el umbral.
+     */
+    private static class TareaMezcla<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] fuente;
+        private final int a1;
+        private final int b1;
+        private final int a2;
+        private final int b2;
+        private final T[] destino;
+        private final int d;
+        private final Comparator<T> comparador;
+        private final int umbral;
+
+        public TareaMezcla(T[] fuente, int a1, int b1, int a2, int b2, T[] destino, int d, Comparator<T> comparador, int umbral) {
+            this.fuente = fuente;
+            this.a1 = a1;
+            this.b1 = b1;
+            this.a2 = a2;
+            this.b2 = b2;
+            this.destino = destino;
+            this.d = d;
+            this.comparador = comparador;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected void compute() {
+            if ((b1 - a1) + (b2 - a2) < umbral) {
+                mezcla(fuente, a1, b1, a2, b2, destino, d, comparador);
+                return;
+            }
+            int m1, m2;
+            if (b1 - a1 >= b2 - a2) {
+                m1 = (a1 + b1) >>> 1;
+                m2 = corte(fuente, a2, b2, fuente[m1], true, comparador);
+            } else {
+                m2 = (a2 + b2) >>> 1;
+                m1 = corte(fuente, a1, b1, fuente[m2], false, comparador);
+            }
+            int dm = d + (m1 - a1) + (m2 - a2);
+            invokeAll(new TareaMezcla<T>(fuente, a1, m1, a2, m2, destino, d, comparador, umbral),
+                      new TareaMezcla<T>(fuente, m1, b1, m2, b2, destino, dm, comparador, umbral));
+        }
+    }
+
+    /**
+     * Tarea de fork/join que ordena un rango con MergeSort: ordena las dos
+     * mitades en paralelo y luego las mezcla también en paralelo.
+     */
+    private static class TareaMergeSort<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] fuente;
+        private final T[] destino;
+        private final Comparator<T> comparador;
+        private final int a;
+        private final int b;
+        private final int umbral;
+
+        public TareaMergeSort(T[] fuente, T[] destino, Comparator<T> comparador, int a, int b, int umbral) {
+            this.fuente = fuente;
+            this.destino = destino;
+            this.comparador = comparador;
+            this.a = a;
+            this.b = b;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected void compute() {
+            if (b - a < umbral) {
+                mergeSort(fuente, destino, comparador, a, b);
+                return;
+            }
+            int m = (a + b) >>> 1;
+            invokeAll(new TareaMergeSort<T>(destino, fuente, comparador, a, m, umbral),
+                      new TareaMergeSort<T>(destino, fuente, comparador, m, b, umbral));
+            if (comparador.compare(fuente[m - 1], fuente[m]) <= 0)
+                System.arraycopy(fuente, a, destino, a, b - a);
+            else
+                new TareaMezcla<T>(fuente, a, m, m, b, destino, a, comparador, umbral).compute();
+        }
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo, en la alberca de
+     * hilos recibida. El ordenamiento es estable, y usa un arreglo auxiliar del
+     * mismo tamaño. Los rangos con menos elementos que el umbral se ordenan y
+     * se mezclan de manera secuencial.
+     * 
+     * @param <T>        tipo del que puede ser el arreglo.
+     * @param arreglo    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param umbral     el tamaño a partir del cual un rango se ordena en
+     *                   paralelo.
+     * @param alberca    la alberca de hilos en la que se ordena.
+     * @throws IllegalArgumentException si el umbral no es positivo.
+     */
+    public static <T> void mergeSortParalelo(T[] arreglo, Comparator<T> comparador, int umbral, ForkJoinPool alberca) {
+        if (umbral < 1)
+            throw new IllegalArgumentException();
+        /* Un rango de uno o dos elementos no se puede partir en dos más chicos. */
+        umbral = Math.max(umbral, 3);
+        if (arreglo.length > 1)
+            alberca.invoke(new TareaMergeSort<T>(arreglo.clone(), arreglo, comparador, 0, arreglo.length, umbral));
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo, en la alberca
+     * común de hilos. El ordenamiento es estable.
+     * 
+     * @param <T>        tipo del que puede ser el arreglo.
+     * @param arreglo    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     * @param umbral     el tamaño a partir del cual un rango se ordena en
+     *                   paralelo.
+     * @throws IllegalArgumentException si el umbral no es positivo.
+     */
+    public static <T> void mergeSortParalelo(T[] arreglo, Comparator<T> comparador, int umbral) {
+        mergeSortParalelo(arreglo, comparador, umbral, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo. El ordenamiento
+     * es estable.
+     * 
+     * @param <T>        tipo del que puede ser el arreglo.
+     * @param arreglo    el arreglo a ordenar.
+     * @param comparador el comparador para ordenar el arreglo.
+     */
+    public static <T> void mergeSortParalelo(T[] arreglo, Comparator<T> comparador) {
+        mergeSortParalelo(arreglo, comparador, UMBRAL_PARALELO);
+    }
+
+    /**
+     * Ordena el arreglo recibido usando MergeSort en paralelo. El ordenamiento
+     * es estable.
+     * 
+     * @param <T>     tipo del que puede ser el arreglo.
+     * @param arreglo un arreglo cuyos elementos son comparables.
+     */
+    public static <T extends Comparable<T>> void mergeSortParalelo(T[] arreglo) {
+        mergeSortParalelo(arreglo, (a, b) -> a.compareTo(b));
+    }
+
     /**
      * Ordena el arreglo recibido usando SelectionSort.
      * 
@@ -101,9 +615,86 @@ public class Arreglos {
         selectionSort(arreglo, (a, b) -> a.compareTo(b));
     }
 
+    /**
+     * Regresa el primer índice del arreglo ordenado cuyo elemento no es menor
+     * que el recibido, o la longitud del arreglo si todos son menores. La
+     * búsqueda compara una sola vez por iteración y siempre hace el mismo
+     * número de iteraciones; la única decisión que depende de los datos es a
+     * qué mitad moverse, y el compilador puede hacerla sin saltos.
+     * 
+     * @param <T>        tipo del que puede ser el arreglo.
+     * @param arreglo    el arreglo ordenado dónde buscar.
+     * @param elemento   el elemento a buscar.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el primer índice cuyo elemento no es menor que el recibido.
+     */
+    public static <T> int cotaInferior(T[] arreglo, T elemento, Comparator<T> comparador) {
+        int n = arreglo.length;
+        if (n == 0)
+            return 0;
+        int base = 0;
+        while (n > 1) {
+            int mitad = n >>> 1;
+            base = comparador.compare(arreglo[base + mitad], elemento) < 0 ? base + mitad : base;
+            n -= mitad;
+        }
+        return comparador.compare(arreglo[base], elemento) < 0 ? base + 1 : base;
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado cuyo elemento no es menor
+     * que el recibido, o la longitud del arreglo si todos son menores.
+     * 
+     * @param <T>      tipo del que puede ser el arreglo.
+     * @param arreglo  un arreglo ordenado cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el primer índice cuyo elemento no es menor que el recibido.
+     */
+    public static <T extends Comparable<T>> int cotaInferior(T[] arreglo, T elemento) {
+        return cotaInferior(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado cuyo elemento es mayor que
+     * el recibido, o la longitud del arreglo si ninguno es mayor. Busca igual
+     * que {@link #cotaInferior(Object[],Object,Comparator)}.
+     * 
+     * @param <T>        tipo del que puede ser el arreglo.
+     * @param arreglo    el arreglo ordenado dónde buscar.
+     * @param elemento   el elemento a buscar.
+     * @param comparador el comparador con el que está ordenado el arreglo.
+     * @return el primer índice cuyo elemento es mayor que el recibido.
+     */
+    public static <T> int cotaSuperior(T[] arreglo, T elemento, Comparator<T> comparador) {
+        int n = arreglo.length;
+        if (n == 0)
+            return 0;
+        int base = 0;
+        while (n > 1) {
+            int mitad = n >>> 1;
+            base = comparador.compare(arreglo[base + mitad], elemento) <= 0 ? base + mitad : base;
+            n -= mitad;
+        }
+        return comparador.compare(arreglo[base], elemento) <= 0 ? base + 1 : base;
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado cuyo elemento es mayor que
+     * el recibido, o la longitud del arreglo si ninguno es mayor.
+     * 
+     * @param <T>      tipo del que puede ser el arreglo.
+     * @param arreglo  un arreglo ordenado cuyos elementos son comparables.
+     * @param elemento el elemento a buscar.
+     * @return el primer índice cuyo elemento es mayor que el recibido.
+     */
+    public static <T extends Comparable<T>> int cotaSuperior(T[] arreglo, T elemento) {
+        return cotaSuperior(arreglo, elemento, (a, b) -> a.compareTo(b));
+    }
+
     /**
      * Hace una búsqueda binaria del elemento en el arreglo. Regresa el índice del
-     * elemento en el arreglo, o -1 si no se encuentra.
+     * elemento en el arreglo, o -1 si no se encuentra. Si el elemento aparece
+     * varias veces, regresa el índice de la primera.
      * 
      * @param <T>        tipo del que puede ser el arreglo.
      * @param arreglo    el arreglo dónde buscar.
@@ -112,17 +703,9 @@ public class Arreglos {
      * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
      */
     public static <T> int busquedaBinaria(T[] arreglo, T elemento, Comparator<T> comparador) {
-        int inicio = 0;
-        int fin = arreglo.length - 1;
-        while (inicio <= fin) {
-            int m = (fin + inicio) / 2;
-            if (comparador.compare(arreglo[m], elemento) < 0)
-                inicio = m + 1;
-            else if (comparador.compare(arreglo[m], elemento) > 0)
-                fin = m - 1;
-            else
-                return m;
-        }
+        int i = cotaInferior(arreglo, elemento, comparador);
+        if (i < arreglo.length && comparador.compare(arreglo[i], elemento) == 0)
+            return i;
         return -1;
     }
 
@@ -138,4 +721,983 @@ public class Arreglos {
     public static <T extends Comparable<T>> int busquedaBinaria(T[] arreglo, T elemento) {
         return busquedaBinaria(arreglo, elemento, (a, b) -> a.compareTo(b));
     }
+
+    /**
+     * Intercambia los indices recibidos de un arreglo de ints.
+     * 
+     * @param arreglo el arreglo en el que estamos ordenando.
+     * @param a       índice a intercambiar.
+     * @param b       índice a intercambiar.
+     */
+    private static void intercambia(int[] arreglo, int a, int b) {
+        int t = arreglo[a];
+        arreglo[a] = arreglo[b];
+        arreglo[b] = t;
+    }
+
+    /**
+     * Ordena el rango recibido de un arreglo de ints usando el mismo
+     * QuickSort introspectivo que {@link #quickSort(Object[],Comparator,int,int)},
+     * sin envolver los valores en objetos.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rengo a ordenar.
+     */
+    public static void quickSort(int[] arreglo, int a, int b) {
+        if (b <= a)
+            return;
+        int profundidad = 0;
+        for (int n = b - a + 1; n > 1; n >>= 1)
+            profundidad += 2;
+        introSort(arreglo, a, b, profundidad);
+    }
+
+    /**
+     * Ordena el arreglo de ints recibido usando QuickSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(int[] arreglo) {
+        quickSort(arreglo, 0, arreglo.length - 1);
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de ints, recursando en la parte más
+     * pequeña e iterando en la más grande.
+     * 
+     * @param arreglo     el arreglo a ordenar.
+     * @param a           índice inferior del rango a ordenar.
+     * @param b           índice superior del rango a ordenar.
+     * @param profundidad cuántos niveles de recursión quedan antes de HeapSort.
+     */
+    private static void introSort(int[] arreglo, int a, int b, int profundidad) {
+        while (b - a >= CORTE_INSERCION) {
+            if (profundidad-- == 0) {
+                heapSort(arreglo, a, b);
+                return;
+            }
+            long partes = particiona(arreglo, a, b);
+            int menores = (int) (partes >>> 32);
+            int mayores = (int) partes;
+            if (menores - a < b - mayores) {
+                introSort(arreglo, a, menores - 1, profundidad);
+                a = mayores + 1;
+            } else {
+                introSort(arreglo, mayores + 1, b, profundidad);
+                b = menores - 1;
+            }
+        }
+        insertionSort(arreglo, a, b);
+    }
+
+    /**
+     * Parte el rango [a, b] de un arreglo de ints en los menores al pivote,
+     * los iguales y los mayores.
+     * 
+     * @param arreglo el arreglo a partir.
+     * @param a       índice inferior del rango a partir.
+     * @param b       índice superior del rango a partir.
+     * @return el índice del primer igual al pivote en los 32 bits altos, y el
+     *         del último en los 32 bajos.
+     */
+    private static long particiona(int[] arreglo, int a, int b) {
+        intercambia(arreglo, a, pivote(arreglo, a, b));
+        int pivote = arreglo[a];
+        /* Los iguales al pivote se guardan en [a, p] y [q, b]. */
+        int i = a;
+        int j = b + 1;
+        int p = a;
+        int q = b + 1;
+        while (true) {
+            while (Integer.compare(arreglo[++i], pivote) < 0)
+                if (i == b)
+                    break;
+            while (Integer.compare(pivote, arreglo[--j]) < 0)
+                if (j == a)
+                    break;
+            if (i == j && Integer.compare(arreglo[i], pivote) == 0)
+                intercambia(arreglo, ++p, i);
+            if (i >= j)
+                break;
+            intercambia(arreglo, i, j);
+            if (Integer.compare(arreglo[i], pivote) == 0)
+                intercambia(arreglo, ++p, i);
+            if (Integer.compare(arreglo[j], pivote) == 0)
+                intercambia(arreglo, --q, j);
+        }
+        i = j + 1;
+        for (int k = a; k <= p; k++)
+            intercambia(arreglo, k, j--);
+        for (int k = b; k >= q; k--)
+            intercambia(arreglo, k, i++);
+        /* [a, j] < pivote, (j, i) = pivote, [i, b] > pivote. */
+        return ((long) (j + 1) << 32) | (i - 1);
+    }
+
+    /**
+     * Regresa el índice del pivote para el rango [a, b] de un arreglo de
+     * ints.
+     * 
+     * @param arreglo el arreglo.
+     * @param a       índice inferior del rango.
+     * @param b       índice superior del rango.
+     * @return el índice del pivote.
+     */
+    private static int pivote(int[] arreglo, int a, int b) {
+        int m = a + (b - a) / 2;
+        if (b - a < CORTE_NOVENO)
+            return mediana(arreglo, a, m, b);
+        int s = (b - a) / 8;
+        return mediana(arreglo,
+                       mediana(arreglo, a, a + s, a + 2 * s),
+                       mediana(arreglo, m - s, m, m + s),
+                       mediana(arreglo, b - 2 * s, b - s, b));
+    }
+
+    /**
+     * Regresa el índice del elemento que es la mediana de los tres índices
+     * recibidos de un arreglo de ints.
+     * 
+     * @param arreglo el arreglo.
+     * @param x       el primer índice.
+     * @param y       el segundo índice.
+     * @param z       el tercer índice.
+     * @return el índice de la mediana.
+     */
+    private static int mediana(int[] arreglo, int x, int y, int z) {
+        if (Integer.compare(arreglo[x], arreglo[y]) < 0) {
+            if (Integer.compare(arreglo[y], arreglo[z]) < 0)
+                return y;
+            return Integer.compare(arreglo[x], arreglo[z]) < 0 ? z : x;
+        }
+        if (Integer.compare(arreglo[z], arreglo[y]) < 0)
+            return y;
+        return Integer.compare(arreglo[z], arreglo[x]) < 0 ? z : x;
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de ints usando InsertionSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rango a ordenar.
+     */
+    private static void insertionSort(int[] arreglo, int a, int b) {
+        for (int i = a + 1; i <= b; i++) {
+            int e = arreglo[i];
+            int j = i;
+            while (j > a && Integer.compare(arreglo[j - 1], e) > 0) {
+                arreglo[j] = arreglo[j - 1];
+                j--;
+            }
+            arreglo[j] = e;
+        }
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de ints usando HeapSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rango a ordenar.
+     */
+    private static void heapSort(int[] arreglo, int a, int b) {
+        int n = b - a + 1;
+        for (int i = n / 2 - 1; i >= 0; i--)
+            bajaMaximo(arreglo, a, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            intercambia(arreglo, a, a + k);
+            bajaMaximo(arreglo, a, 0, k);
+        }
+    }
+
+    /**
+     * Baja el elemento en la posición i del montículo de máximos de tamaño n
+     * que empieza en el índice a de un arreglo de ints.
+     * 
+     * @param arreglo el arreglo con el montículo.
+     * @param a       el índice donde empieza el montículo.
+     * @param i       la posición en el montículo del elemento a bajar.
+     * @param n       el tamaño del montículo.
+     */
+    private static void bajaMaximo(int[] arreglo, int a, int i, int n) {
+        int e = arreglo[a + i];
+        int h;
+        while ((h = 2 * i + 1) < n) {
+            if (h + 1 < n && Integer.compare(arreglo[a + h + 1], arreglo[a + h]) > 0)
+                h++;
+            if (Integer.compare(arreglo[a + h], e) <= 0)
+                break;
+            arreglo[a + i] = arreglo[a + h];
+            i = h;
+        }
+        arreglo[a + i] = e;
+    }
+
+    /**
+     * Ordena el arreglo de ints recibido usando SelectionSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void selectionSort(int[] arreglo) {
+        for (int i = 0; i < arreglo.length; i++) {
+            int m = i;
+            for (int j = i + 1; j < arreglo.length; j++) {
+                if (Integer.compare(arreglo[j], arreglo[m]) < 0)
+                    m = j;
+            }
+            intercambia(arreglo, i, m);
+        }
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado de ints cuyo valor no es
+     * menor que el recibido, o la longitud del arreglo si todos son menores.
+     * Busca igual que {@link #cotaInferior(Object[],Object,Comparator)}.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el valor a buscar.
+     * @return el primer índice cuyo valor no es menor que el recibido.
+     */
+    public static int cotaInferior(int[] arreglo, int elemento) {
+        int n = arreglo.length;
+        if (n == 0)
+            return 0;
+        int base = 0;
+        while (n > 1) {
+            int mitad = n >>> 1;
+            base = Integer.compare(arreglo[base + mitad], elemento) < 0 ? base + mitad : base;
+            n -= mitad;
+        }
+        return Integer.compare(arreglo[base], elemento) < 0 ? base + 1 : base;
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado de ints cuyo valor es
+     * mayor que el recibido, o la longitud del arreglo si ninguno es mayor.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el valor a buscar.
+     * @return el primer índice cuyo valor es mayor que el recibido.
+     */
+    public static int cotaSuperior(int[] arreglo, int elemento) {
+        int n = arreglo.length;
+        if (n == 0)
+            return 0;
+        int base = 0;
+        while (n > 1) {
+            int mitad = n >>> 1;
+            base = Integer.compare(arreglo[base + mitad], elemento) <= 0 ? base + mitad : base;
+            n -= mitad;
+        }
+        return Integer.compare(arreglo[base], elemento) <= 0 ? base + 1 : base;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo de ints. Regresa el
+     * índice del elemento en el arreglo, o -1 si no se encuentra.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(int[] arreglo, int elemento) {
+        int i = cotaInferior(arreglo, elemento);
+        if (i < arreglo.length && Integer.compare(arreglo[i], elemento) == 0)
+            return i;
+        return -1;
+    }
+
+    /**
+     * Intercambia los indices recibidos de un arreglo de longs.
+     * 
+     * @param arreglo el arreglo en el que estamos ordenando.
+     * @param a       índice a intercambiar.
+     * @param b       índice a intercambiar.
+     */
+    private static void intercambia(long[] arreglo, int a, int b) {
+        long t = arreglo[a];
+        arreglo[a] = arreglo[b];
+        arreglo[b] = t;
+    }
+
+    /**
+     * Ordena el rango recibido de un arreglo de longs usando el mismo
+     * QuickSort introspectivo que {@link #quickSort(Object[],Comparator,int,int)},
+     * sin envolver los valores en objetos.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rengo a ordenar.
+     */
+    public static void quickSort(long[] arreglo, int a, int b) {
+        if (b <= a)
+            return;
+        int profundidad = 0;
+        for (int n = b - a + 1; n > 1; n >>= 1)
+            profundidad += 2;
+        introSort(arreglo, a, b, profundidad);
+    }
+
+    /**
+     * Ordena el arreglo de longs recibido usando QuickSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(long[] arreglo) {
+        quickSort(arreglo, 0, arreglo.length - 1);
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de longs, recursando en la parte más
+     * pequeña e iterando en la más grande.
+     * 
+     * @param arreglo     el arreglo a ordenar.
+     * @param a           índice inferior del rango a ordenar.
+     * @param b           índice superior del rango a ordenar.
+     * @param profundidad cuántos niveles de recursión quedan antes de HeapSort.
+     */
+    private static void introSort(long[] arreglo, int a, int b, int profundidad) {
+        while (b - a >= CORTE_INSERCION) {
+            if (profundidad-- == 0) {
+                heapSort(arreglo, a, b);
+                return;
+            }
+            long partes = particiona(arreglo, a, b);
+            int menores = (int) (partes >>> 32);
+            int mayores = (int) partes;
+            if (menores - a < b - mayores) {
+                introSort(arreglo, a, menores - 1, profundidad);
+                a = mayores + 1;
+            } else {
+                introSort(arreglo, mayores + 1, b, profundidad);
+                b = menores - 1;
+            }
+        }
+        insertionSort(arreglo, a, b);
+    }
+
+    /**
+     * Parte el rango [a, b] de un arreglo de longs en los menores al pivote,
+     * los iguales y los mayores.
+     * 
+     * @param arreglo el arreglo a partir.
+     * @param a       índice inferior del rango a partir.
+     * @param b       índice superior del rango a partir.
+     * @return el índice del primer igual al pivote en los 32 bits altos, y el
+     *         del último en los 32 bajos.
+     */
+    private static long particiona(long[] arreglo, int a, int b) {
+        intercambia(arreglo, a, pivote(arreglo, a, b));
+        long pivote = arreglo[a];
+        /* Los iguales al pivote se guardan en [a, p] y [q, b]. */
+        int i = a;
+        int j = b + 1;
+        int p = a;
+        int q = b + 1;
+        while (true) {
+            while (Long.compare(arreglo[++i], pivote) < 0)
+                if (i == b)
+                    break;
+            while (Long.compare(pivote, arreglo[--j]) < 0)
+                if (j == a)
+                    break;
+            if (i == j && Long.compare(arreglo[i], pivote) == 0)
+                intercambia(arreglo, ++p, i);
+            if (i >= j)
+                break;
+            intercambia(arreglo, i, j);
+            if (Long.compare(arreglo[i], pivote) == 0)
+                intercambia(arreglo, ++p, i);
+            if (Long.compare(arreglo[j], pivote) == 0)
+                intercambia(arreglo, --q, j);
+        }
+        i = j + 1;
+        for (int k = a; k <= p; k++)
+            intercambia(arreglo, k, j--);
+        for (int k = b; k >= q; k--)
+            intercambia(arreglo, k, i++);
+        /* [a, j] < pivote, (j, i) = pivote, [i, b] > pivote. */
+        return ((long) (j + 1) << 32) | (i - 1);
+    }
+
+    /**
+     * Regresa el índice del pivote para el rango [a, b] de un arreglo de
+     * longs.
+     * 
+     * @param arreglo el arreglo.
+     * @param a       índice inferior del rango.
+     * @param b       índice superior del rango.
+     * @return el índice del pivote.
+     */
+    private static int pivote(long[] arreglo, int a, int b) {
+        int m = a + (b - a) / 2;
+        if (b - a < CORTE_NOVENO)
+            return mediana(arreglo, a, m, b);
+        int s = (b - a) / 8;
+        return mediana(arreglo,
+                       mediana(arreglo, a, a + s, a + 2 * s),
+                       mediana(arreglo, m - s, m, m + s),
+                       mediana(arreglo, b - 2 * s, b - s, b));
+    }
+
+    /**
+     * Regresa el índice del elemento que es la mediana de los tres índices
+     * recibidos de un arreglo de longs.
+     * 
+     * @param arreglo el arreglo.
+     * @param x       el primer índice.
+     * @param y       el segundo índice.
+     * @param z       el tercer índice.
+     * @return el índice de la mediana.
+     */
+    private static int mediana(long[] arreglo, int x, int y, int z) {
+        if (Long.compare(arreglo[x], arreglo[y]) < 0) {
+            if (Long.compare(arreglo[y], arreglo[z]) < 0)
+                return y;
+            return Long.compare(arreglo[x], arreglo[z]) < 0 ? z : x;
+        }
+        if (Long.compare(arreglo[z], arreglo[y]) < 0)
+            return y;
+        return Long.compare(arreglo[z], arreglo[x]) < 0 ? z : x;
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de longs usando InsertionSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rango a ordenar.
+     */
+    private static void insertionSort(long[] arreglo, int a, int b) {
+        for (int i = a + 1; i <= b; i++) {
+            long e = arreglo[i];
+            int j = i;
+            while (j > a && Long.compare(arreglo[j - 1], e) > 0) {
+                arreglo[j] = arreglo[j - 1];
+                j--;
+            }
+            arreglo[j] = e;
+        }
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de longs usando HeapSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rango a ordenar.
+     */
+    private static void heapSort(long[] arreglo, int a, int b) {
+        int n = b - a + 1;
+        for (int i = n / 2 - 1; i >= 0; i--)
+            bajaMaximo(arreglo, a, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            intercambia(arreglo, a, a + k);
+            bajaMaximo(arreglo, a, 0, k);
+        }
+    }
+
+    /**
+     * Baja el elemento en la posición i del montículo de máximos de tamaño n
+     * que empieza en el índice a de un arreglo de longs.
+     * 
+     * @param arreglo el arreglo con el montículo.
+     * @param a       el índice donde empieza el montículo.
+     * @param i       la posición en el montículo del elemento a bajar.
+     * @param n       el tamaño del montículo.
+     */
+    private static void bajaMaximo(long[] arreglo, int a, int i, int n) {
+        long e = arreglo[a + i];
+        int h;
+        while ((h = 2 * i + 1) < n) {
+            if (h + 1 < n && Long.compare(arreglo[a + h + 1], arreglo[a + h]) > 0)
+                h++;
+            if (Long.compare(arreglo[a + h], e) <= 0)
+                break;
+            arreglo[a + i] = arreglo[a + h];
+            i = h;
+        }
+        arreglo[a + i] = e;
+    }
+
+    /**
+     * Ordena el arreglo de longs recibido usando SelectionSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void selectionSort(long[] arreglo) {
+        for (int i = 0; i < arreglo.length; i++) {
+            int m = i;
+            for (int j = i + 1; j < arreglo.length; j++) {
+                if (Long.compare(arreglo[j], arreglo[m]) < 0)
+                    m = j;
+            }
+            intercambia(arreglo, i, m);
+        }
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado de longs cuyo valor no es
+     * menor que el recibido, o la longitud del arreglo si todos son menores.
+     * Busca igual que {@link #cotaInferior(Object[],Object,Comparator)}.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el valor a buscar.
+     * @return el primer índice cuyo valor no es menor que el recibido.
+     */
+    public static int cotaInferior(long[] arreglo, long elemento) {
+        int n = arreglo.length;
+        if (n == 0)
+            return 0;
+        int base = 0;
+        while (n > 1) {
+            int mitad = n >>> 1;
+            base = Long.compare(arreglo[base + mitad], elemento) < 0 ? base + mitad : base;
+            n -= mitad;
+        }
+        return Long.compare(arreglo[base], elemento) < 0 ? base + 1 : base;
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado de longs cuyo valor es
+     * mayor que el recibido, o la longitud del arreglo si ninguno es mayor.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el valor a buscar.
+     * @return el primer índice cuyo valor es mayor que el recibido.
+     */
+    public static int cotaSuperior(long[] arreglo, long elemento) {
+        int n = arreglo.length;
+        if (n == 0)
+            return 0;
+        int base = 0;
+        while (n > 1) {
+            int mitad = n >>> 1;
+            base = Long.compare(arreglo[base + mitad], elemento) <= 0 ? base + mitad : base;
+            n -= mitad;
+        }
+        return Long.compare(arreglo[base], elemento) <= 0 ? base + 1 : base;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo de longs. Regresa el
+     * índice del elemento en el arreglo, o -1 si no se encuentra.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(long[] arreglo, long elemento) {
+        int i = cotaInferior(arreglo, elemento);
+        if (i < arreglo.length && Long.compare(arreglo[i], elemento) == 0)
+            return i;
+        return -1;
+    }
+
+    /**
+     * Intercambia los indices recibidos de un arreglo de doubles.
+     * 
+     * @param arreglo el arreglo en el que estamos ordenando.
+     * @param a       índice a intercambiar.
+     * @param b       índice a intercambiar.
+     */
+    private static void intercambia(double[] arreglo, int a, int b) {
+        double t = arreglo[a];
+        arreglo[a] = arreglo[b];
+        arreglo[b] = t;
+    }
+
+    /**
+     * Ordena el rango recibido de un arreglo de doubles usando el mismo
+     * QuickSort introspectivo que {@link #quickSort(Object[],Comparator,int,int)},
+     * sin envolver los valores en objetos. Los valores se
+     * comparan con {@link Double#compare}, así que <code>-0.0</code> queda
+     * antes de <code>0.0</code> y los <code>NaN</code> quedan al final, como
+     * en {@link java.util.Arrays#sort(double[])}.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rengo a ordenar.
+     */
+    public static void quickSort(double[] arreglo, int a, int b) {
+        if (b <= a)
+            return;
+        int profundidad = 0;
+        for (int n = b - a + 1; n > 1; n >>= 1)
+            profundidad += 2;
+        introSort(arreglo, a, b, profundidad);
+    }
+
+    /**
+     * Ordena el arreglo de doubles recibido usando QuickSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void quickSort(double[] arreglo) {
+        quickSort(arreglo, 0, arreglo.length - 1);
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de doubles, recursando en la parte más
+     * pequeña e iterando en la más grande.
+     * 
+     * @param arreglo     el arreglo a ordenar.
+     * @param a           índice inferior del rango a ordenar.
+     * @param b           índice superior del rango a ordenar.
+     * @param profundidad cuántos niveles de recursión quedan antes de HeapSort.
+     */
+    private static void introSort(double[] arreglo, int a, int b, int profundidad) {
+        while (b - a >= CORTE_INSERCION) {
+            if (profundidad-- == 0) {
+                heapSort(arreglo, a, b);
+                return;
+            }
+            long partes = particiona(arreglo, a, b);
+            int menores = (int) (partes >>> 32);
+            int mayores = (int) partes;
+            if (menores - a < b - mayores) {
+                introSort(arreglo, a, menores - 1, profundidad);
+                a = mayores + 1;
+            } else {
+                introSort(arreglo, mayores + 1, b, profundidad);
+                b = menores - 1;
+            }
+        }
+        insertionSort(arreglo, a, b);
+    }
+
+    /**
+     * Parte el rango [a, b] de un arreglo de doubles en los menores al pivote,
+     * los iguales y los mayores.
+     * 
+     * @param arreglo el arreglo a partir.
+     * @param a       índice inferior del rango a partir.
+     * @param b       índice superior del rango a partir.
+     * @return el índice del primer igual al pivote en los 32 bits altos, y el
+     *         del último en los 32 bajos.
+     */
+    private static long particiona(double[] arreglo, int a, int b) {
+        intercambia(arreglo, a, pivote(arreglo, a, b));
+        double pivote = arreglo[a];
+        /* Los iguales al pivote se guardan en [a, p] y [q, b]. */
+        int i = a;
+        int j = b + 1;
+        int p = a;
+        int q = b + 1;
+        while (true) {
+            while (Double.compare(arreglo[++i], pivote) < 0)
+                if (i == b)
+                    break;
+            while (Double.compare(pivote, arreglo[--j]) < 0)
+                if (j == a)
+                    break;
+            if (i == j && Double.compare(arreglo[i], pivote) == 0)
+                intercambia(arreglo, ++p, i);
+            if (i >= j)
+                break;
+            intercambia(arreglo, i, j);
+            if (Double.compare(arreglo[i], pivote) == 0)
+                intercambia(arreglo, ++p, i);
+            if (Double.compare(arreglo[j], pivote) == 0)
+                intercambia(arreglo, --q, j);
+        }
+        i = j + 1;
+        for (int k = a; k <= p; k++)
+            intercambia(arreglo, k, j--);
+        for (int k = b; k >= q; k--)
+            intercambia(arreglo, k, i++);
+        /* [a, j] < pivote, (j, i) = pivote, [i, b] > pivote. */
+        return ((long) (j + 1) << 32) | (i - 1);
+    }
+
+    /**
+     * Regresa el índice del pivote para el rango [a, b] de un arreglo de
+     * doubles.
+     * 
+     * @param arreglo el arreglo.
+     * @param a       índice inferior del rango.
+     * @param b       índice superior del rango.
+     * @return el índice del pivote.
+     */
+    private static int pivote(double[] arreglo, int a, int b) {
+        int m = a + (b - a) / 2;
+        if (b - a < CORTE_NOVENO)
+            return mediana(arreglo, a, m, b);
+        int s = (b - a) / 8;
+        return mediana(arreglo,
+                       mediana(arreglo, a, a + s, a + 2 * s),
+                       mediana(arreglo, m - s, m, m + s),
+                       mediana(arreglo, b - 2 * s, b - s, b));
+    }
+
+    /**
+     * Regresa el índice del elemento que es la mediana de los tres índices
+     * recibidos de un arreglo de doubles.
+     * 
+     * @param arreglo el arreglo.
+     * @param x       el primer índice.
+     * @param y       el segundo índice.
+     * @param z       el tercer índice.
+     * @return el índice de la mediana.
+     */
+    private static int mediana(double[] arreglo, int x, int y, int z) {
+        if (Double.compare(arreglo[x], arreglo[y]) < 0) {
+            if (Double.compare(arreglo[y], arreglo[z]) < 0)
+                return y;
+            return Double.compare(arreglo[x], arreglo[z]) < 0 ? z : x;
+        }
+        if (Double.compare(arreglo[z], arreglo[y]) < 0)
+            return y;
+        return Double.compare(arreglo[z], arreglo[x]) < 0 ? z : x;
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de doubles usando InsertionSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rango a ordenar.
+     */
+    private static void insertionSort(double[] arreglo, int a, int b) {
+        for (int i = a + 1; i <= b; i++) {
+            double e = arreglo[i];
+            int j = i;
+            while (j > a && Double.compare(arreglo[j - 1], e) > 0) {
+                arreglo[j] = arreglo[j - 1];
+                j--;
+            }
+            arreglo[j] = e;
+        }
+    }
+
+    /**
+     * Ordena el rango [a, b] de un arreglo de doubles usando HeapSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     * @param a       índice inferior del rango a ordenar.
+     * @param b       índice superior del rango a ordenar.
+     */
+    private static void heapSort(double[] arreglo, int a, int b) {
+        int n = b - a + 1;
+        for (int i = n / 2 - 1; i >= 0; i--)
+            bajaMaximo(arreglo, a, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            intercambia(arreglo, a, a + k);
+            bajaMaximo(arreglo, a, 0, k);
+        }
+    }
+
+    /**
+     * Baja el elemento en la posición i del montículo de máximos de tamaño n
+     * que empieza en el índice a de un arreglo de doubles.
+     * 
+     * @param arreglo el arreglo con el montículo.
+     * @param a       el índice donde empieza el montículo.
+     * @param i       la posición en el montículo del elemento a bajar.
+     * @param n       el tamaño del montículo.
+     */
+    private static void bajaMaximo(double[] arreglo, int a, int i, int n) {
+        double e = arreglo[a + i];
+        int h;
+        while ((h = 2 * i + 1) < n) {
+            if (h + 1 < n && Double.compare(arreglo[a + h + 1], arreglo[a + h]) > 0)
+                h++;
+            if (Double.compare(arreglo[a + h], e) <= 0)
+                break;
+            arreglo[a + i] = arreglo[a + h];
+            i = h;
+        }
+        arreglo[a + i] = e;
+    }
+
+    /**
+     * Ordena el arreglo de doubles recibido usando SelectionSort.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void selectionSort(double[] arreglo) {
+        for (int i = 0; i < arreglo.length; i++) {
+            int m = i;
+            for (int j = i + 1; j < arreglo.length; j++) {
+                if (Double.compare(arreglo[j], arreglo[m]) < 0)
+                    m = j;
+            }
+            intercambia(arreglo, i, m);
+        }
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado de doubles cuyo valor no es
+     * menor que el recibido, o la longitud del arreglo si todos son menores.
+     * Busca igual que {@link #cotaInferior(Object[],Object,Comparator)}.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el valor a buscar.
+     * @return el primer índice cuyo valor no es menor que el recibido.
+     */
+    public static int cotaInferior(double[] arreglo, double elemento) {
+        int n = arreglo.length;
+        if (n == 0)
+            return 0;
+        int base = 0;
+        while (n > 1) {
+            int mitad = n >>> 1;
+            base = Double.compare(arreglo[base + mitad], elemento) < 0 ? base + mitad : base;
+            n -= mitad;
+        }
+        return Double.compare(arreglo[base], elemento) < 0 ? base + 1 : base;
+    }
+
+    /**
+     * Regresa el primer índice del arreglo ordenado de doubles cuyo valor es
+     * mayor que el recibido, o la longitud del arreglo si ninguno es mayor.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el valor a buscar.
+     * @return el primer índice cuyo valor es mayor que el recibido.
+     */
+    public static int cotaSuperior(double[] arreglo, double elemento) {
+        int n = arreglo.length;
+        if (n == 0)
+            return 0;
+        int base = 0;
+        while (n > 1) {
+            int mitad = n >>> 1;
+            base = Double.compare(arreglo[base + mitad], elemento) <= 0 ? base + mitad : base;
+            n -= mitad;
+        }
+        return Double.compare(arreglo[base], elemento) <= 0 ? base + 1 : base;
+    }
+
+    /**
+     * Hace una búsqueda binaria del elemento en el arreglo de doubles. Regresa el
+     * índice del elemento en el arreglo, o -1 si no se encuentra.
+     * 
+     * @param arreglo  el arreglo ordenado dónde buscar.
+     * @param elemento el elemento a buscar.
+     * @return el índice del elemento en el arreglo, o -1 si no se encuentra.
+     */
+    public static int busquedaBinaria(double[] arreglo, double elemento) {
+        int i = cotaInferior(arreglo, elemento);
+        if (i < arreglo.length && Double.compare(arreglo[i], elemento) == 0)
+            return i;
+        return -1;
+    }
+
+    /**
+     * Regresa la {@link #cotaInferior(int[],int)} de cada una de las agujas en
+     * el arreglo ordenado. Las búsquedas se hacen por lotes de 16,
+     * avanzando un paso en todas las del lote antes de
+     * seguir; como los pasos de búsquedas distintas no dependen entre sí, el
+     * procesador puede esperar a la memoria por varias a la vez.
+     * 
+     * @param arreglo el arreglo ordenado dónde buscar.
+     * @param agujas  los valores a buscar.
+     * @return un arreglo con la cota inferior de cada aguja, en el mismo orden.
+     */
+    public static int[] cotasInferiores(int[] arreglo, int[] agujas) {
+        int[] cotas = new int[agujas.length];
+        if (arreglo.length == 0)
+            return cotas;
+        int[] bases = new int[LOTE_BUSQUEDAS];
+        for (int ini = 0; ini < agujas.length; ini += LOTE_BUSQUEDAS) {
+            int m = Math.min(LOTE_BUSQUEDAS, agujas.length - ini);
+            for (int j = 0; j < m; j++)
+                bases[j] = 0;
+            for (int n = arreglo.length; n > 1; n -= n >>> 1) {
+                int mitad = n >>> 1;
+                for (int j = 0; j < m; j++)
+                    bases[j] = arreglo[bases[j] + mitad] < agujas[ini + j] ? bases[j] + mitad : bases[j];
+            }
+            for (int j = 0; j < m; j++)
+                cotas[ini + j] = arreglo[bases[j]] < agujas[ini + j] ? bases[j] + 1 : bases[j];
+        }
+        return cotas;
+    }
+
+    /**
+     * Ordena el arreglo de enteros recibido usando RadixSort: reparte los
+     * valores por cada uno de sus cuatro bytes, del menos al más significativo,
+     * usando un arreglo auxiliar del mismo tamaño. Los bytes en los que todos
+     * los valores coinciden se saltan. Toma tiempo lineal, sin comparar
+     * valores.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void radixSort(int[] arreglo) {
+        int n = arreglo.length;
+        int[] fuente = arreglo;
+        int[] destino = new int[n];
+        for (int corrimiento = 0; corrimiento < Integer.SIZE; corrimiento += 8) {
+            int[] cuentas = new int[257];
+            for (int e : fuente)
+                cuentas[digito(e, corrimiento) + 1]++;
+            if (n == 0 || cuentas[digito(fuente[0], corrimiento) + 1] == n)
+                continue;
+            for (int i = 1; i < cuentas.length; i++)
+                cuentas[i] += cuentas[i - 1];
+            for (int e : fuente)
+                destino[cuentas[digito(e, corrimiento)]++] = e;
+            int[] t = fuente;
+            fuente = destino;
+            destino = t;
+        }
+        if (fuente != arreglo)
+            System.arraycopy(fuente, 0, arreglo, 0, n);
+    }
+
+    /**
+     * Regresa el byte de un entero que empieza en el corrimiento recibido,
+     * con el bit de signo invertido para que los negativos vayan primero.
+     * 
+     * @param e           el entero.
+     * @param corrimiento el bit donde empieza el byte.
+     * @return el byte, entre 0 y 255.
+     */
+    private static int digito(int e, int corrimiento) {
+        return ((e ^ Integer.MIN_VALUE) >>> corrimiento) & 0xff;
+    }
+
+    /**
+     * Ordena el arreglo de enteros largos recibido usando RadixSort, por cada
+     * uno de sus ocho bytes; se comporta como {@link #radixSort(int[])}.
+     * 
+     * @param arreglo el arreglo a ordenar.
+     */
+    public static void radixSort(long[] arreglo) {
+        int n = arreglo.length;
+        long[] fuente = arreglo;
+        long[] destino = new long[n];
+        for (int corrimiento = 0; corrimiento < Long.SIZE; corrimiento += 8) {
+            int[] cuentas = new int[257];
+            for (long e : fuente)
+                cuentas[digito(e, corrimiento) + 1]++;
+            if (n == 0 || cuentas[digito(fuente[0], corrimiento) + 1] == n)
+                continue;
+            for (int i = 1; i < cuentas.length; i++)
+                cuentas[i] += cuentas[i - 1];
+            for (long e : fuente)
+                destino[cuentas[digito(e, corrimiento)]++] = e;
+            long[] t = fuente;
+            fuente = destino;
+            destino = t;
+        }
+        if (fuente != arreglo)
+            System.arraycopy(fuente, 0, arreglo, 0, n);
+    }
+
+    /**
+     * Regresa el byte de un entero largo que empieza en el corrimiento
+     * recibido, con el bit de signo invertido para que los negativos vayan
+     * primero.
+     * 
+     * @param e           el entero largo.
+     * @param corrimiento el bit donde empieza el byte.
+     * @return el byte, entre 0 y 255.
+     */
+    private static int digito(long e, int corrimiento) {
+        return (int) ((e ^ Long.MIN_VALUE) >>> corrimiento) & 0xff;
+    }
 }
@@ -0,0 +1,213 @@
+package mx.unam.ciencias.edd;
+
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Clase para colas genéricas respaldadas por un arreglo circular.
+ * </p>
+ *
+ * <p>
+ * Se comporta igual que una {@link Cola}, pero no crea un nodo por cada
+ * elemento que se mete: una vez que el arreglo alcanzó el tamaño máximo que la
+ * cola necesita, meter y sacar elementos ya no reserva memoria. Una cola
+ * acotada nunca crece; cuando está llena, {@link #mete} lanza una excepción y
+ * {@link #ofrece} regresa <code>false</code>.
+ * </p>
+ */
+public class ColaArreglo<T> extends MeteSaca<T> {
+
+    /* Capacidad mínima; decidida arbitrariamente a 2^4. */
+    private static final int MINIMA_CAPACIDAD = 16;
+
+    /* Los elementos de la cola, a partir de inicio y dando la vuelta. */
+    private T[] elementos;
+    /* El índice del primer elemento. */
+    private int inicio;
+    /* Número de elementos en la cola. */
+    private int total;
+    /* Si la cola está acotada. */
+    private boolean acotada;
+
+    /* Truco para crear un arreglo genérico. */
+    @SuppressWarnings("unchecked")
+    private T[] nuevoArreglo(int n) {
+        return (T[]) new Object[n];
+    }
+
+    /**
+     * Construye una cola vacía que crece según se necesite.
+     */
+    public ColaArreglo() {
+        this(MINIMA_CAPACIDAD, false);
+    }
+
+    /**
+     * Construye una cola vacía con una capacidad inicial.
+     *
+     * @param capacidad la capacidad inicial de la cola; si está acotada, la
+     *                  cola nunca tendrá más elementos que ésta.
+     * @param acotada   si la cola está acotada por su capacidad.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public ColaArreglo(int capacidad, boolean acotada) {
+        if (capacidad < 1)
+            throw new IllegalArgumentException();
+        elementos = nuevoArreglo(capacidad);
+        this.acotada = acotada;
+    }
+
+    /**
+     * Agrega un elemento al final de la cola.
+     *
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     * @throws IllegalStateException    si la cola está acotada y llena.
+     */
+    @Override
+    public void mete(T elemento) {
+        if (!ofrece(elemento))
+            throw new IllegalStateException();
+    }
+
+    /**
+     * Agrega un elemento al final de la cola, si cabe.
+     *
+     * @param elemento el elemento a agregar.
+     * @return <code>true</code> si el elemento se agregó, <code>false</code> si
+     *         la cola está acotada y llena.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public boolean ofrece(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        if (total == elementos.length) {
+            if (acotada)
+                return false;
+            crece();
+        }
+        int i = inicio + total;
+        if (i >= elementos.length)
+            i -= elementos.length;
+        elementos[i] = elemento;
+        total++;
+        return true;
+    }
+
+    /* Duplica el arreglo, dejando el primer elemento en el índice 0. */
+    private void crece() {
+        T[] nuevo = nuevoArreglo(elementos.length * 2);
+        int n = elementos.length - inicio;
+        System.arraycopy(elementos, inicio, nuevo, 0, n);
+        System.arraycopy(elementos, 0, nuevo, n, inicio);
+        elementos = nuevo;
+        inicio = 0;
+    }
+
+    /**
+     * Elimina el elemento al inicio de la cola y lo regresa.
+     *
+     * @return el elemento al inicio de la cola.
+     * @throws NoSuchElementException si la cola está vacía.
+     */
+    @Override
+    public T saca() {
+        if (total == 0)
+            throw new NoSuchElementException();
+        T elemento = elementos[inicio];
+        elementos[inicio] = null;
+        if (++inicio == elementos.length)
+            inicio = 0;
+        total--;
+        return elemento;
+    }
+
+    /**
+     * Nos permite ver el elemento al inicio de la cola, sin sacarlo de la
+     * misma.
+     *
+     * @return el elemento al inicio de la cola.
+     * @throws NoSuchElementException si la cola está vacía.
+     */
+    @Override
+    public T mira() {
+        if (total == 0)
+            throw new NoSuchElementException();
+        return elementos[inicio];
+    }
+
+    /**
+     * Nos dice si la cola está vacía.
+     *
+     * @return <code>true</code> si la cola no tiene elementos,
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean esVacia() {
+        return total == 0;
+    }
+
+    /**
+     * Nos dice si la cola está acotada y llena.
+     *
+     * @return <code>true</code> si la cola está acotada y ya no le caben
+     *         elementos, <code>false</code> en otro caso.
+     */
+    public boolean estaLlena() {
+        return acotada && total == elementos.length;
+    }
+
+    /**
+     * Regresa el número de elementos en la cola.
+     *
+     * @return el número de elementos en la cola.
+     */
+    public int getElementos() {
+        return total;
+    }
+
+    /* Regresa el i-ésimo elemento a partir del inicio. */
+    private T get(int i) {
+        i += inicio;
+        if (i >= elementos.length)
+            i -= elementos.length;
+        return elementos[i];
+    }
+
+    /**
+     * Regresa una representación en cadena de la cola.
+     *
+     * @return una representación en cadena de la cola.
+     */
+    @Override
+    public String toString() {
+        String cadena = "";
+        for (int i = 0; i < total; i++)
+            cadena += get(i) + ",";
+        return cadena;
+    }
+
+    /**
+     * Compara la cola con un objeto.
+     *
+     * @param object el objeto con el que queremos comparar la cola.
+     * @return <code>true</code> si el objeto recibido es una instancia de
+     *         ColaArreglo, y sus elementos son iguales en el mismo orden;
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == null || getClass() != object.getClass())
+            return false;
+        @SuppressWarnings("unchecked")
+        ColaArreglo<T> c = (ColaArreglo<T>) object;
+        if (total != c.total)
+            return false;
+        for (int i = 0; i < total; i++)
+            if (!get(i).equals(c.get(i)))
+                return false;
+        return true;
+    }
+}
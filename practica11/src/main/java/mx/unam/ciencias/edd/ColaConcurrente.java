@@ -0,0 +1,209 @@
+package mx.unam.ciencias.edd;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * Clase para colas genéricas que pueden usarse desde varios hilos a la vez,
+ * sin candados. Es la cola de Michael y Scott: una lista ligada con un nodo
+ * centinela al inicio, donde meter y sacar se hacen con operaciones
+ * <em>compare-and-set</em> sobre el fin y el inicio, respectivamente. Un hilo
+ * que encuentra el fin atrasado lo adelanta antes de seguir, así que ningún
+ * hilo detenido puede bloquear a los demás.
+ * </p>
+ *
+ * <p>
+ * La cola no está acotada. Los elementos que mete un mismo hilo salen en el
+ * orden en que los metió. {@link #toString} y {@link #equals} recorren la cola
+ * sin detenerla, así que sólo son exactos si nadie la modifica al mismo
+ * tiempo.
+ * </p>
+ */
+public class ColaConcurrente<T> extends MeteSaca<T> {
+
+    /* Clase interna privada para nodos ligados atómicamente. */
+    private static class NodoAtomico<T> {
+
+        /* El elemento del nodo; null si es el centinela. */
+        public volatile T elemento;
+        /* El siguiente nodo. */
+        public final AtomicReference<NodoAtomico<T>> siguiente;
+
+        /* Construye un nodo con un elemento. */
+        public NodoAtomico(T elemento) {
+            this.elemento = elemento;
+            siguiente = new AtomicReference<NodoAtomico<T>>();
+        }
+    }
+
+    /* El centinela; su siguiente es el primer elemento de la cola. */
+    private final AtomicReference<NodoAtomico<T>> inicio;
+    /* El último nodo de la cola, o uno que está a un paso de serlo. */
+    private final AtomicReference<NodoAtomico<T>> fin;
+
+    /**
+     * Construye una cola vacía.
+     */
+    public ColaConcurrente() {
+        NodoAtomico<T> centinela = new NodoAtomico<T>(null);
+        inicio = new AtomicReference<NodoAtomico<T>>(centinela);
+        fin = new AtomicReference<NodoAtomico<T>>(centinela);
+    }
+
+    /**
+     * Agrega un elemento al final de la cola.
+     *
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    @Override
+    public void mete(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        NodoAtomico<T> nuevo = new NodoAtomico<T>(elemento);
+        while (true) {
+            NodoAtomico<T> f = fin.get();
+            NodoAtomico<T> s = f.siguiente.get();
+            if (f != fin.get())
+                continue;
+            if (s != null) {
+                fin.compareAndSet(f, s);
+            } else if (f.siguiente.compareAndSet(null, nuevo)) {
+                fin.compareAndSet(f, nuevo);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Agrega un elemento al final de la cola. Como la cola no está acotada,
+     * siempre lo agrega.
+     *
+     * @param elemento el elemento a agregar.
+     * @return <code>true</code>.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public boolean ofrece(T elemento) {
+        mete(elemento);
+        return true;
+    }
+
+    /**
+     * Elimina el elemento al inicio de la cola y lo regresa, si hay.
+     *
+     * @return el elemento al inicio de la cola, o <code>null</code> si la cola
+     *         está vacía.
+     */
+    public T extrae() {
+        while (true) {
+            NodoAtomico<T> i = inicio.get();
+            NodoAtomico<T> f = fin.get();
+            NodoAtomico<T> s = i.siguiente.get();
+            if (i != inicio.get())
+                continue;
+            if (s == null)
+                return null;
+            if (i == f) {
+                fin.compareAndSet(f, s);
+                continue;
+            }
+            T elemento = s.elemento;
+            if (inicio.compareAndSet(i, s)) {
+                /* s es el nuevo centinela; no debe detener a su elemento. */
+                s.elemento = null;
+                return elemento;
+            }
+        }
+    }
+
+    /**
+     * Elimina el elemento al inicio de la cola y lo regresa.
+     *
+     * @return el elemento al inicio de la cola.
+     * @throws NoSuchElementException si la cola está vacía.
+     */
+    @Override
+    public T saca() {
+        T elemento = extrae();
+        if (elemento == null)
+            throw new NoSuchElementException();
+        return elemento;
+    }
+
+    /**
+     * Nos permite ver el elemento al inicio de la cola, sin sacarlo de la
+     * misma.
+     *
+     * @return el elemento al inicio de la cola.
+     * @throws NoSuchElementException si la cola está vacía.
+     */
+    @Override
+    public T mira() {
+        while (true) {
+            NodoAtomico<T> s = inicio.get().siguiente.get();
+            if (s == null)
+                throw new NoSuchElementException();
+            T elemento = s.elemento;
+            if (elemento != null)
+                return elemento;
+        }
+    }
+
+    /**
+     * Nos dice si la cola está vacía.
+     *
+     * @return <code>true</code> si la cola no tiene elementos,
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean esVacia() {
+        return inicio.get().siguiente.get() == null;
+    }
+
+    /**
+     * Regresa una representación en cadena de la cola.
+     *
+     * @return una representación en cadena de la cola.
+     */
+    @Override
+    public String toString() {
+        String cadena = "";
+        for (NodoAtomico<T> n = inicio.get().siguiente.get(); n != null;
+             n = n.siguiente.get()) {
+            T elemento = n.elemento;
+            if (elemento != null)
+                cadena += elemento + ",";
+        }
+        return cadena;
+    }
+
+    /**
+     * Compara la cola con un objeto.
+     *
+     * @param object el objeto con el que queremos comparar la cola.
+     * @return <code>true</code> si el objeto recibido es una instancia de
+     *         ColaConcurrente, y sus elementos son iguales en el mismo orden;
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == null || getClass() != object.getClass())
+            return false;
+        @SuppressWarnings("unchecked")
+        ColaConcurrente<T> c = (ColaConcurrente<T>) object;
+        NodoAtomico<T> a = inicio.get().siguiente.get();
+        NodoAtomico<T> b = c.inicio.get().siguiente.get();
+        while (a != null && b != null) {
+            T x = a.elemento;
+            T y = b.elemento;
+            if (x == null || y == null || !x.equals(y))
+                return false;
+            a = a.siguiente.get();
+            b = b.siguiente.get();
+        }
+        return a == null && b == null;
+    }
+}
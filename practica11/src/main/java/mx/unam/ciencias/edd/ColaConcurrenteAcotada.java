@@ -0,0 +1,307 @@
+package mx.unam.ciencias.edd;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Clase para colas genéricas acotadas que pueden usarse desde varios hilos
+ * productores y consumidores a la vez, sin candados.
+ * </p>
+ *
+ * <p>
+ * La cola es un arreglo circular donde cada casilla tiene un número de
+ * secuencia que dice si está lista para que la llene un productor o para que
+ * la vacíe un consumidor, y en qué vuelta. Un productor reserva su posición con
+ * un <em>compare-and-set</em> sobre la posición de meter, escribe el elemento y
+ * publica la casilla actualizando su secuencia; los consumidores hacen lo mismo
+ * con la posición de sacar. Productores y consumidores nunca compiten por la
+ * misma variable, y el arreglo no cambia de tamaño, así que la cola no reserva
+ * memoria después de construirse.
+ * </p>
+ *
+ * <p>
+ * {@link #ofrece} y {@link #extrae} nunca se bloquean; {@link #meteEsperando}
+ * y {@link #sacaEsperando} esperan a que haya lugar o elementos. Los elementos
+ * que mete un mismo hilo salen en el orden en que los metió. {@link
+ * #toString}, {@link #equals} y {@link #getElementos} leen la cola sin
+ * detenerla, así que sólo son exactos si nadie la modifica al mismo tiempo.
+ * </p>
+ */
+public class ColaConcurrenteAcotada<T> extends MeteSaca<T> {
+
+    /* Intentos de espera activa antes de ceder el procesador. */
+    private static final int GIROS = 64;
+    /* Intentos cediendo el procesador antes de dormir. */
+    private static final int CESIONES = 128;
+    /* Máximo tiempo que se duerme entre intentos, en nanosegundos. */
+    private static final long MAXIMA_SIESTA = 1000000;
+
+    /* Las casillas de la cola. */
+    private final T[] elementos;
+    /*
+     * La secuencia de cada casilla: igual a la posición de meter si la casilla
+     * está libre en esa vuelta, e igual a la posición de sacar más uno si ya se
+     * llenó.
+     */
+    private final AtomicLongArray secuencias;
+    /* Máscara para convertir posiciones en índices. */
+    private final int mascara;
+    /* La siguiente posición en la que se va a meter. */
+    private final AtomicLong posicionMete;
+    /* La siguiente posición de la que se va a sacar. */
+    private final AtomicLong posicionSaca;
+
+    /* Truco para crear un arreglo genérico. */
+    @SuppressWarnings("unchecked")
+    private T[] nuevoArreglo(int n) {
+        return (T[]) new Object[n];
+    }
+
+    /**
+     * Construye una cola vacía con la capacidad recibida, redondeada hacia
+     * arriba a una potencia de 2.
+     *
+     * @param capacidad el número mínimo de elementos que caben en la cola.
+     * @throws IllegalArgumentException si la capacidad no es positiva o es
+     *                                  mayor que 2<sup>30</sup>.
+     */
+    public ColaConcurrenteAcotada(int capacidad) {
+        if (capacidad < 1 || capacidad > (1 << 30))
+            throw new IllegalArgumentException();
+        int potencia = 2;
+        while (potencia < capacidad)
+            potencia *= 2;
+        elementos = nuevoArreglo(potencia);
+        secuencias = new AtomicLongArray(potencia);
+        for (int i = 0; i < potencia; i++)
+            secuencias.set(i, i);
+        mascara = potencia - 1;
+        posicionMete = new AtomicLong();
+        posicionSaca = new AtomicLong();
+    }
+
+    /**
+     * Regresa el número de elementos que caben en la cola.
+     *
+     * @return el número de elementos que caben en la cola.
+     */
+    public int getCapacidad() {
+        return elementos.length;
+    }
+
+    /**
+     * Agrega un elemento al final de la cola, si cabe.
+     *
+     * @param elemento el elemento a agregar.
+     * @return <code>true</code> si el elemento se agregó, <code>false</code> si
+     *         la cola está llena.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public boolean ofrece(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        long posicion = posicionMete.get();
+        while (true) {
+            int i = (int) posicion & mascara;
+            long diferencia = secuencias.get(i) - posicion;
+            if (diferencia == 0) {
+                if (posicionMete.compareAndSet(posicion, posicion + 1)) {
+                    elementos[i] = elemento;
+                    secuencias.set(i, posicion + 1);
+                    return true;
+                }
+            } else if (diferencia < 0) {
+                return false;
+            }
+            posicion = posicionMete.get();
+        }
+    }
+
+    /**
+     * Elimina el elemento al inicio de la cola y lo regresa, si hay.
+     *
+     * @return el elemento al inicio de la cola, o <code>null</code> si la cola
+     *         está vacía.
+     */
+    public T extrae() {
+        long posicion = posicionSaca.get();
+        while (true) {
+            int i = (int) posicion & mascara;
+            long diferencia = secuencias.get(i) - (posicion + 1);
+            if (diferencia == 0) {
+                if (posicionSaca.compareAndSet(posicion, posicion + 1)) {
+                    T elemento = elementos[i];
+                    elementos[i] = null;
+                    secuencias.set(i, posicion + elementos.length);
+                    return elemento;
+                }
+            } else if (diferencia < 0) {
+                return null;
+            }
+            posicion = posicionSaca.get();
+        }
+    }
+
+    /**
+     * Agrega un elemento al final de la cola.
+     *
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     * @throws IllegalStateException    si la cola está llena.
+     */
+    @Override
+    public void mete(T elemento) {
+        if (!ofrece(elemento))
+            throw new IllegalStateException();
+    }
+
+    /**
+     * Elimina el elemento al inicio de la cola y lo regresa.
+     *
+     * @return el elemento al inicio de la cola.
+     * @throws NoSuchElementException si la cola está vacía.
+     */
+    @Override
+    public T saca() {
+        T elemento = extrae();
+        if (elemento == null)
+            throw new NoSuchElementException();
+        return elemento;
+    }
+
+    /**
+     * Agrega un elemento al final de la cola, esperando a que haya lugar.
+     *
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     * @throws InterruptedException     si el hilo es interrumpido mientras
+     *                                  espera.
+     */
+    public void meteEsperando(T elemento) throws InterruptedException {
+        for (int intentos = 0; !ofrece(elemento); intentos++)
+            espera(intentos);
+    }
+
+    /**
+     * Elimina el elemento al inicio de la cola y lo regresa, esperando a que
+     * haya uno.
+     *
+     * @return el elemento al inicio de la cola.
+     * @throws InterruptedException si el hilo es interrumpido mientras espera.
+     */
+    public T sacaEsperando() throws InterruptedException {
+        T elemento;
+        for (int intentos = 0; (elemento = extrae()) == null; intentos++)
+            espera(intentos);
+        return elemento;
+    }
+
+    /*
+     * Espera antes del siguiente intento: primero de manera activa, luego
+     * cediendo el procesador, y al final durmiendo cada vez más, hasta
+     * MAXIMA_SIESTA.
+     */
+    private static void espera(int intentos) throws InterruptedException {
+        if (Thread.interrupted())
+            throw new InterruptedException();
+        if (intentos < GIROS)
+            return;
+        if (intentos < GIROS + CESIONES) {
+            Thread.yield();
+            return;
+        }
+        int exponente = Math.min(intentos - GIROS - CESIONES, 10);
+        LockSupport.parkNanos(Math.min(1000L << exponente, MAXIMA_SIESTA));
+    }
+
+    /**
+     * Nos permite ver el elemento al inicio de la cola, sin sacarlo de la
+     * misma.
+     *
+     * @return el elemento al inicio de la cola.
+     * @throws NoSuchElementException si la cola está vacía.
+     */
+    @Override
+    public T mira() {
+        while (true) {
+            long posicion = posicionSaca.get();
+            int i = (int) posicion & mascara;
+            if (secuencias.get(i) - (posicion + 1) < 0)
+                throw new NoSuchElementException();
+            T elemento = elementos[i];
+            if (elemento != null && posicionSaca.get() == posicion)
+                return elemento;
+        }
+    }
+
+    /**
+     * Nos dice si la cola está vacía.
+     *
+     * @return <code>true</code> si la cola no tiene elementos,
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean esVacia() {
+        long posicion = posicionSaca.get();
+        return secuencias.get((int) posicion & mascara) - (posicion + 1) < 0;
+    }
+
+    /**
+     * Regresa el número aproximado de elementos en la cola.
+     *
+     * @return el número aproximado de elementos en la cola.
+     */
+    public int getElementos() {
+        long saca = posicionSaca.get();
+        long n = posicionMete.get() - saca;
+        return (int) Math.max(0, Math.min(n, elementos.length));
+    }
+
+    /* Regresa los elementos de la cola, en orden, según se ven ahora. */
+    private Lista<T> fotografia() {
+        Lista<T> lista = new Lista<T>();
+        long fin = posicionMete.get();
+        for (long p = posicionSaca.get(); p < fin; p++) {
+            T elemento = elementos[(int) p & mascara];
+            if (elemento != null)
+                lista.agrega(elemento);
+        }
+        return lista;
+    }
+
+    /**
+     * Regresa una representación en cadena de la cola.
+     *
+     * @return una representación en cadena de la cola.
+     */
+    @Override
+    public String toString() {
+        String cadena = "";
+        for (T elemento : fotografia())
+            cadena += elemento + ",";
+        return cadena;
+    }
+
+    /**
+     * Compara la cola con un objeto.
+     *
+     * @param object el objeto con el que queremos comparar la cola.
+     * @return <code>true</code> si el objeto recibido es una instancia de
+     *         ColaConcurrenteAcotada, y sus elementos son iguales en el mismo
+     *         orden; <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == null || getClass() != object.getClass())
+            return false;
+        @SuppressWarnings("unchecked")
+        ColaConcurrenteAcotada<T> c = (ColaConcurrenteAcotada<T>) object;
+        return fotografia().equals(c.fotografia());
+    }
+}
@@ -1,5 +1,12 @@
 package mx.unam.ciencias.edd;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * <p>Interface para colecciones, con operaciones para agregar y eliminar
  * elementos, y consultar si un elemento está contenido, así como para obtener
@@ -9,6 +16,11 @@ package mx.unam.ciencias.edd;
  * <p>Las colecciones no aceptan a <code>null</code> como elemento; el
  * comportamiento de las clases que implementen esta interfaz no está definido
  * si <code>null</code> es pasado como parámetro a ninguno de sus métodos.</p>
+ *
+ * <p>Las colecciones pueden recorrerse con flujos de {@link java.util.stream},
+ * secuenciales o paralelos. Cada colección regresa un {@link Spliterator} que
+ * sabe su tamaño y describe sus características; las que pueden partirse mejor
+ * que su iterador sobrescriben {@link #spliterator}.</p>
  */
 public interface Coleccion<T> extends Iterable<T> {
 
@@ -52,4 +64,62 @@ public interface Coleccion<T> extends Iterable<T> {
      * Limpia la colección de elementos, dejándola vacía.
      */
     public void limpia();
+
+    /**
+     * Agrega a la colección todos los elementos de la colección recibida.
+     * @param coleccion la colección cuyos elementos queremos agregar.
+     * @throws IllegalArgumentException si la colección tiene elementos
+     *         <code>null</code>.
+     */
+    public default void agregaTodos(Coleccion<T> coleccion) {
+        for (T elemento : coleccion)
+            agrega(elemento);
+    }
+
+    /**
+     * Regresa un {@link Spliterator} para recorrer la colección. El
+     * predeterminado se basa en el iterador de la colección, sabe su tamaño y
+     * se parte en lotes.
+     * @return un {@link Spliterator} para recorrer la colección.
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), getElementos(),
+                                        Spliterator.NONNULL);
+    }
+
+    /**
+     * Regresa un flujo secuencial con los elementos de la colección.
+     * @return un flujo secuencial con los elementos de la colección.
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Regresa un flujo, posiblemente paralelo, con los elementos de la
+     * colección.
+     * @return un flujo, posiblemente paralelo, con los elementos de la
+     *         colección.
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Regresa un colector que junta los elementos de un flujo en colecciones
+     * creadas por la fábrica recibida. En flujos paralelos, cada hilo junta en
+     * su propia colección, y al final se agregan unas a otras en orden.
+     * @param <T> el tipo de los elementos.
+     * @param <C> el tipo de la colección.
+     * @param fabrica la fábrica de colecciones vacías.
+     * @return un colector que junta los elementos en una colección.
+     */
+    public static <T, C extends Coleccion<T>> Collector<T, ?, C>
+    colector(Supplier<C> fabrica) {
+        return Collector.of(fabrica, Coleccion::agrega, (a, b) -> {
+                a.agregaTodos(b);
+                return a;
+            });
+    }
 }
@@ -1,9 +1,19 @@
 package mx.unam.ciencias.edd;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 
 /**
+ * <p>
  * Clase para conjuntos.
+ * </p>
+ *
+ * <p>
+ * Las operaciones entre conjuntos crean su resultado con la capacidad final
+ * desde el principio, recorren el conjunto más pequeño cuando pueden, y
+ * reutilizan las dispersiones ya calculadas de los elementos en lugar de volver
+ * a dispersarlos.
+ * </p>
  */
 public class Conjunto<T> implements Coleccion<T> {
 
@@ -26,6 +36,11 @@ public class Conjunto<T> implements Coleccion<T> {
         conjunto = new Diccionario<>(n);
     }
 
+    /* Crea un conjunto sobre el diccionario recibido. */
+    private Conjunto(Diccionario<T, T> conjunto) {
+        this.conjunto = conjunto;
+    }
+
     /**
      * Agrega un elemento al conjunto.
      * 
@@ -96,11 +111,11 @@ public class Conjunto<T> implements Coleccion<T> {
      * @return la intersección del conjunto y el conjunto recibido.
      */
     public Conjunto<T> interseccion(Conjunto<T> conjunto) {
-        Conjunto<T> S = new Conjunto<>();
-        for (T elemento : this.conjunto)
-            if (conjunto.contiene(elemento))
-                S.agrega(elemento);
-        return S;
+        Conjunto<T> menor = menor(this, conjunto);
+        Conjunto<T> mayor = menor == this ? conjunto : this;
+        Diccionario<T, T> d = menor.conjunto.conCapacidad(menor.getElementos());
+        d.agrega(menor.conjunto, mayor.conjunto, true);
+        return new Conjunto<T>(d);
     }
 
     /**
@@ -110,12 +125,98 @@ public class Conjunto<T> implements Coleccion<T> {
      * @return la unión del conjunto y el conjunto recibido.
      */
     public Conjunto<T> union(Conjunto<T> conjunto) {
-        Conjunto<T> S = new Conjunto<>();
-        for (T elemento : conjunto)
-            S.agrega(elemento);
-        for (T elemento : this.conjunto)
-            S.agrega(elemento);
-        return S;
+        Conjunto<T> menor = menor(this, conjunto);
+        Conjunto<T> mayor = menor == this ? conjunto : this;
+        Diccionario<T, T> d =
+            mayor.conjunto.conCapacidad(getElementos() + conjunto.getElementos());
+        d.agrega(mayor.conjunto, null, true);
+        d.agrega(menor.conjunto, null, true);
+        return new Conjunto<T>(d);
+    }
+
+    /**
+     * Regresa la diferencia del conjunto menos el conjunto recibido.
+     * 
+     * @param conjunto el conjunto que queremos restarle a éste.
+     * @return los elementos del conjunto que no están en el conjunto recibido.
+     */
+    public Conjunto<T> diferencia(Conjunto<T> conjunto) {
+        Diccionario<T, T> d = this.conjunto.conCapacidad(getElementos());
+        d.agrega(this.conjunto, conjunto.conjunto, false);
+        return new Conjunto<T>(d);
+    }
+
+    /**
+     * Regresa la diferencia simétrica del conjunto y el conjunto recibido.
+     * 
+     * @param conjunto el conjunto con el que queremos la diferencia simétrica.
+     * @return los elementos que están en exactamente uno de los dos conjuntos.
+     */
+    public Conjunto<T> diferenciaSimetrica(Conjunto<T> conjunto) {
+        Diccionario<T, T> d =
+            this.conjunto.conCapacidad(getElementos() + conjunto.getElementos());
+        d.agrega(this.conjunto, conjunto.conjunto, false);
+        d.agrega(conjunto.conjunto, this.conjunto, false);
+        return new Conjunto<T>(d);
+    }
+
+    /**
+     * Agrega al conjunto todos los elementos de la colección recibida. La tabla
+     * crece a lo más una vez.
+     * 
+     * @param coleccion la colección cuyos elementos queremos agregar.
+     * @throws IllegalArgumentException si la colección tiene elementos
+     *                                  <code>null</code>.
+     */
+    @Override
+    public void agregaTodos(Coleccion<T> coleccion) {
+        conjunto.reserva(coleccion.getElementos());
+        if (coleccion instanceof Conjunto) {
+            conjunto.agrega(((Conjunto<T>) coleccion).conjunto, null, true);
+            return;
+        }
+        for (T elemento : coleccion)
+            agrega(elemento);
+    }
+
+    /**
+     * Deja en el conjunto sólo los elementos que también están en la colección
+     * recibida.
+     * 
+     * @param coleccion la colección con los elementos que queremos conservar.
+     */
+    public void retieneTodos(Coleccion<T> coleccion) {
+        conjunto.retiene(comoConjunto(coleccion).conjunto, true);
+    }
+
+    /**
+     * Elimina del conjunto todos los elementos de la colección recibida. Si la
+     * colección es más pequeña que el conjunto, sólo se recorre la colección.
+     * 
+     * @param coleccion la colección con los elementos que queremos eliminar.
+     */
+    public void eliminaTodos(Coleccion<T> coleccion) {
+        if (coleccion.getElementos() < getElementos()) {
+            for (T elemento : coleccion)
+                elimina(elemento);
+            return;
+        }
+        conjunto.retiene(comoConjunto(coleccion).conjunto, false);
+    }
+
+    /* Regresa el conjunto de menos elementos. */
+    private static <T> Conjunto<T> menor(Conjunto<T> a, Conjunto<T> b) {
+        return a.getElementos() <= b.getElementos() ? a : b;
+    }
+
+    /* Regresa la colección como conjunto, copiándola sólo si no lo es. */
+    private Conjunto<T> comoConjunto(Coleccion<T> coleccion) {
+        if (coleccion instanceof Conjunto)
+            return (Conjunto<T>) coleccion;
+        Conjunto<T> c = new Conjunto<T>(coleccion.getElementos());
+        for (T elemento : coleccion)
+            c.agrega(elemento);
+        return c;
     }
 
     /**
@@ -155,6 +256,17 @@ public class Conjunto<T> implements Coleccion<T> {
         return conjunto.equals(diccionario);
     }
 
+    /**
+     * Regresa un {@link Spliterator} para recorrer el conjunto. Se parte por
+     * rangos de cubetas de la tabla, sin copiar.
+     * 
+     * @return un {@link Spliterator} para recorrer el conjunto.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return conjunto.spliterator(Spliterator.DISTINCT);
+    }
+
     /**
      * Regresa un iterador para iterar el conjunto.
      * 
@@ -0,0 +1,396 @@
+package mx.unam.ciencias.edd;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Clase para conjuntos compactos. Ofrece las mismas operaciones básicas que
+ * {@link Conjunto}, pero en lugar de guardar cada elemento dos veces en un
+ * {@link Diccionario} (como llave y como valor, dentro de una entrada y un nodo
+ * de lista), guarda únicamente los elementos en un arreglo con
+ * direccionamiento abierto, y opcionalmente sus dispersiones en un arreglo
+ * paralelo de enteros.
+ * </p>
+ *
+ * <p>
+ * Las colisiones se resuelven igual que en {@link DiccionarioAbierto}, con
+ * exploración lineal <em>Robin Hood</em> y eliminación por corrimiento hacia
+ * atrás. Sin el arreglo de dispersiones el conjunto ocupa menos memoria, a
+ * cambio de volver a llamar al dispersor cada vez que necesita la casilla
+ * original de un elemento.
+ * </p>
+ */
+public class ConjuntoCompacto<T> implements Coleccion<T> {
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador implements Iterator<T> {
+
+        /* La siguiente casilla ocupada. */
+        private int siguiente;
+
+        /* Construye un nuevo iterador, en la primera casilla ocupada. */
+        public Iterador() {
+            siguiente = ocupada(0);
+        }
+
+        /* Regresa la primera casilla ocupada a partir de i. */
+        private int ocupada(int i) {
+            while (i < elementos.length && elementos[i] == null)
+                i++;
+            return i;
+        }
+
+        /* Nos dice si hay un siguiente elemento. */
+        @Override
+        public boolean hasNext() {
+            return siguiente < elementos.length;
+        }
+
+        /* Regresa el siguiente elemento. */
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            int i = siguiente;
+            siguiente = ocupada(i + 1);
+            return elementos[i];
+        }
+    }
+
+    /* Clase interna privada para divisores. */
+    private class Divisor implements Spliterator<T> {
+
+        /* La siguiente casilla a revisar. */
+        private int indice;
+        /* La casilla donde termina el divisor, sin incluirla. */
+        private int fin;
+        /* El número estimado de elementos. */
+        private long estimado;
+        /* Si el número estimado es exacto. */
+        private boolean exacto;
+
+        /* Construye un divisor para las casillas en [indice, fin). */
+        public Divisor(int indice, int fin, long estimado, boolean exacto) {
+            this.indice = indice;
+            this.fin = fin;
+            this.estimado = estimado;
+            this.exacto = exacto;
+        }
+
+        /* Recorre el siguiente elemento, si hay. */
+        @Override
+        public boolean tryAdvance(Consumer<? super T> accion) {
+            while (indice < fin) {
+                T elemento = elementos[indice++];
+                if (elemento != null) {
+                    accion.accept(elemento);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /* Regresa un divisor con la segunda mitad de las casillas. */
+        @Override
+        public Spliterator<T> trySplit() {
+            int m = (indice + fin) >>> 1;
+            if (m <= indice)
+                return null;
+            estimado >>>= 1;
+            exacto = false;
+            Divisor mitad = new Divisor(m, fin, estimado, false);
+            fin = m;
+            return mitad;
+        }
+
+        /* Regresa el número estimado de elementos. */
+        @Override
+        public long estimateSize() {
+            return estimado;
+        }
+
+        /* Regresa las características del divisor. */
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL |
+                (exacto ? Spliterator.SIZED : 0);
+        }
+    }
+
+    /* Clase interna privada para la tabla Robin Hood del conjunto. */
+    private class Tabla extends TablaRobinHood.DeObjetos {
+
+        /* Regresa el número de casillas del conjunto. */
+        @Override
+        int capacidad() {
+            return elementos.length;
+        }
+
+        /* Nos dice si la casilla i está ocupada. */
+        @Override
+        boolean ocupada(int i) {
+            return elementos[i] != null;
+        }
+
+        /* Regresa la dispersión del elemento en la casilla i. */
+        @Override
+        int dispersion(int i) {
+            return dispersiones != null ?
+                dispersiones[i] : dispersa(elementos[i]);
+        }
+
+        /* Copia la casilla origen a la casilla destino. */
+        @Override
+        void mueve(int origen, int destino) {
+            elementos[destino] = elementos[origen];
+            if (dispersiones != null)
+                dispersiones[destino] = dispersiones[origen];
+        }
+
+        /* Vacía la casilla i. */
+        @Override
+        void vacia(int i) {
+            elementos[i] = null;
+        }
+
+        /* Nos dice si en la casilla i está el elemento con esa dispersión. */
+        @Override
+        boolean esLlave(int i, Object elemento, int dispersion) {
+            return (dispersiones == null || dispersiones[i] == dispersion) &&
+                elementos[i].equals(elemento);
+        }
+    }
+
+    /** Máxima carga permitida por el conjunto. */
+    public static final double MAXIMA_CARGA = 0.72;
+
+    /* Capacidad mínima; decidida arbitrariamente a 2^6. */
+    private static final int MINIMA_CAPACIDAD = 64;
+
+    /* Dispersor. */
+    private Dispersor<T> dispersor;
+    /* Los elementos; una casilla es vacía si es null. */
+    private T[] elementos;
+    /* Las dispersiones de los elementos; null si no se guardan. */
+    private int[] dispersiones;
+    /* Número de elementos. */
+    private int total;
+    /* La tabla Robin Hood sobre los arreglos. */
+    private Tabla tabla = new Tabla();
+
+    /* Truco para crear un arreglo genérico. */
+    @SuppressWarnings("unchecked")
+    private T[] nuevoArreglo(int n) {
+        return (T[]) new Object[n];
+    }
+
+    /**
+     * Crea un nuevo conjunto, que guarda las dispersiones de sus elementos.
+     */
+    public ConjuntoCompacto() {
+        this(MINIMA_CAPACIDAD);
+    }
+
+    /**
+     * Crea un nuevo conjunto para un número determinado de elementos, que guarda
+     * las dispersiones de sus elementos.
+     *
+     * @param n el número tentativo de elementos.
+     */
+    public ConjuntoCompacto(int n) {
+        this(n, (T elemento) -> elemento.hashCode(), true);
+    }
+
+    /**
+     * Crea un nuevo conjunto para un número determinado de elementos, con un
+     * dispersor definido por el usuario.
+     *
+     * @param n el número tentativo de elementos.
+     * @param dispersor el dispersor a utilizar.
+     * @param guardaDispersiones si el conjunto debe guardar las dispersiones de
+     *                           sus elementos.
+     */
+    public ConjuntoCompacto(int n, Dispersor<T> dispersor,
+                            boolean guardaDispersiones) {
+        this.dispersor = dispersor;
+        if (n < MINIMA_CAPACIDAD)
+            n = MINIMA_CAPACIDAD;
+        int potencia = 1;
+        while (potencia < n * 2)
+            potencia *= 2;
+        inicializa(potencia, guardaDispersiones);
+    }
+
+    /* Crea los arreglos con la capacidad recibida. */
+    private void inicializa(int capacidad, boolean guardaDispersiones) {
+        elementos = nuevoArreglo(capacidad);
+        dispersiones = guardaDispersiones ? new int[capacidad] : null;
+    }
+
+    /* Dispersa un elemento con el dispersor, y mezcla el resultado. */
+    private int dispersa(T elemento) {
+        return TablaRobinHood.mezcla(dispersor.dispersa(elemento));
+    }
+
+    /* Inserta un elemento que sabemos que no está en el conjunto. */
+    private void inserta(T elemento, int dispersion) {
+        int i = tabla.abre(dispersion);
+        elementos[i] = elemento;
+        if (dispersiones != null)
+            dispersiones[i] = dispersion;
+    }
+
+    /* Duplica la capacidad del conjunto. */
+    private void crece() {
+        T[] es = elementos;
+        int[] ds = dispersiones;
+        inicializa(es.length * 2, ds != null);
+        for (int i = 0; i < es.length; i++)
+            if (es[i] != null)
+                inserta(es[i], ds != null ? ds[i] : dispersa(es[i]));
+    }
+
+    /**
+     * Agrega un elemento al conjunto.
+     *
+     * @param elemento el elemento que queremos agregar al conjunto.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    @Override
+    public void agrega(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        int dispersion = dispersa(elemento);
+        if (tabla.indice(elemento, dispersion) != -1)
+            return;
+        inserta(elemento, dispersion);
+        total++;
+        if ((double) total / elementos.length >= MAXIMA_CARGA)
+            crece();
+    }
+
+    /**
+     * Nos dice si el elemento está en el conjunto.
+     *
+     * @param elemento el elemento que queremos saber si está en el conjunto.
+     * @return <code>true</code> si el elemento está en el conjunto,
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean contiene(T elemento) {
+        if (elemento == null)
+            return false;
+        return tabla.indice(elemento, dispersa(elemento)) != -1;
+    }
+
+    /**
+     * Elimina el elemento del conjunto, si está. Los elementos que siguen al
+     * eliminado se recorren una casilla hacia atrás, por lo que el conjunto
+     * nunca deja marcas de casillas borradas.
+     *
+     * @param elemento el elemento que queremos eliminar del conjunto.
+     */
+    @Override
+    public void elimina(T elemento) {
+        if (elemento == null)
+            return;
+        int i = tabla.indice(elemento, dispersa(elemento));
+        if (i == -1)
+            return;
+        tabla.saca(i);
+        total--;
+    }
+
+    /**
+     * Nos dice si el conjunto es vacío.
+     *
+     * @return <code>true</code> si el conjunto es vacío, <code>false</code> en otro
+     *         caso.
+     */
+    @Override
+    public boolean esVacia() {
+        return total == 0;
+    }
+
+    /**
+     * Regresa el número de elementos en el conjunto.
+     *
+     * @return el número de elementos en el conjunto.
+     */
+    @Override
+    public int getElementos() {
+        return total;
+    }
+
+    /**
+     * Limpia el conjunto de elementos, dejándolo vacío.
+     */
+    @Override
+    public void limpia() {
+        inicializa(MINIMA_CAPACIDAD, dispersiones != null);
+        total = 0;
+    }
+
+    /**
+     * Regresa una representación en cadena del conjunto.
+     *
+     * @return una representación en cadena del conjunto.
+     */
+    @Override
+    public String toString() {
+        String cadena = "{ ";
+        Iterator<T> i = iterator();
+        while (i.hasNext()) {
+            T e = i.next();
+            cadena += e;
+            if (i.hasNext())
+                cadena += ", ";
+        }
+        return cadena + " }";
+    }
+
+    /**
+     * Nos dice si el conjunto es igual al objeto recibido.
+     *
+     * @param o el objeto que queremos saber si es igual al conjunto.
+     * @return <code>true</code> si el objeto recibido es instancia de
+     *         ConjuntoCompacto, y tiene los mismos elementos.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass())
+            return false;
+        @SuppressWarnings("unchecked")
+        ConjuntoCompacto<T> c = (ConjuntoCompacto<T>) o;
+        if (total != c.total)
+            return false;
+        for (T elemento : c)
+            if (!contiene(elemento))
+                return false;
+        return true;
+    }
+
+    /**
+     * Regresa un {@link Spliterator} para recorrer el conjunto. Se parte por
+     * rangos de casillas de la tabla, sin copiar.
+     *
+     * @return un {@link Spliterator} para recorrer el conjunto.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new Divisor(0, elementos.length, total, true);
+    }
+
+    /**
+     * Regresa un iterador para iterar el conjunto.
+     *
+     * @return un iterador para iterar el conjunto.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+}
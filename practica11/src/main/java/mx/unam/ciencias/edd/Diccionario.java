@@ -1,34 +1,76 @@
 package mx.unam.ciencias.edd;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
+ * <p>
  * Clase para diccionarios (<em>hash tables</em>). Un diccionario generaliza el
  * concepto de arreglo, mapeando un conjunto de <em>llaves</em> a una colección
  * de <em>valores</em>.
+ * </p>
+ *
+ * <p>
+ * Cada cubeta es una lista mientras es pequeña; cuando pasa de {@link
+ * #UMBRAL_ARBOL} entradas se convierte en un {@link ArbolRojinegro} ordenado por
+ * dispersión (y por llave, si las llaves son comparables), de manera que aun si
+ * muchas llaves caen en la misma cubeta las búsquedas siguen siendo
+ * logarítmicas. Con el dispersor predeterminado, además, las llaves que son
+ * secuencias de caracteres se dispersan con una semilla aleatoria, escogida una
+ * vez por ejecución del programa (ver {@link
+ * FabricaDispersores#dispersorConSemilla()}), así que un archivo construido a
+ * propósito no puede mandarlas todas a la misma cubeta.
+ * </p>
  */
 public class Diccionario<K, V> implements Iterable<V> {
 
     /* Clase interna privada para entradas. */
-    private class Entrada {
+    private class Entrada implements Comparable<Entrada> {
 
         /* La llave. */
         public K llave;
         /* El valor. */
         public V valor;
+        /* La dispersión de la llave. */
+        public int dispersion;
+        /* El número de inserción de la entrada; único en el diccionario. */
+        public long orden;
 
         /* Construye una nueva entrada. */
-        public Entrada(K llave, V valor) {
+        public Entrada(K llave, V valor, int dispersion) {
             this.llave = llave;
             this.valor = valor;
+            this.dispersion = dispersion;
+            orden = secuencia++;
+        }
+
+        /*
+         * Compara por dispersión; si empatan, por llave si las llaves son
+         * comparables, y si siguen empatadas, por número de inserción. Así dos
+         * entradas distintas nunca comparan igual.
+         */
+        @Override
+        public int compareTo(Entrada e) {
+            if (dispersion != e.dispersion)
+                return Integer.compare(dispersion, e.dispersion);
+            int c = comparaLlaves(llave, e.llave);
+            if (c != 0)
+                return c;
+            return Long.compare(orden, e.orden);
         }
     }
 
     /* Clase interna privada para iteradores. */
     private class Iterador {
 
+        /* La tabla que estamos recorriendo. */
+        private Coleccion<Entrada>[] tabla;
         /* En qué lista estamos. */
         private int indice;
         /* Iterador auxiliar. */
@@ -38,18 +80,33 @@ public class Diccionario<K, V> implements Iterable<V> {
          * Construye un nuevo iterador, auxiliándose de las listas del diccionario.
          */
         public Iterador() {
-            for (int i = 0; i < entradas.length; i++)
-                if (entradas[i] != null) {
-                    this.indice = i;
-                    this.iterador = entradas[i].iterator();
+            tabla = entradas;
+            indice = -1;
+            avanza();
+        }
+
+        /*
+         * Mueve el iterador auxiliar a la siguiente lista no vacía. Si hay una
+         * migración en curso, al terminar la tabla actual sigue con la anterior.
+         */
+        private void avanza() {
+            iterador = null;
+            while (true) {
+                for (indice++; indice < tabla.length; indice++)
+                    if (tabla[indice] != null) {
+                        iterador = tabla[indice].iterator();
+                        return;
+                    }
+                if (tabla != entradas || anteriores == null)
                     return;
-                }
+                tabla = anteriores;
+                indice = -1;
+            }
         }
 
         /* Nos dice si hay una siguiente entrada. */
         public boolean hasNext() {
             return iterador != null;
-
         }
 
         /* Regresa la siguiente entrada. */
@@ -57,27 +114,10 @@ public class Diccionario<K, V> implements Iterable<V> {
             if (iterador == null)
                 throw new IllegalArgumentException();
             Entrada e = iterador.next();
-            boolean aux = false;
-            if (!iterador.hasNext()) {
-                for (int i = (indice + 1); i < entradas.length; i++)
-                    if (entradas[i] != null) {
-                        indice = i;
-                        aux = true;
-                        break;
-                    }
-                if (aux)
-                    iterador = entradas[indice].iterator();
-                else
-                    iterador = null;
-            }
+            if (!iterador.hasNext())
+                avanza();
             return e;
         }
-
-        /* Mueve el iterador a la siguiente entrada válida. */
-        private void mueveIterador() {
-            if (iterador.hasNext())
-                siguiente();
-        }
     }
 
     /* Clase interna privada para iteradores de llaves. */
@@ -101,18 +141,148 @@ public class Diccionario<K, V> implements Iterable<V> {
         }
     }
 
+    /*
+     * Clase interna privada para divisores de valores. Recorre un rango de
+     * cubetas de la tabla seguida de la tabla anterior, si hay una migración
+     * en curso.
+     */
+    private class Divisor implements Spliterator<V> {
+
+        /* La tabla que estamos recorriendo. */
+        private Coleccion<Entrada>[] tabla;
+        /* La tabla anterior; null si no hay migración. */
+        private Coleccion<Entrada>[] anterior;
+        /* La siguiente cubeta a recorrer. */
+        private int indice;
+        /* La cubeta donde termina el divisor, sin incluirla. */
+        private int fin;
+        /* Iterador de la cubeta actual. */
+        private Iterator<Entrada> iterador;
+        /* El número estimado de valores. */
+        private long estimado;
+        /* Si el número estimado es exacto. */
+        private boolean exacto;
+        /* Características además de NONNULL y SIZED. */
+        private int caracteristicas;
+
+        /* Construye un divisor para las cubetas en [indice, fin). */
+        public Divisor(Coleccion<Entrada>[] tabla, Coleccion<Entrada>[] anterior,
+                       int indice, int fin, long estimado, boolean exacto,
+                       int caracteristicas) {
+            this.tabla = tabla;
+            this.anterior = anterior;
+            this.indice = indice;
+            this.fin = fin;
+            this.estimado = estimado;
+            this.exacto = exacto;
+            this.caracteristicas = caracteristicas;
+        }
+
+        /* Regresa la i-ésima cubeta, contando las de la tabla anterior. */
+        private Coleccion<Entrada> cubeta(int i) {
+            return i < tabla.length ? tabla[i] : anterior[i - tabla.length];
+        }
+
+        /* Recorre el siguiente valor, si hay. */
+        @Override
+        public boolean tryAdvance(Consumer<? super V> accion) {
+            while (iterador == null || !iterador.hasNext()) {
+                if (indice >= fin)
+                    return false;
+                Coleccion<Entrada> cubeta = cubeta(indice++);
+                iterador = cubeta == null ? null : cubeta.iterator();
+            }
+            accion.accept(iterador.next().valor);
+            return true;
+        }
+
+        /* Regresa un divisor con la segunda mitad de las cubetas. */
+        @Override
+        public Spliterator<V> trySplit() {
+            int m = (indice + fin) >>> 1;
+            if (m <= indice)
+                return null;
+            estimado >>>= 1;
+            exacto = false;
+            Divisor mitad = new Divisor(tabla, anterior, m, fin, estimado,
+                                        false, caracteristicas);
+            fin = m;
+            return mitad;
+        }
+
+        /* Regresa el número estimado de valores. */
+        @Override
+        public long estimateSize() {
+            return estimado;
+        }
+
+        /* Regresa las características del divisor. */
+        @Override
+        public int characteristics() {
+            return caracteristicas | Spliterator.NONNULL |
+                (exacto ? Spliterator.SIZED : 0);
+        }
+    }
+
     /** Máxima carga permitida por el diccionario. */
     public static final double MAXIMA_CARGA = 0.72;
 
+    /** Número de entradas a partir del cual una cubeta se vuelve árbol. */
+    public static final int UMBRAL_ARBOL = 8;
+
     /* Capacidad mínima; decidida arbitrariamente a 2^6. */
     private static final int MINIMA_CAPACIDAD = 64;
 
+    /*
+     * Número de entradas por debajo del cual una cubeta árbol vuelve a ser
+     * lista; menor que UMBRAL_ARBOL para no convertir de ida y vuelta.
+     */
+    private static final int UMBRAL_LISTA = 6;
+
+    /**
+     * Máximo número de cubetas de la tabla anterior que se migran en cada
+     * operación durante una redispersión incremental. Con al menos 2
+     * garantizamos que la migración termina antes de que la nueva tabla vuelva
+     * a llenarse.
+     */
+    public static final int CUBETAS_POR_OPERACION = 8;
+
+    /*
+     * El dispersor predeterminado: las secuencias de caracteres usan SipHash con
+     * una semilla aleatoria que se escoge una sola vez, y las demás llaves su
+     * hashCode. Todos los diccionarios predeterminados lo comparten, así que
+     * las operaciones entre ellos reutilizan las dispersiones guardadas.
+     */
+    private static final Dispersor<Object> DISPERSOR_PREDETERMINADO =
+        predeterminado(FabricaDispersores.dispersorConSemilla());
+
     /* Dispersor. */
     private Dispersor<K> dispersor;
-    /* Nuestro diccionario. */
-    private Lista<Entrada>[] entradas;
+    /* Nuestro diccionario; cada cubeta es una Lista o un ArbolRojinegro. */
+    private Coleccion<Entrada>[] entradas;
     /* Número de valores. */
     private int elementos;
+    /* El número de inserción de la siguiente entrada. */
+    private long secuencia;
+    /* Si el diccionario crece de manera incremental. */
+    private boolean incremental;
+    /* La tabla anterior mientras hay una migración en curso; null si no. */
+    private Coleccion<Entrada>[] anteriores;
+    /* Cuántas cubetas de la tabla anterior ya se migraron. */
+    private int migradas;
+    /*
+     * El histograma de exploración (ver EstadisticasDiccionario); null si no se
+     * llevan estadísticas.
+     */
+    private long[] histograma;
+    /* Número de redispersiones. */
+    private long redispersiones;
+    /* Tiempo dedicado a redispersar, en nanosegundos. */
+    private long tiempoRedispersion;
+    /* Búsquedas exitosas. */
+    private long aciertos;
+    /* Búsquedas fallidas. */
+    private long fallos;
 
     /*
      * Truco para crear un arreglo genérico. Es necesario hacerlo así por cómo Java
@@ -120,8 +290,8 @@ public class Diccionario<K, V> implements Iterable<V> {
      * compilador.
      */
     @SuppressWarnings("unchecked")
-    private Lista<Entrada>[] nuevoArreglo(int n) {
-        return (Lista<Entrada>[]) Array.newInstance(Lista.class, n);
+    private Coleccion<Entrada>[] nuevoArreglo(int n) {
+        return (Coleccion<Entrada>[]) Array.newInstance(Coleccion.class, n);
     }
 
     /**
@@ -129,7 +299,7 @@ public class Diccionario<K, V> implements Iterable<V> {
      * predeterminados.
      */
     public Diccionario() {
-        this(MINIMA_CAPACIDAD, (K llave) -> llave.hashCode());
+        this(MINIMA_CAPACIDAD, dispersorPredeterminado());
     }
 
     /**
@@ -139,7 +309,7 @@ public class Diccionario<K, V> implements Iterable<V> {
      * @param capacidad la capacidad a utilizar.
      */
     public Diccionario(int capacidad) {
-        this(capacidad, (K llave) -> llave.hashCode());
+        this(capacidad, dispersorPredeterminado());
     }
 
     /**
@@ -160,8 +330,25 @@ public class Diccionario<K, V> implements Iterable<V> {
      * @param dispersor el dispersor a utilizar.
      */
     public Diccionario(int capacidad, Dispersor<K> dispersor) {
+        this(capacidad, dispersor, false);
+    }
+
+    /**
+     * Construye un diccionario con una capacidad inicial y un método de dispersor
+     * definidos por el usuario, que puede crecer de manera incremental. Un
+     * diccionario incremental no mueve todas sus entradas al duplicar su tabla:
+     * la tabla anterior y la nueva coexisten, y cada vez que se agrega o elimina
+     * una llave se migra un número acotado de cubetas. Así ninguna operación
+     * individual paga el costo completo de crecer.
+     * 
+     * @param capacidad   la capacidad inicial del diccionario.
+     * @param dispersor   el dispersor a utilizar.
+     * @param incremental si el diccionario debe crecer de manera incremental.
+     */
+    public Diccionario(int capacidad, Dispersor<K> dispersor, boolean incremental) {
 
         this.dispersor = dispersor;
+        this.incremental = incremental;
         if (capacidad < MINIMA_CAPACIDAD)
             capacidad = MINIMA_CAPACIDAD;
         int potencia = 1;
@@ -171,6 +358,188 @@ public class Diccionario<K, V> implements Iterable<V> {
         entradas = nuevoArreglo(capacidad);
     }
 
+    /*
+     * Regresa el dispersor predeterminado, DISPERSOR_PREDETERMINADO, con el tipo
+     * de llaves del diccionario.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> Dispersor<K> dispersorPredeterminado() {
+        return (Dispersor<K>) DISPERSOR_PREDETERMINADO;
+    }
+
+    /* Construye el dispersor predeterminado a partir del de cadenas. */
+    private static Dispersor<Object> predeterminado(Dispersor<CharSequence> semilla) {
+        return llave -> (llave instanceof CharSequence) ?
+            semilla.dispersa((CharSequence) llave) : llave.hashCode();
+    }
+
+    /*
+     * Compara dos llaves si son comparables y de la misma clase; en otro caso
+     * regresa 0.
+     */
+    @SuppressWarnings("unchecked")
+    private static int comparaLlaves(Object a, Object b) {
+        if (!(a instanceof Comparable) || a.getClass() != b.getClass())
+            return 0;
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /* Busca la entrada de la llave en la tabla recibida; null si no está. */
+    private Entrada busca(Coleccion<Entrada>[] tabla, K llave, int dispersion) {
+        return busca(tabla[dispersion & (tabla.length - 1)], llave, dispersion);
+    }
+
+    /* Busca la entrada de la llave en la cubeta recibida; null si no está. */
+    private Entrada busca(Coleccion<Entrada> cubeta, K llave, int dispersion) {
+        if (cubeta == null)
+            return null;
+        if (cubeta instanceof ArbolRojinegro)
+            return busca(((ArbolRojinegro<Entrada>) cubeta).raiz(),
+                         llave, dispersion);
+        for (Entrada e : cubeta)
+            if (e.dispersion == dispersion && e.llave.equals(llave))
+                return e;
+        return null;
+    }
+
+    /*
+     * Busca la entrada de la llave en el subárbol del vértice; null si no está.
+     * Si la llave empata con la del vértice sin ser igual, hay que buscar en
+     * ambos subárboles.
+     */
+    private Entrada busca(VerticeArbolBinario<Entrada> vertice, K llave,
+                          int dispersion) {
+        Entrada e = vertice.get();
+        int c = Integer.compare(dispersion, e.dispersion);
+        if (c == 0) {
+            if (e.llave.equals(llave))
+                return e;
+            c = comparaLlaves(llave, e.llave);
+        }
+        if (c <= 0 && vertice.hayIzquierdo()) {
+            Entrada r = busca(vertice.izquierdo(), llave, dispersion);
+            if (r != null || c < 0)
+                return r;
+        }
+        if (c >= 0 && vertice.hayDerecho())
+            return busca(vertice.derecho(), llave, dispersion);
+        return null;
+    }
+
+    /* Busca la entrada de la llave en la tabla actual y en la anterior. */
+    private Entrada busca(K llave, int dispersion) {
+        Entrada e = busca(entradas, llave, dispersion);
+        if (e == null && anteriores != null)
+            e = busca(anteriores, llave, dispersion);
+        return e;
+    }
+
+    /*
+     * Mete la entrada en su cubeta de la tabla recibida, convirtiendo la cubeta
+     * en árbol si pasa del umbral.
+     */
+    private void mete(Coleccion<Entrada>[] tabla, Entrada e) {
+        int i = e.dispersion & (tabla.length - 1);
+        if (tabla[i] == null)
+            tabla[i] = new Lista<Entrada>();
+        tabla[i].agrega(e);
+        if (histograma != null)
+            registra(tabla[i].getElementos() - 1, 1);
+        if (tabla[i] instanceof Lista &&
+            tabla[i].getElementos() > UMBRAL_ARBOL)
+            tabla[i] = new ArbolRojinegro<Entrada>(tabla[i]);
+    }
+
+    /*
+     * Saca la entrada de la llave de la tabla recibida, si está. Si la cubeta es
+     * un árbol y queda por debajo del umbral, vuelve a ser lista.
+     */
+    private boolean saca(Coleccion<Entrada>[] tabla, K llave, int dispersion) {
+        int i = dispersion & (tabla.length - 1);
+        Entrada e = busca(tabla[i], llave, dispersion);
+        if (e == null)
+            return false;
+        if (histograma != null)
+            registra(tabla[i].getElementos() - 1, -1);
+        if (tabla[i] instanceof ArbolRojinegro) {
+            ((ArbolRojinegro<Entrada>) tabla[i]).elimina(e);
+            if (tabla[i].getElementos() < UMBRAL_LISTA) {
+                Lista<Entrada> lista = new Lista<Entrada>();
+                for (Entrada f : tabla[i])
+                    lista.agrega(f);
+                tabla[i] = lista;
+            }
+        } else {
+            tabla[i].elimina(e);
+        }
+        if (tabla[i].esVacia())
+            tabla[i] = null;
+        return true;
+    }
+
+    /*
+     * Registra en el histograma que la entrada en la posición recibida de su
+     * cubeta apareció (cambio 1) o desapareció (cambio -1).
+     */
+    private void registra(int posicion, int cambio) {
+        histograma[Math.min(posicion, histograma.length - 1)] += cambio;
+    }
+
+    /* Migra a lo más n cubetas de la tabla anterior a la actual. */
+    private void migra(int n) {
+        if (anteriores == null)
+            return;
+        long inicio = histograma != null ? System.nanoTime() : 0;
+        int limite = Math.min(anteriores.length, migradas + n);
+        for (; migradas < limite; migradas++)
+            if (anteriores[migradas] != null) {
+                if (histograma != null)
+                    for (int j = 0; j < anteriores[migradas].getElementos(); j++)
+                        registra(j, -1);
+                for (Entrada e : anteriores[migradas])
+                    mete(entradas, e);
+                anteriores[migradas] = null;
+            }
+        if (migradas == anteriores.length)
+            anteriores = null;
+        if (histograma != null)
+            tiempoRedispersion += System.nanoTime() - inicio;
+    }
+
+    /*
+     * Mete en la tabla actual todas las entradas de la tabla recibida, que se
+     * desecha.
+     */
+    private void redispersa(Coleccion<Entrada>[] arr) {
+        long inicio = histograma != null ? System.nanoTime() : 0;
+        if (histograma != null)
+            Arrays.fill(histograma, 0);
+        for (int j = 0; j < arr.length; j++)
+            if (arr[j] != null)
+                for (Entrada e : arr[j])
+                    mete(entradas, e);
+        if (histograma != null)
+            tiempoRedispersion += System.nanoTime() - inicio;
+    }
+
+    /*
+     * Duplica la tabla. Las entradas se reacomodan con su dispersión guardada,
+     * sin volver a llamar al dispersor.
+     */
+    private void crece() {
+        if (anteriores != null)
+            migra(anteriores.length);
+        Coleccion<Entrada>[] arr = entradas;
+        entradas = nuevoArreglo(arr.length * 2);
+        redispersiones++;
+        if (incremental) {
+            anteriores = arr;
+            migradas = 0;
+            return;
+        }
+        redispersa(arr);
+    }
+
     /**
      * Agrega un nuevo valor al diccionario, usando la llave proporcionada. Si la
      * llave ya había sido utilizada antes para agregar un valor, el diccionario
@@ -183,38 +552,21 @@ public class Diccionario<K, V> implements Iterable<V> {
     public void agrega(K llave, V valor) {
         if (llave == null || valor == null)
             throw new IllegalArgumentException();
-        int i = dispersor.dispersa(llave) & (entradas.length - 1);
-        if (entradas[i] == null) {
-            Lista<Entrada> l = new Lista<>();
-            entradas[i] = l;
-            Entrada ea = new Entrada(llave, valor);
-            entradas[i].agrega(ea);
-            elementos++;
-        } else {
-            boolean auxi = true;
-            for (Entrada e : entradas[i])
-                if (e.llave.equals(llave)) {
-                    e.valor = valor;
-                    auxi = false;
-                    break;
-                }
-            if (auxi) {
-                Entrada e = new Entrada(llave, valor);
-                entradas[i].agrega(e);
-                elementos++;
-            }
-        }
-        if (carga() >= MAXIMA_CARGA) {
-            Lista<Entrada>[] aux = nuevoArreglo(entradas.length * 2);
-            Lista<Entrada>[] arr = entradas;
-            elementos = 0;
-            entradas = aux;
-            for (int j = 0; j < arr.length; j++)
-                if (arr[j] != null)
-                    for (Entrada e : arr[j])
-                        agrega(e.llave, e.valor);
+        agrega(llave, valor, dispersor.dispersa(llave));
+    }
 
+    /* Agrega el valor con la llave, cuya dispersión ya está calculada. */
+    private void agrega(K llave, V valor, int d) {
+        migra(CUBETAS_POR_OPERACION);
+        Entrada e = busca(llave, d);
+        if (e != null) {
+            e.valor = valor;
+            return;
         }
+        mete(entradas, new Entrada(llave, valor, d));
+        elementos++;
+        if (carga() >= MAXIMA_CARGA)
+            crece();
     }
 
     /**
@@ -228,13 +580,12 @@ public class Diccionario<K, V> implements Iterable<V> {
     public V get(K llave) {
         if (llave == null)
             throw new IllegalArgumentException();
-        int i = dispersor.dispersa(llave) & entradas.length - 1;
-        if (entradas[i] == null)
+        Entrada e = busca(llave, dispersor.dispersa(llave));
+        if (histograma != null)
+            cuenta(e != null);
+        if (e == null)
             throw new NoSuchElementException();
-        for (Entrada e : entradas[i])
-            if (e.llave.equals((llave)))
-                return e.valor;
-        throw new NoSuchElementException();
+        return e.valor;
     }
 
     /**
@@ -247,13 +598,18 @@ public class Diccionario<K, V> implements Iterable<V> {
     public boolean contiene(K llave) {
         if (llave == null)
             return false;
-        int i = (dispersor.dispersa(llave) & entradas.length - 1);
-        if (entradas[i] == null)
-            return false;
-        for (Entrada e : entradas[i])
-            if (e.llave.equals((llave)))
-                return true;
-        return false;
+        boolean encontrada = busca(llave, dispersor.dispersa(llave)) != null;
+        if (histograma != null)
+            cuenta(encontrada);
+        return encontrada;
+    }
+
+    /* Cuenta una búsqueda exitosa o fallida. */
+    private void cuenta(boolean encontrada) {
+        if (encontrada)
+            aciertos++;
+        else
+            fallos++;
     }
 
     /**
@@ -267,18 +623,97 @@ public class Diccionario<K, V> implements Iterable<V> {
     public void elimina(K llave) {
         if (llave == null)
             throw new IllegalArgumentException();
-        int i = dispersor.dispersa(llave) & (entradas.length - 1);
-        if (entradas[i] == null)
+        migra(CUBETAS_POR_OPERACION);
+        int d = dispersor.dispersa(llave);
+        if (!saca(entradas, llave, d) &&
+            (anteriores == null || !saca(anteriores, llave, d)))
             throw new NoSuchElementException();
-        for (Entrada e : entradas[i])
-            if (e.llave.equals(llave)) {
-                entradas[i].elimina(e);
-                if (entradas[i].esVacia())
-                    entradas[i] = null;
-                elementos--;
-                return;
-            }
-        throw new NoSuchElementException();
+        elementos--;
+    }
+
+    /*
+     * Regresa un diccionario vacío con el mismo dispersor que éste, y con
+     * capacidad para n entradas sin crecer. Como comparten dispersor, las
+     * operaciones entre ambos reutilizan las dispersiones guardadas.
+     */
+    Diccionario<K, V> conCapacidad(int n) {
+        return new Diccionario<K, V>(n, dispersor, incremental);
+    }
+
+    /*
+     * Agranda la tabla, de una sola vez, para que quepan n entradas más sin que
+     * tenga que crecer.
+     */
+    void reserva(int n) {
+        int capacidad = entradas.length;
+        while (elementos + n >= MAXIMA_CARGA * capacidad)
+            capacidad *= 2;
+        if (capacidad == entradas.length)
+            return;
+        if (anteriores != null)
+            migra(anteriores.length);
+        Coleccion<Entrada>[] arr = entradas;
+        entradas = nuevoArreglo(capacidad);
+        redispersiones++;
+        redispersa(arr);
+    }
+
+    /* Regresa la dispersión de la entrada de otro diccionario en éste. */
+    private int dispersion(Diccionario<K, V> otro, Entrada e) {
+        return otro.dispersor == dispersor ?
+            e.dispersion : dispersor.dispersa(e.llave);
+    }
+
+    /*
+     * Agrega las entradas de origen cuya llave está en filtro (o no está, si
+     * presentes es false); si filtro es null, las agrega todas. Las
+     * dispersiones guardadas se reutilizan con los diccionarios que comparten
+     * dispersor.
+     */
+    void agrega(Diccionario<K, V> origen, Diccionario<K, V> filtro,
+                boolean presentes) {
+        if (origen == this)
+            return;
+        Iterador i = origen.new Iterador();
+        while (i.hasNext()) {
+            Entrada e = i.siguiente();
+            if (filtro != null &&
+                (filtro.busca(e.llave, filtro.dispersion(origen, e)) != null)
+                != presentes)
+                continue;
+            agrega(e.llave, e.valor, dispersion(origen, e));
+        }
+    }
+
+    /*
+     * Deja en el diccionario sólo las entradas cuya llave está en filtro (o no
+     * está, si presentes es false).
+     */
+    void retiene(Diccionario<K, V> filtro, boolean presentes) {
+        if (filtro == this) {
+            if (!presentes)
+                limpia();
+            return;
+        }
+        if (anteriores != null)
+            migra(anteriores.length);
+        for (int i = 0; i < entradas.length; i++) {
+            if (entradas[i] == null)
+                continue;
+            Lista<Entrada> sacar = null;
+            for (Entrada e : entradas[i])
+                if ((filtro.busca(e.llave, filtro.dispersion(this, e)) != null)
+                    != presentes) {
+                    if (sacar == null)
+                        sacar = new Lista<Entrada>();
+                    sacar.agrega(e);
+                }
+            if (sacar == null)
+                continue;
+            for (Entrada e : sacar)
+                saca(entradas, e.llave, e.dispersion);
+            elementos -= sacar.getLongitud();
+        }
     }
 
     /**
@@ -287,13 +722,21 @@ public class Diccionario<K, V> implements Iterable<V> {
      * @return cuántas colisiones hay en el diccionario.
      */
     public int colisiones() {
-        int colisiones = 0;
-        for (int i = 0; i < entradas.length; i++)
-            if (entradas[i] != null)
-                colisiones += entradas[i].getElementos();
+        int colisiones = colisiones(entradas);
+        if (anteriores != null)
+            colisiones += colisiones(anteriores);
         return esVacia() ? 0 : colisiones - 1;
     }
 
+    /* Suma los tamaños de las cubetas de la tabla recibida. */
+    private int colisiones(Coleccion<Entrada>[] tabla) {
+        int colisiones = 0;
+        for (int i = 0; i < tabla.length; i++)
+            if (tabla[i] != null)
+                colisiones += tabla[i].getElementos();
+        return colisiones;
+    }
+
     /**
      * Nos dice el máximo número de colisiones para una misma llave que tenemos en
      * el diccionario.
@@ -301,13 +744,21 @@ public class Diccionario<K, V> implements Iterable<V> {
      * @return el máximo número de colisiones para una misma llave.
      */
     public int colisionMaxima() {
+        int maxcolisiones = colisionMaxima(entradas);
+        if (anteriores != null)
+            maxcolisiones = Math.max(maxcolisiones, colisionMaxima(anteriores));
+        return esVacia() ? 0 : maxcolisiones - 1;
+    }
+
+    /* Regresa el tamaño de la cubeta más grande de la tabla recibida. */
+    private int colisionMaxima(Coleccion<Entrada>[] tabla) {
         int maxcolisiones = 0;
-        for (int i = 0; i < entradas.length; i++) {
-            if (entradas[i] != null)
-                if (entradas[i].getElementos() > maxcolisiones)
-                    maxcolisiones = entradas[i].getElementos();
+        for (int i = 0; i < tabla.length; i++) {
+            if (tabla[i] != null)
+                if (tabla[i].getElementos() > maxcolisiones)
+                    maxcolisiones = tabla[i].getElementos();
         }
-        return esVacia() ? 0 : maxcolisiones - 1;
+        return maxcolisiones;
     }
 
     /**
@@ -319,6 +770,18 @@ public class Diccionario<K, V> implements Iterable<V> {
         return (double) elementos / entradas.length;
     }
 
+    /**
+     * Nos dice cuántas cubetas de la tabla anterior faltan por migrar a la
+     * actual. Sólo un diccionario que crece de manera incremental tiene
+     * migraciones en curso; cuando termina una, la tabla anterior se desecha.
+     *
+     * @return cuántas cubetas de la tabla anterior faltan por migrar, o 0 si no
+     *         hay una migración en curso.
+     */
+    public int cubetasPorMigrar() {
+        return anteriores == null ? 0 : anteriores.length - migradas;
+    }
+
     /**
      * Regresa el número de entradas en el diccionario.
      * 
@@ -345,7 +808,57 @@ public class Diccionario<K, V> implements Iterable<V> {
      */
     public void limpia() {
         entradas = nuevoArreglo(MINIMA_CAPACIDAD);
+        anteriores = null;
+        migradas = 0;
         elementos = 0;
+        if (histograma != null)
+            Arrays.fill(histograma, 0);
+    }
+
+    /**
+     * Empieza a llevar estadísticas del diccionario: el histograma de
+     * exploración, el número de redispersiones y el tiempo dedicado a ellas, y
+     * cuántas búsquedas con {@link #get} y {@link #contiene} encontraron o no su
+     * llave. Activarlas recorre la tabla una vez; a partir de ahí todo se
+     * mantiene al modificar el diccionario, así que consultarlas con {@link
+     * #estadisticas} no vuelve a recorrerla. Si ya se llevaban estadísticas, los
+     * contadores se reinician.
+     */
+    public void activaEstadisticas() {
+        histograma = new long[EstadisticasDiccionario.LONGITUDES];
+        registra(entradas);
+        if (anteriores != null)
+            registra(anteriores);
+        redispersiones = tiempoRedispersion = aciertos = fallos = 0;
+    }
+
+    /* Registra en el histograma todas las entradas de la tabla recibida. */
+    private void registra(Coleccion<Entrada>[] tabla) {
+        for (int i = 0; i < tabla.length; i++)
+            if (tabla[i] != null)
+                for (int j = 0; j < tabla[i].getElementos(); j++)
+                    registra(j, 1);
+    }
+
+    /**
+     * Deja de llevar estadísticas del diccionario.
+     */
+    public void desactivaEstadisticas() {
+        histograma = null;
+    }
+
+    /**
+     * Regresa una fotografía de las estadísticas del diccionario.
+     *
+     * @return una fotografía de las estadísticas del diccionario.
+     * @throws IllegalStateException si el diccionario no lleva estadísticas.
+     */
+    public EstadisticasDiccionario estadisticas() {
+        if (histograma == null)
+            throw new IllegalStateException();
+        return new EstadisticasDiccionario(histograma, elementos, entradas.length,
+                                           redispersiones, tiempoRedispersion,
+                                           aciertos, fallos);
     }
 
     /**
@@ -380,13 +893,10 @@ public class Diccionario<K, V> implements Iterable<V> {
         Diccionario<K, V> d = (Diccionario<K, V>) o;
         if (getElementos() != d.getElementos())
             return false;
-        for (int i = 0 ; i < entradas.length ; i++ ) {
-            if (entradas[i] != null)
-                for (Entrada e : entradas[i] ) {
-                    if (!d.contiene(e.llave))
-                        return false;
-                }
-        }
+        Iterador i = new Iterador();
+        while (i.hasNext())
+            if (!d.contiene(i.siguiente().llave))
+                return false;
         return true;
     }
 
@@ -400,6 +910,47 @@ public class Diccionario<K, V> implements Iterable<V> {
         return new IteradorLlaves();
     }
 
+    /**
+     * Regresa un {@link Spliterator} para recorrer los valores del diccionario,
+     * sin ningún orden específico. Se parte por rangos de cubetas, sin copiar.
+     * 
+     * @return un {@link Spliterator} para recorrer los valores del diccionario.
+     */
+    @Override
+    public Spliterator<V> spliterator() {
+        return spliterator(0);
+    }
+
+    /*
+     * Regresa un Spliterator para recorrer los valores del diccionario, con
+     * las características extra recibidas.
+     */
+    Spliterator<V> spliterator(int caracteristicas) {
+        int n = entradas.length + (anteriores == null ? 0 : anteriores.length);
+        return new Divisor(entradas, anteriores, 0, n, elementos, true,
+                           caracteristicas);
+    }
+
+    /**
+     * Regresa un flujo secuencial con los valores del diccionario.
+     * 
+     * @return un flujo secuencial con los valores del diccionario.
+     */
+    public Stream<V> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Regresa un flujo, posiblemente paralelo, con los valores del
+     * diccionario.
+     * 
+     * @return un flujo, posiblemente paralelo, con los valores del
+     *         diccionario.
+     */
+    public Stream<V> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Regresa un iterador para iterar los valores del diccionario. El diccionario
      * se itera sin ningún orden específico.
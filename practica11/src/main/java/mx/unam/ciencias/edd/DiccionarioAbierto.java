@@ -0,0 +1,412 @@
+package mx.unam.ciencias.edd;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Clase para diccionarios con direccionamiento abierto (<em>open
+ * addressing</em>). Ofrece las mismas operaciones que {@link Diccionario}, pero
+ * en lugar de guardar cada cubeta como una {@link Lista} de entradas, guarda
+ * las llaves, los valores y las dispersiones en tres arreglos paralelos.
+ * </p>
+ *
+ * <p>
+ * Las colisiones se resuelven con exploración lineal <em>Robin Hood</em>: al
+ * insertar, una llave que está más lejos de su casilla original le quita su
+ * lugar a una que está más cerca de la suya. Esto mantiene cortas las
+ * distancias de exploración y permite que una búsqueda fallida termine en
+ * cuanto encuentra una llave más cercana a su casilla que la buscada.
+ * </p>
+ */
+public class DiccionarioAbierto<K, V> implements Iterable<V> {
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador {
+
+        /* La siguiente casilla ocupada. */
+        private int siguiente;
+
+        /* Construye un nuevo iterador, en la primera casilla ocupada. */
+        public Iterador() {
+            siguiente = ocupada(0);
+        }
+
+        /* Regresa la primera casilla ocupada a partir de i. */
+        private int ocupada(int i) {
+            while (i < llaves.length && llaves[i] == null)
+                i++;
+            return i;
+        }
+
+        /* Nos dice si hay una siguiente casilla ocupada. */
+        public boolean hasNext() {
+            return siguiente < llaves.length;
+        }
+
+        /* Regresa la siguiente casilla ocupada. */
+        public int siguiente() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            int i = siguiente;
+            siguiente = ocupada(i + 1);
+            return i;
+        }
+    }
+
+    /* Clase interna privada para iteradores de llaves. */
+    private class IteradorLlaves extends Iterador implements Iterator<K> {
+
+        /* Regresa el siguiente elemento. */
+        @Override
+        public K next() {
+            return llaves[super.siguiente()];
+        }
+    }
+
+    /* Clase interna privada para iteradores de valores. */
+    private class IteradorValores extends Iterador implements Iterator<V> {
+
+        /* Regresa el siguiente elemento. */
+        @Override
+        public V next() {
+            return valores[super.siguiente()];
+        }
+    }
+
+    /* Clase interna privada para la tabla Robin Hood del diccionario. */
+    private class Tabla extends TablaRobinHood.DeObjetos {
+
+        /* Regresa el número de casillas del diccionario. */
+        @Override
+        int capacidad() {
+            return llaves.length;
+        }
+
+        /* Nos dice si la casilla i está ocupada. */
+        @Override
+        boolean ocupada(int i) {
+            return llaves[i] != null;
+        }
+
+        /* Regresa la dispersión guardada de la llave en la casilla i. */
+        @Override
+        int dispersion(int i) {
+            return dispersiones[i];
+        }
+
+        /* Copia la casilla origen a la casilla destino. */
+        @Override
+        void mueve(int origen, int destino) {
+            llaves[destino] = llaves[origen];
+            valores[destino] = valores[origen];
+            dispersiones[destino] = dispersiones[origen];
+        }
+
+        /* Vacía la casilla i. */
+        @Override
+        void vacia(int i) {
+            llaves[i] = null;
+            valores[i] = null;
+            dispersiones[i] = 0;
+        }
+
+        /* Nos dice si en la casilla i está la llave con la dispersión dada. */
+        @Override
+        boolean esLlave(int i, Object llave, int dispersion) {
+            return dispersiones[i] == dispersion && llaves[i].equals(llave);
+        }
+    }
+
+    /** Máxima carga permitida por el diccionario. */
+    public static final double MAXIMA_CARGA = 0.72;
+
+    /* Capacidad mínima; decidida arbitrariamente a 2^6. */
+    private static final int MINIMA_CAPACIDAD = 64;
+
+    /* Dispersor. */
+    private Dispersor<K> dispersor;
+    /* Las llaves; una casilla es vacía si su llave es null. */
+    private K[] llaves;
+    /* Los valores, paralelos a las llaves. */
+    private V[] valores;
+    /* Las dispersiones de las llaves, para no volver a calcularlas. */
+    private int[] dispersiones;
+    /* Número de valores. */
+    private int elementos;
+    /* La tabla Robin Hood sobre los arreglos. */
+    private Tabla tabla = new Tabla();
+
+    /* Truco para crear un arreglo genérico. */
+    @SuppressWarnings("unchecked")
+    private <E> E[] nuevoArreglo(int n) {
+        return (E[]) new Object[n];
+    }
+
+    /**
+     * Construye un diccionario con una capacidad inicial y dispersor
+     * predeterminados.
+     */
+    public DiccionarioAbierto() {
+        this(MINIMA_CAPACIDAD, (K llave) -> llave.hashCode());
+    }
+
+    /**
+     * Construye un diccionario con una capacidad inicial definida por el usuario, y
+     * un dispersor predeterminado.
+     *
+     * @param capacidad la capacidad a utilizar.
+     */
+    public DiccionarioAbierto(int capacidad) {
+        this(capacidad, (K llave) -> llave.hashCode());
+    }
+
+    /**
+     * Construye un diccionario con una capacidad inicial predeterminada, y un
+     * dispersor definido por el usuario.
+     *
+     * @param dispersor el dispersor a utilizar.
+     */
+    public DiccionarioAbierto(Dispersor<K> dispersor) {
+        this(MINIMA_CAPACIDAD, dispersor);
+    }
+
+    /**
+     * Construye un diccionario con una capacidad inicial y un método de dispersor
+     * definidos por el usuario.
+     *
+     * @param capacidad la capacidad inicial del diccionario.
+     * @param dispersor el dispersor a utilizar.
+     */
+    public DiccionarioAbierto(int capacidad, Dispersor<K> dispersor) {
+        this.dispersor = dispersor;
+        if (capacidad < MINIMA_CAPACIDAD)
+            capacidad = MINIMA_CAPACIDAD;
+        int potencia = 1;
+        while (potencia < capacidad * 2)
+            potencia *= 2;
+        inicializa(potencia);
+    }
+
+    /* Crea los arreglos paralelos con la capacidad recibida. */
+    private void inicializa(int capacidad) {
+        llaves = nuevoArreglo(capacidad);
+        valores = nuevoArreglo(capacidad);
+        dispersiones = new int[capacidad];
+    }
+
+    /* Dispersa una llave con el dispersor, y mezcla el resultado. */
+    private int dispersa(K llave) {
+        return TablaRobinHood.mezcla(dispersor.dispersa(llave));
+    }
+
+    /* Inserta una llave que sabemos que no está en el diccionario. */
+    private void inserta(K llave, V valor, int dispersion) {
+        int i = tabla.abre(dispersion);
+        llaves[i] = llave;
+        valores[i] = valor;
+        dispersiones[i] = dispersion;
+    }
+
+    /* Duplica la capacidad del diccionario, sin volver a dispersar llaves. */
+    private void crece() {
+        K[] ll = llaves;
+        V[] vs = valores;
+        int[] ds = dispersiones;
+        inicializa(ll.length * 2);
+        for (int i = 0; i < ll.length; i++)
+            if (ll[i] != null)
+                inserta(ll[i], vs[i], ds[i]);
+    }
+
+    /**
+     * Agrega un nuevo valor al diccionario, usando la llave proporcionada. Si la
+     * llave ya había sido utilizada antes para agregar un valor, el diccionario
+     * reemplaza ese valor con el recibido aquí.
+     *
+     * @param llave la llave para agregar el valor.
+     * @param valor el valor a agregar.
+     * @throws IllegalArgumentException si la llave o el valor son nulos.
+     */
+    public void agrega(K llave, V valor) {
+        if (llave == null || valor == null)
+            throw new IllegalArgumentException();
+        int dispersion = dispersa(llave);
+        int i = tabla.indice(llave, dispersion);
+        if (i != -1) {
+            valores[i] = valor;
+            return;
+        }
+        inserta(llave, valor, dispersion);
+        elementos++;
+        if (carga() >= MAXIMA_CARGA)
+            crece();
+    }
+
+    /**
+     * Regresa el valor del diccionario asociado a la llave proporcionada.
+     *
+     * @param llave la llave para buscar el valor.
+     * @return el valor correspondiente a la llave.
+     * @throws IllegalArgumentException si la llave es nula.
+     * @throws NoSuchElementException   si la llave no está en el diccionario.
+     */
+    public V get(K llave) {
+        if (llave == null)
+            throw new IllegalArgumentException();
+        int i = tabla.indice(llave, dispersa(llave));
+        if (i == -1)
+            throw new NoSuchElementException();
+        return valores[i];
+    }
+
+    /**
+     * Nos dice si una llave se encuentra en el diccionario.
+     *
+     * @param llave la llave que queremos ver si está en el diccionario.
+     * @return <code>true</code> si la llave está en el diccionario,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean contiene(K llave) {
+        if (llave == null)
+            return false;
+        return tabla.indice(llave, dispersa(llave)) != -1;
+    }
+
+    /**
+     * Elimina el valor del diccionario asociado a la llave proporcionada. Las
+     * llaves que siguen a la eliminada se recorren una casilla hacia atrás, por
+     * lo que el diccionario nunca deja marcas de casillas borradas.
+     *
+     * @param llave la llave para buscar el valor a eliminar.
+     * @throws IllegalArgumentException si la llave es nula.
+     * @throws NoSuchElementException   si la llave no se encuentra en el
+     *                                  diccionario.
+     */
+    public void elimina(K llave) {
+        if (llave == null)
+            throw new IllegalArgumentException();
+        int i = tabla.indice(llave, dispersa(llave));
+        if (i == -1)
+            throw new NoSuchElementException();
+        tabla.saca(i);
+        elementos--;
+    }
+
+    /**
+     * Nos dice cuántas colisiones hay en el diccionario, es decir, cuántas llaves
+     * no están en su casilla original.
+     *
+     * @return cuántas colisiones hay en el diccionario.
+     */
+    public int colisiones() {
+        return tabla.cuentaColisiones();
+    }
+
+    /**
+     * Nos dice el máximo número de colisiones para una misma llave que tenemos en
+     * el diccionario, es decir, la máxima distancia de una llave a su casilla
+     * original.
+     *
+     * @return el máximo número de colisiones para una misma llave.
+     */
+    public int colisionMaxima() {
+        return tabla.distanciaMaxima();
+    }
+
+    /**
+     * Nos dice la carga del diccionario.
+     *
+     * @return la carga del diccionario.
+     */
+    public double carga() {
+        return (double) elementos / llaves.length;
+    }
+
+    /**
+     * Regresa el número de entradas en el diccionario.
+     *
+     * @return el número de entradas en el diccionario.
+     */
+    public int getElementos() {
+        return elementos;
+    }
+
+    /**
+     * Nos dice si el diccionario es vacío.
+     *
+     * @return <code>true</code> si el diccionario es vacío, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+        return elementos == 0;
+    }
+
+    /**
+     * Limpia el diccionario de elementos, dejándolo vacío.
+     */
+    public void limpia() {
+        inicializa(MINIMA_CAPACIDAD);
+        elementos = 0;
+    }
+
+    /**
+     * Regresa una representación en cadena del diccionario.
+     *
+     * @return una representación en cadena del diccionario.
+     */
+    @Override
+    public String toString() {
+        if (esVacia())
+            return "{}";
+        String s = "{ ";
+        for (int i = 0; i < llaves.length; i++)
+            if (llaves[i] != null)
+                s += "'" + llaves[i] + "': '" + valores[i] + "', ";
+        return s + "}";
+    }
+
+    /**
+     * Nos dice si el diccionario es igual al objeto recibido.
+     *
+     * @param o el objeto que queremos saber si es igual al diccionario.
+     * @return <code>true</code> si el objeto recibido es instancia de
+     *         DiccionarioAbierto, y tiene las mismas llaves asociadas a los mismos
+     *         valores.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass())
+            return false;
+        @SuppressWarnings("unchecked")
+        DiccionarioAbierto<K, V> d = (DiccionarioAbierto<K, V>) o;
+        if (getElementos() != d.getElementos())
+            return false;
+        for (int i = 0; i < llaves.length; i++)
+            if (llaves[i] != null)
+                if (!d.contiene(llaves[i]) || !d.get(llaves[i]).equals(valores[i]))
+                    return false;
+        return true;
+    }
+
+    /**
+     * Regresa un iterador para iterar las llaves del diccionario. El diccionario se
+     * itera sin ningún orden específico.
+     *
+     * @return un iterador para iterar las llaves del diccionario.
+     */
+    public Iterator<K> iteradorLlaves() {
+        return new IteradorLlaves();
+    }
+
+    /**
+     * Regresa un iterador para iterar los valores del diccionario. El diccionario
+     * se itera sin ningún orden específico.
+     *
+     * @return un iterador para iterar los valores del diccionario.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new IteradorValores();
+    }
+}
@@ -0,0 +1,530 @@
+package mx.unam.ciencias.edd;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+
+/**
+ * <p>
+ * Clase para diccionarios que pueden usarse desde varios hilos a la vez. El
+ * diccionario se divide en segmentos, cada uno con su propia tabla y su propio
+ * candado (<em>lock striping</em>); dos hilos sólo compiten entre sí cuando
+ * sus llaves caen en el mismo segmento.
+ * </p>
+ *
+ * <p>
+ * Todas las operaciones sobre una llave son atómicas. En particular, {@link
+ * #agregaOActualiza} permite combinar el valor nuevo con el anterior sin que
+ * otro hilo se meta entre la lectura y la escritura, lo que sirve, por ejemplo,
+ * para contar frecuencias desde varios hilos.
+ * </p>
+ *
+ * <p>
+ * Los iteradores son <em>débilmente consistentes</em>: nunca lanzan una
+ * excepción por modificaciones concurrentes, y cada segmento se recorre como
+ * estaba en el momento en que el iterador llegó a él.
+ * </p>
+ */
+public class DiccionarioConcurrente<K, V> implements Iterable<V> {
+
+    /* Clase interna privada para entradas. */
+    private class Entrada {
+
+        /* La llave. */
+        public K llave;
+        /* El valor. */
+        public V valor;
+        /* La dispersión mezclada de la llave. */
+        public int dispersion;
+        /* La siguiente entrada en la cubeta. */
+        public Entrada siguiente;
+
+        /* Construye una nueva entrada. */
+        public Entrada(K llave, V valor, int dispersion, Entrada siguiente) {
+            this.llave = llave;
+            this.valor = valor;
+            this.dispersion = dispersion;
+            this.siguiente = siguiente;
+        }
+    }
+
+    /* Clase interna privada para segmentos; todos sus métodos usan su candado. */
+    private class Segmento {
+
+        /* Las cubetas del segmento. */
+        private Entrada[] tabla;
+        /* Número de entradas en el segmento. */
+        private volatile int elementos;
+
+        /* Construye un segmento con la capacidad recibida. */
+        public Segmento(int capacidad) {
+            tabla = nuevoArreglo(capacidad);
+        }
+
+        /* Busca la entrada de la llave; null si no está. */
+        private Entrada busca(K llave, int dispersion) {
+            Entrada e = tabla[dispersion & (tabla.length - 1)];
+            while (e != null) {
+                if (e.dispersion == dispersion && e.llave.equals(llave))
+                    return e;
+                e = e.siguiente;
+            }
+            return null;
+        }
+
+        /* Regresa el valor de la llave; null si no está. */
+        public synchronized V get(K llave, int dispersion) {
+            Entrada e = busca(llave, dispersion);
+            return e == null ? null : e.valor;
+        }
+
+        /*
+         * Agrega la llave con el valor si no está; si está, reemplaza su valor
+         * por el resultado de combinarlo con el recibido, o por el recibido si
+         * no hay con qué combinar. Regresa el valor que quedó.
+         */
+        public synchronized V agrega(K llave, V valor, int dispersion,
+                                     BinaryOperator<V> combina) {
+            Entrada e = busca(llave, dispersion);
+            if (e != null) {
+                V nuevo = combina == null ? valor : combina.apply(e.valor, valor);
+                if (nuevo == null)
+                    throw new IllegalArgumentException();
+                e.valor = nuevo;
+                return nuevo;
+            }
+            int i = dispersion & (tabla.length - 1);
+            tabla[i] = new Entrada(llave, valor, dispersion, tabla[i]);
+            elementos++;
+            if ((double) elementos / tabla.length >= MAXIMA_CARGA)
+                crece();
+            return valor;
+        }
+
+        /* Elimina la llave; regresa si estaba. */
+        public synchronized boolean elimina(K llave, int dispersion) {
+            int i = dispersion & (tabla.length - 1);
+            Entrada anterior = null;
+            for (Entrada e = tabla[i]; e != null; e = e.siguiente) {
+                if (e.dispersion == dispersion && e.llave.equals(llave)) {
+                    if (anterior == null)
+                        tabla[i] = e.siguiente;
+                    else
+                        anterior.siguiente = e.siguiente;
+                    elementos--;
+                    return true;
+                }
+                anterior = e;
+            }
+            return false;
+        }
+
+        /* Duplica la tabla, con las dispersiones guardadas. */
+        private void crece() {
+            Entrada[] anterior = tabla;
+            tabla = nuevoArreglo(anterior.length * 2);
+            for (int j = 0; j < anterior.length; j++) {
+                Entrada e = anterior[j];
+                while (e != null) {
+                    Entrada siguiente = e.siguiente;
+                    int i = e.dispersion & (tabla.length - 1);
+                    e.siguiente = tabla[i];
+                    tabla[i] = e;
+                    e = siguiente;
+                }
+            }
+        }
+
+        /* Vacía el segmento. */
+        public synchronized void limpia() {
+            tabla = nuevoArreglo(tabla.length);
+            elementos = 0;
+        }
+
+        /* Regresa la capacidad del segmento. */
+        public synchronized int capacidad() {
+            return tabla.length;
+        }
+
+        /*
+         * Acumula en el arreglo recibido el tamaño de las cubetas del segmento:
+         * en la casilla 0 la suma y en la casilla 1 el máximo.
+         */
+        public synchronized void cubetas(int[] acumulado) {
+            for (int i = 0; i < tabla.length; i++) {
+                int n = 0;
+                for (Entrada e = tabla[i]; e != null; e = e.siguiente)
+                    n++;
+                acumulado[0] += n > 0 ? n - 1 : 0;
+                acumulado[1] = Math.max(acumulado[1], n - 1);
+            }
+        }
+
+        /*
+         * Regresa un arreglo con las llaves y los valores del segmento
+         * intercalados, o null si el segmento es vacío. Sólo copia referencias,
+         * así que los escritores esperan poco.
+         */
+        public synchronized Object[] copia() {
+            if (elementos == 0)
+                return null;
+            Object[] copia = new Object[2 * elementos];
+            int j = 0;
+            for (int i = 0; i < tabla.length; i++)
+                for (Entrada e = tabla[i]; e != null; e = e.siguiente) {
+                    copia[j++] = e.llave;
+                    copia[j++] = e.valor;
+                }
+            return copia;
+        }
+    }
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador {
+
+        /* El siguiente segmento a recorrer. */
+        private int segmento;
+        /* Las llaves y valores intercalados del segmento actual. */
+        private Object[] copia;
+        /* La posición en la copia de la siguiente llave. */
+        private int indice;
+        /* La llave de la última entrada recorrida. */
+        protected K llave;
+        /* El valor de la última entrada recorrida. */
+        protected V valor;
+
+        /* Construye un nuevo iterador, en el primer segmento no vacío. */
+        public Iterador() {
+            avanza();
+        }
+
+        /* Copia el siguiente segmento no vacío, si hay. */
+        private void avanza() {
+            copia = null;
+            indice = 0;
+            while (copia == null && segmento < segmentos.length)
+                copia = segmentos[segmento++].copia();
+        }
+
+        /* Nos dice si hay una siguiente entrada. */
+        public boolean hasNext() {
+            return copia != null;
+        }
+
+        /* Recorre la siguiente entrada, dejando su llave y su valor. */
+        @SuppressWarnings("unchecked")
+        public void siguiente() {
+            if (copia == null)
+                throw new NoSuchElementException();
+            llave = (K) copia[indice++];
+            valor = (V) copia[indice++];
+            if (indice == copia.length)
+                avanza();
+        }
+    }
+
+    /* Clase interna privada para iteradores de llaves. */
+    private class IteradorLlaves extends Iterador implements Iterator<K> {
+
+        /* Regresa el siguiente elemento. */
+        @Override
+        public K next() {
+            super.siguiente();
+            return llave;
+        }
+    }
+
+    /* Clase interna privada para iteradores de valores. */
+    private class IteradorValores extends Iterador implements Iterator<V> {
+
+        /* Regresa el siguiente elemento. */
+        @Override
+        public V next() {
+            super.siguiente();
+            return valor;
+        }
+    }
+
+    /** Máxima carga permitida por cada segmento del diccionario. */
+    public static final double MAXIMA_CARGA = 0.72;
+
+    /* Número de segmentos predeterminado. */
+    private static final int CONCURRENCIA = 16;
+
+    /* Capacidad mínima de cada segmento. */
+    private static final int MINIMA_CAPACIDAD = 16;
+
+    /* Dispersor. */
+    private Dispersor<K> dispersor;
+    /* Los segmentos. */
+    private Segmento[] segmentos;
+    /* Corrimiento para obtener el segmento de una dispersión. */
+    private int corrimiento;
+
+    /* Truco para crear un arreglo genérico. */
+    @SuppressWarnings("unchecked")
+    private Entrada[] nuevoArreglo(int n) {
+        return (Entrada[]) Array.newInstance(Entrada.class, n);
+    }
+
+    /**
+     * Construye un diccionario concurrente con una capacidad inicial, dispersor y
+     * número de segmentos predeterminados.
+     */
+    public DiccionarioConcurrente() {
+        this(CONCURRENCIA * MINIMA_CAPACIDAD, (K llave) -> llave.hashCode(),
+             CONCURRENCIA);
+    }
+
+    /**
+     * Construye un diccionario concurrente con una capacidad inicial predeterminada
+     * y un dispersor definido por el usuario.
+     *
+     * @param dispersor el dispersor a utilizar.
+     */
+    public DiccionarioConcurrente(Dispersor<K> dispersor) {
+        this(CONCURRENCIA * MINIMA_CAPACIDAD, dispersor, CONCURRENCIA);
+    }
+
+    /**
+     * Construye un diccionario concurrente con una capacidad inicial, un dispersor
+     * y un número de segmentos definidos por el usuario. El número de segmentos
+     * se redondea a una potencia de dos, y debería ser parecido al número de
+     * hilos que usarán el diccionario a la vez.
+     *
+     * @param capacidad    la capacidad inicial del diccionario.
+     * @param dispersor    el dispersor a utilizar.
+     * @param concurrencia el número tentativo de segmentos.
+     */
+    @SuppressWarnings("unchecked")
+    public DiccionarioConcurrente(int capacidad, Dispersor<K> dispersor,
+                                  int concurrencia) {
+        this.dispersor = dispersor;
+        int n = 1;
+        int bits = 0;
+        while (n < concurrencia && n < (1 << 16)) {
+            n *= 2;
+            bits++;
+        }
+        corrimiento = 32 - bits;
+        int porSegmento = MINIMA_CAPACIDAD;
+        while (porSegmento * n < capacidad * 2)
+            porSegmento *= 2;
+        segmentos = (Segmento[]) Array.newInstance(Segmento.class, n);
+        for (int i = 0; i < n; i++)
+            segmentos[i] = new Segmento(porSegmento);
+    }
+
+    /*
+     * Dispersa una llave con el dispersor, y mezcla el resultado. Las entradas
+     * guardan la dispersión mezclada, así que tanto el segmento como la cubeta
+     * dentro del segmento salen de ella.
+     */
+    private int dispersa(K llave) {
+        return TablaRobinHood.mezcla(dispersor.dispersa(llave));
+    }
+
+    /*
+     * Regresa el segmento de una dispersión mezclada. Usa sus bits altos,
+     * mientras que las cubetas dentro del segmento usan los bajos.
+     */
+    private Segmento segmento(int dispersion) {
+        if (segmentos.length == 1)
+            return segmentos[0];
+        return segmentos[dispersion >>> corrimiento];
+    }
+
+    /**
+     * Agrega un nuevo valor al diccionario, usando la llave proporcionada. Si la
+     * llave ya había sido utilizada antes para agregar un valor, el diccionario
+     * reemplaza ese valor con el recibido aquí.
+     *
+     * @param llave la llave para agregar el valor.
+     * @param valor el valor a agregar.
+     * @throws IllegalArgumentException si la llave o el valor son nulos.
+     */
+    public void agrega(K llave, V valor) {
+        if (llave == null || valor == null)
+            throw new IllegalArgumentException();
+        int d = dispersa(llave);
+        segmento(d).agrega(llave, valor, d, null);
+    }
+
+    /**
+     * Agrega la llave con el valor recibido si la llave no está en el
+     * diccionario; si está, reemplaza su valor por el resultado de combinar el
+     * valor anterior con el recibido. La operación es atómica. Por ejemplo,
+     * <code>agregaOActualiza(palabra, 1, Integer::sum)</code> cuenta una
+     * aparición más de la palabra.
+     *
+     * @param llave   la llave para agregar o actualizar el valor.
+     * @param valor   el valor a agregar, o a combinar con el anterior.
+     * @param combina la función que combina el valor anterior con el recibido.
+     * @return el valor asociado a la llave después de la operación.
+     * @throws IllegalArgumentException si la llave, el valor o la combinación
+     *                                  son nulos.
+     */
+    public V agregaOActualiza(K llave, V valor, BinaryOperator<V> combina) {
+        if (llave == null || valor == null || combina == null)
+            throw new IllegalArgumentException();
+        int d = dispersa(llave);
+        return segmento(d).agrega(llave, valor, d, combina);
+    }
+
+    /**
+     * Regresa el valor del diccionario asociado a la llave proporcionada.
+     *
+     * @param llave la llave para buscar el valor.
+     * @return el valor correspondiente a la llave.
+     * @throws IllegalArgumentException si la llave es nula.
+     * @throws NoSuchElementException   si la llave no está en el diccionario.
+     */
+    public V get(K llave) {
+        if (llave == null)
+            throw new IllegalArgumentException();
+        int d = dispersa(llave);
+        V valor = segmento(d).get(llave, d);
+        if (valor == null)
+            throw new NoSuchElementException();
+        return valor;
+    }
+
+    /**
+     * Nos dice si una llave se encuentra en el diccionario.
+     *
+     * @param llave la llave que queremos ver si está en el diccionario.
+     * @return <code>true</code> si la llave está en el diccionario,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean contiene(K llave) {
+        if (llave == null)
+            return false;
+        int d = dispersa(llave);
+        return segmento(d).get(llave, d) != null;
+    }
+
+    /**
+     * Elimina el valor del diccionario asociado a la llave proporcionada.
+     *
+     * @param llave la llave para buscar el valor a eliminar.
+     * @throws IllegalArgumentException si la llave es nula.
+     * @throws NoSuchElementException   si la llave no se encuentra en el
+     *                                  diccionario.
+     */
+    public void elimina(K llave) {
+        if (llave == null)
+            throw new IllegalArgumentException();
+        int d = dispersa(llave);
+        if (!segmento(d).elimina(llave, d))
+            throw new NoSuchElementException();
+    }
+
+    /**
+     * Nos dice cuántas colisiones hay en el diccionario.
+     *
+     * @return cuántas colisiones hay en el diccionario.
+     */
+    public int colisiones() {
+        int[] acumulado = new int[2];
+        for (Segmento s : segmentos)
+            s.cubetas(acumulado);
+        return acumulado[0];
+    }
+
+    /**
+     * Nos dice el máximo número de colisiones para una misma llave que tenemos en
+     * el diccionario.
+     *
+     * @return el máximo número de colisiones para una misma llave.
+     */
+    public int colisionMaxima() {
+        int[] acumulado = new int[2];
+        for (Segmento s : segmentos)
+            s.cubetas(acumulado);
+        return Math.max(acumulado[1], 0);
+    }
+
+    /**
+     * Nos dice la carga del diccionario.
+     *
+     * @return la carga del diccionario.
+     */
+    public double carga() {
+        int capacidad = 0;
+        for (Segmento s : segmentos)
+            capacidad += s.capacidad();
+        return (double) getElementos() / capacidad;
+    }
+
+    /**
+     * Regresa el número de entradas en el diccionario. Si otros hilos están
+     * modificando el diccionario, el resultado es sólo una aproximación.
+     *
+     * @return el número de entradas en el diccionario.
+     */
+    public int getElementos() {
+        int elementos = 0;
+        for (Segmento s : segmentos)
+            elementos += s.elementos;
+        return elementos;
+    }
+
+    /**
+     * Nos dice si el diccionario es vacío.
+     *
+     * @return <code>true</code> si el diccionario es vacío, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+        return getElementos() == 0;
+    }
+
+    /**
+     * Limpia el diccionario de elementos, dejándolo vacío. Cada segmento se limpia
+     * de manera atómica, pero no todos al mismo tiempo.
+     */
+    public void limpia() {
+        for (Segmento s : segmentos)
+            s.limpia();
+    }
+
+    /**
+     * Regresa una representación en cadena del diccionario.
+     *
+     * @return una representación en cadena del diccionario.
+     */
+    @Override
+    public String toString() {
+        Iterador i = new Iterador();
+        if (!i.hasNext())
+            return "{}";
+        String s = "{ ";
+        while (i.hasNext()) {
+            i.siguiente();
+            s += "'" + i.llave + "': '" + i.valor + "', ";
+        }
+        return s + "}";
+    }
+
+    /**
+     * Regresa un iterador débilmente consistente para iterar las llaves del
+     * diccionario. El diccionario se itera sin ningún orden específico.
+     *
+     * @return un iterador para iterar las llaves del diccionario.
+     */
+    public Iterator<K> iteradorLlaves() {
+        return new IteradorLlaves();
+    }
+
+    /**
+     * Regresa un iterador débilmente consistente para iterar los valores del
+     * diccionario. El diccionario se itera sin ningún orden específico.
+     *
+     * @return un iterador para iterar los valores del diccionario.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new IteradorValores();
+    }
+}
@@ -0,0 +1,364 @@
+package mx.unam.ciencias.edd;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * <p>
+ * Clase para diccionarios con llaves de tipo <code>int</code>. Las llaves se
+ * guardan en un arreglo de enteros primitivos y los valores en un arreglo
+ * paralelo, por lo que agregar una llave no crea ningún objeto además del
+ * valor mismo.
+ * </p>
+ *
+ * <p>
+ * Las colisiones se resuelven igual que en {@link DiccionarioAbierto}, con
+ * exploración lineal <em>Robin Hood</em>. Una casilla está vacía si su valor es
+ * <code>null</code>; por eso el diccionario no acepta valores nulos.
+ * </p>
+ */
+public class DiccionarioInt<V> implements Iterable<V> {
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador {
+
+        /* La siguiente casilla ocupada. */
+        private int siguiente;
+
+        /* Construye un nuevo iterador, en la primera casilla ocupada. */
+        public Iterador() {
+            siguiente = ocupada(0);
+        }
+
+        /* Regresa la primera casilla ocupada a partir de i. */
+        private int ocupada(int i) {
+            while (i < valores.length && valores[i] == null)
+                i++;
+            return i;
+        }
+
+        /* Nos dice si hay una siguiente casilla ocupada. */
+        public boolean hasNext() {
+            return siguiente < valores.length;
+        }
+
+        /* Regresa la siguiente casilla ocupada. */
+        public int siguiente() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            int i = siguiente;
+            siguiente = ocupada(i + 1);
+            return i;
+        }
+    }
+
+    /* Clase interna privada para iteradores de llaves. */
+    private class IteradorLlaves extends Iterador
+        implements PrimitiveIterator.OfInt {
+
+        /* Regresa la siguiente llave. */
+        @Override
+        public int nextInt() {
+            return llaves[super.siguiente()];
+        }
+    }
+
+    /* Clase interna privada para iteradores de valores. */
+    private class IteradorValores extends Iterador implements Iterator<V> {
+
+        /* Regresa el siguiente valor. */
+        @Override
+        public V next() {
+            return valores[super.siguiente()];
+        }
+    }
+
+    /* Clase interna privada para la tabla Robin Hood del diccionario. */
+    private class Tabla extends TablaRobinHood.Primitiva {
+
+        /* Regresa el número de casillas del diccionario. */
+        @Override
+        int capacidad() {
+            return llaves.length;
+        }
+
+        /* Nos dice si la casilla i está ocupada. */
+        @Override
+        boolean ocupada(int i) {
+            return valores[i] != null;
+        }
+
+        /* Regresa la dispersión de la llave en la casilla i. */
+        @Override
+        int dispersion(int i) {
+            return mezcla(llaves[i]);
+        }
+
+        /* Copia la casilla origen a la casilla destino. */
+        @Override
+        void mueve(int origen, int destino) {
+            llaves[destino] = llaves[origen];
+            valores[destino] = valores[origen];
+        }
+
+        /* Vacía la casilla i. */
+        @Override
+        void vacia(int i) {
+            valores[i] = null;
+        }
+
+        /* Nos dice si en la casilla i está la llave. */
+        @Override
+        boolean esLlave(int i, long llave) {
+            return llaves[i] == llave;
+        }
+    }
+
+    /** Máxima carga permitida por el diccionario. */
+    public static final double MAXIMA_CARGA = 0.72;
+
+    /* Capacidad mínima; decidida arbitrariamente a 2^6. */
+    private static final int MINIMA_CAPACIDAD = 64;
+
+    /* Las llaves. */
+    private int[] llaves;
+    /* Los valores; una casilla es vacía si su valor es null. */
+    private V[] valores;
+    /* Número de valores. */
+    private int elementos;
+    /* La tabla Robin Hood sobre los arreglos. */
+    private Tabla tabla = new Tabla();
+
+    /**
+     * Construye un diccionario con una capacidad inicial predeterminada.
+     */
+    public DiccionarioInt() {
+        this(MINIMA_CAPACIDAD);
+    }
+
+    /**
+     * Construye un diccionario con una capacidad inicial definida por el usuario.
+     *
+     * @param capacidad la capacidad a utilizar.
+     */
+    public DiccionarioInt(int capacidad) {
+        if (capacidad < MINIMA_CAPACIDAD)
+            capacidad = MINIMA_CAPACIDAD;
+        int potencia = 1;
+        while (potencia < capacidad * 2)
+            potencia *= 2;
+        inicializa(potencia);
+    }
+
+    /* Crea los arreglos paralelos con la capacidad recibida. */
+    @SuppressWarnings("unchecked")
+    private void inicializa(int capacidad) {
+        llaves = new int[capacidad];
+        valores = (V[]) new Object[capacidad];
+    }
+
+    /* Regresa la casilla de la llave, o -1 si no está en el diccionario. */
+    private int indice(int llave) {
+        return tabla.indice(llave, TablaRobinHood.mezcla(llave));
+    }
+
+    /* Inserta una llave que sabemos que no está en el diccionario. */
+    private void inserta(int llave, V valor) {
+        int i = tabla.abre(TablaRobinHood.mezcla(llave));
+        llaves[i] = llave;
+        valores[i] = valor;
+    }
+
+    /* Duplica la capacidad del diccionario. */
+    private void crece() {
+        int[] ll = llaves;
+        V[] vs = valores;
+        inicializa(ll.length * 2);
+        for (int i = 0; i < ll.length; i++)
+            if (vs[i] != null)
+                inserta(ll[i], vs[i]);
+    }
+
+    /**
+     * Agrega un nuevo valor al diccionario, usando la llave proporcionada. Si la
+     * llave ya había sido utilizada antes para agregar un valor, el diccionario
+     * reemplaza ese valor con el recibido aquí.
+     *
+     * @param llave la llave para agregar el valor.
+     * @param valor el valor a agregar.
+     * @throws IllegalArgumentException si el valor es nulo.
+     */
+    public void agrega(int llave, V valor) {
+        if (valor == null)
+            throw new IllegalArgumentException();
+        int i = indice(llave);
+        if (i != -1) {
+            valores[i] = valor;
+            return;
+        }
+        inserta(llave, valor);
+        elementos++;
+        if (carga() >= MAXIMA_CARGA)
+            crece();
+    }
+
+    /**
+     * Regresa el valor del diccionario asociado a la llave proporcionada.
+     *
+     * @param llave la llave para buscar el valor.
+     * @return el valor correspondiente a la llave.
+     * @throws NoSuchElementException si la llave no está en el diccionario.
+     */
+    public V get(int llave) {
+        int i = indice(llave);
+        if (i == -1)
+            throw new NoSuchElementException();
+        return valores[i];
+    }
+
+    /**
+     * Nos dice si una llave se encuentra en el diccionario.
+     *
+     * @param llave la llave que queremos ver si está en el diccionario.
+     * @return <code>true</code> si la llave está en el diccionario,
+     *         <code>false</code> en otro caso.
+     */
+    public boolean contiene(int llave) {
+        return indice(llave) != -1;
+    }
+
+    /**
+     * Elimina el valor del diccionario asociado a la llave proporcionada.
+     *
+     * @param llave la llave para buscar el valor a eliminar.
+     * @throws NoSuchElementException si la llave no se encuentra en el
+     *                                diccionario.
+     */
+    public void elimina(int llave) {
+        int i = indice(llave);
+        if (i == -1)
+            throw new NoSuchElementException();
+        tabla.saca(i);
+        elementos--;
+    }
+
+    /**
+     * Nos dice cuántas colisiones hay en el diccionario, es decir, cuántas llaves
+     * no están en su casilla original.
+     *
+     * @return cuántas colisiones hay en el diccionario.
+     */
+    public int colisiones() {
+        return tabla.cuentaColisiones();
+    }
+
+    /**
+     * Nos dice el máximo número de colisiones para una misma llave que tenemos en
+     * el diccionario, es decir, la máxima distancia de una llave a su casilla
+     * original.
+     *
+     * @return el máximo número de colisiones para una misma llave.
+     */
+    public int colisionMaxima() {
+        return tabla.distanciaMaxima();
+    }
+
+    /**
+     * Nos dice la carga del diccionario.
+     *
+     * @return la carga del diccionario.
+     */
+    public double carga() {
+        return (double) elementos / llaves.length;
+    }
+
+    /**
+     * Regresa el número de entradas en el diccionario.
+     *
+     * @return el número de entradas en el diccionario.
+     */
+    public int getElementos() {
+        return elementos;
+    }
+
+    /**
+     * Nos dice si el diccionario es vacío.
+     *
+     * @return <code>true</code> si el diccionario es vacío, <code>false</code> en
+     *         otro caso.
+     */
+    public boolean esVacia() {
+        return elementos == 0;
+    }
+
+    /**
+     * Limpia el diccionario de elementos, dejándolo vacío.
+     */
+    public void limpia() {
+        inicializa(MINIMA_CAPACIDAD);
+        elementos = 0;
+    }
+
+    /**
+     * Regresa una representación en cadena del diccionario.
+     *
+     * @return una representación en cadena del diccionario.
+     */
+    @Override
+    public String toString() {
+        if (esVacia())
+            return "{}";
+        String s = "{ ";
+        for (int i = 0; i < valores.length; i++)
+            if (valores[i] != null)
+                s += "'" + llaves[i] + "': '" + valores[i] + "', ";
+        return s + "}";
+    }
+
+    /**
+     * Nos dice si el diccionario es igual al objeto recibido.
+     *
+     * @param o el objeto que queremos saber si es igual al diccionario.
+     * @return <code>true</code> si el objeto recibido es instancia de
+     *         DiccionarioInt, y tiene las mismas llaves asociadas a los mismos
+     *         valores.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass())
+            return false;
+        @SuppressWarnings("unchecked")
+        DiccionarioInt<V> d = (DiccionarioInt<V>) o;
+        if (getElementos() != d.getElementos())
+            return false;
+        for (int i = 0; i < valores.length; i++)
+            if (valores[i] != null) {
+                int j = d.indice(llaves[i]);
+                if (j == -1 || !d.valores[j].equals(valores[i]))
+                    return false;
+            }
+        return true;
+    }
+
+    /**
+     * Regresa un iterador para iterar las llaves del diccionario. El diccionario se
+     * itera sin ningún orden específico.
+     *
+     * @return un iterador para iterar las llaves del diccionario.
+     */
+    public PrimitiveIterator.OfInt iteradorLlaves() {
+        return new IteradorLlaves();
+    }
+
+    /**
+     * Regresa un iterador para iterar los valores del diccionario. El diccionario
+     * se itera sin ningún orden específico.
+     *
+     * @return un iterador para iterar los valores del diccionario.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new IteradorValores();
+    }
+}
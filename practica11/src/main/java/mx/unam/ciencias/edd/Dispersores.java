@@ -1,42 +1,123 @@
 package mx.unam.ciencias.edd;
 
 /**
+ * <p>
  * Clase para métodos estáticos con dispersores de bytes.
+ * </p>
+ *
+ * <p>
+ * Ningún dispersor crea objetos: los bytes se leen de cuatro en cuatro
+ * directamente del arreglo, y las versiones para {@link CharSequence}
+ * codifican la secuencia en UTF-8, por lo que su dispersión es idéntica a la
+ * de los bytes UTF-8 de la secuencia. XOR, Bob Jenkins, Daniel J. Bernstein y
+ * SipHash la codifican al vuelo; MurmurHash3, xxHash y wyhash, que necesitan
+ * conocer la longitud antes de empezar o leer la llave fuera de orden, la
+ * codifican en un arreglo de cada hilo que se reutiliza entre llamadas.
+ * </p>
  */
 public class Dispersores {
 
+    /* Primos de xxHash32. */
+    private static final int XXH32_1 = 0x9E3779B1;
+    private static final int XXH32_2 = 0x85EBCA77;
+    private static final int XXH32_3 = 0xC2B2AE3D;
+    private static final int XXH32_4 = 0x27D4EB2F;
+    private static final int XXH32_5 = 0x165667B1;
+
+    /* Primos de xxHash64. */
+    private static final long XXH64_1 = 0x9E3779B185EBCA87L;
+    private static final long XXH64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long XXH64_3 = 0x165667B19E3779F9L;
+    private static final long XXH64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long XXH64_5 = 0x27D4EB2F165667C5L;
+
+    /* El secreto por omisión de wyhash. */
+    private static final long WY_0 = 0xA0761D6478BD642FL;
+    private static final long WY_1 = 0xE7037ED1A0B428DBL;
+    private static final long WY_2 = 0x8EBC6AF09C88C6E3L;
+    private static final long WY_3 = 0x589965CC75374CC3L;
+
+    /*
+     * El tamaño máximo del arreglo que guarda cada hilo para codificar
+     * secuencias; las más largas usan un arreglo nuevo cada vez.
+     */
+    private static final int MAXIMO_CODIFICADOR = 4096;
+
+    /* El arreglo de cada hilo donde se codifican las secuencias en UTF-8. */
+    private static final ThreadLocal<byte[]> CODIFICADOR =
+        ThreadLocal.withInitial(() -> new byte[64]);
+
     /* Constructor privado para evitar instanciación. */
     private Dispersores() {
     }
 
     /**
      * Función de dispersión XOR.
-     * 
+     *
      * @param llave la llave a dispersar.
      * @return la dispersión de XOR de la llave.
      */
     public static int dispersaXOR(byte[] llave) {
+        return dispersaXOR(llave, 0, llave.length);
+    }
+
+    /**
+     * Función de dispersión XOR sobre un rango de un arreglo de bytes.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @return la dispersión de XOR de la llave.
+     */
+    public static int dispersaXOR(byte[] llave, int inicio, int longitud) {
         int r = 0;
-        int i = 0;
-        int l = llave.length;
+        int i = inicio;
+        int l = longitud;
         while (l >= 4) {
-            r ^= combina(llave[i + 3], llave[i + 2], llave[i + 1], llave[i]);
+            r ^= enteroBE(llave, i);
             i += 4;
             l -= 4;
         }
-        if (l == 0)
-            return r;
-        else if (l == 2) {
-            r ^= combina((byte) 0, (byte) 0, llave[i + 1], llave[i]);
-            return r;
-        } else if (l == 1) {
-                r ^= combina((byte) 0 , (byte) 0, (byte) 0, llave[i]);
-                return r;
+        switch (l) {
+            case 3:
+                r ^= (llave[i + 2] & 0xFF) << 8;
+            case 2:
+                r ^= (llave[i + 1] & 0xFF) << 16;
+            case 1:
+                r ^= (llave[i] & 0xFF) << 24;
         }
-        r ^= combina((byte) 0, llave[i + 2], llave[i + 1], llave[i]);
         return r;
     }
 
+    /**
+     * Función de dispersión XOR sobre los bytes UTF-8 de una secuencia de
+     * caracteres.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión de XOR de la llave.
+     */
+    public static int dispersaXOR(CharSequence llave) {
+        int r = 0;
+        int w = 0;
+        int p = 0;
+        int n = llave.length();
+        for (int i = 0; i < n; ) {
+            long u = utf8(llave, i);
+            i += consumidos(u);
+            int bytes = (int) u;
+            for (int j = numeroBytes(u); j > 0; j--) {
+                w |= (bytes & 0xFF) << (24 - 8 * p);
+                bytes >>>= 8;
+                if (++p == 4) {
+                    r ^= w;
+                    w = 0;
+                    p = 0;
+                }
+            }
+        }
+        return r ^ w;
+    }
+
     /**
      * Función de dispersión de Bob Jenkins.
      *
@@ -44,28 +125,45 @@ public class Dispersores {
      * @return la dispersión de Bob Jenkins de la llave.
      */
     public static int dispersaBJ(byte[] llave) {
+        return dispersaBJ(llave, 0, llave.length);
+    }
+
+    /**
+     * Función de dispersión de Bob Jenkins sobre un rango de un arreglo de bytes.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @return la dispersión de Bob Jenkins de la llave.
+     */
+    public static int dispersaBJ(byte[] llave, int inicio, int longitud) {
         int a = 0x9E3779B9;
         int b = 0x9E3779B9;
         int c = 0xFFFFFFFF;
-        int i = 0;
-        int l = llave.length;
-        int[] arr = new int[3];
+        int i = inicio;
+        int l = longitud;
 
         while (l >= 12) {
-            a += combina(llave[i], llave[i + 1], llave[i + 2], llave[i + 3]);
-            b += combina(llave[i + 4], llave[i + 5], llave[i + 6], llave[i + 7]);
-            c += combina(llave[i + 8], llave[i + 9], llave[i + 10], llave[i + 11]);
+            a += enteroLE(llave, i);
+            b += enteroLE(llave, i + 4);
+            c += enteroLE(llave, i + 8);
 
-            arr = mezcla(a, b, c);
-            a = arr[0];
-            b = arr[1];
-            c = arr[2];
+            /* La mezcla va en línea para no crear un arreglo con a, b y c. */
+            a -= b; a -= c; a ^= c >>> 13;
+            b -= c; b -= a; b ^= a << 8;
+            c -= a; c -= b; c ^= b >>> 13;
+            a -= b; a -= c; a ^= c >>> 12;
+            b -= c; b -= a; b ^= a << 16;
+            c -= a; c -= b; c ^= b >>> 5;
+            a -= b; a -= c; a ^= c >>> 3;
+            b -= c; b -= a; b ^= a << 10;
+            c -= a; c -= b; c ^= b >>> 15;
 
             i += 12;
             l -= 12;
         }
 
-        c += llave.length;
+        c += longitud;
 
         switch (l) {
             case 11:
@@ -92,30 +190,659 @@ public class Dispersores {
                 a += (llave[i] & 0xFF);
         }
 
-        arr = mezcla(a, b, c);
-        return arr[2];
+        return mezcla(a, b, c);
+    }
+
+    /**
+     * Función de dispersión de Bob Jenkins sobre los bytes UTF-8 de una
+     * secuencia de caracteres.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión de Bob Jenkins de la llave.
+     */
+    public static int dispersaBJ(CharSequence llave) {
+        int a = 0x9E3779B9;
+        int b = 0x9E3779B9;
+        int c = 0xFFFFFFFF;
+        /* Los bytes 8 a 11 del bloque; en la cola van corridos un byte. */
+        int cola = 0;
+        int p = 0;
+        int longitud = 0;
+        int n = llave.length();
+        for (int i = 0; i < n; ) {
+            long u = utf8(llave, i);
+            i += consumidos(u);
+            int bytes = (int) u;
+            for (int j = numeroBytes(u); j > 0; j--) {
+                int x = bytes & 0xFF;
+                bytes >>>= 8;
+                longitud++;
+                if (p < 4)
+                    a += x << (8 * p);
+                else if (p < 8)
+                    b += x << (8 * (p - 4));
+                else
+                    cola |= x << (8 * (p - 8));
+                if (++p == 12) {
+                    c += cola;
+                    /* Igual que en dispersaBJ(byte[], int, int). */
+                    a -= b; a -= c; a ^= c >>> 13;
+                    b -= c; b -= a; b ^= a << 8;
+                    c -= a; c -= b; c ^= b >>> 13;
+                    a -= b; a -= c; a ^= c >>> 12;
+                    b -= c; b -= a; b ^= a << 16;
+                    c -= a; c -= b; c ^= b >>> 5;
+                    a -= b; a -= c; a ^= c >>> 3;
+                    b -= c; b -= a; b ^= a << 10;
+                    c -= a; c -= b; c ^= b >>> 15;
+                    cola = 0;
+                    p = 0;
+                }
+            }
+        }
+        c += longitud + (cola << 8);
+        return mezcla(a, b, c);
     }
 
     /**
      * Función de dispersión Daniel J. Bernstein.
-     * 
+     *
      * @param llave la llave a dispersar.
      * @return la dispersión de Daniel Bernstein de la llave.
      */
     public static int dispersaDJB(byte[] llave) {
+        return dispersaDJB(llave, 0, llave.length);
+    }
+
+    /**
+     * Función de dispersión Daniel J. Bernstein sobre un rango de un arreglo de
+     * bytes.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @return la dispersión de Daniel Bernstein de la llave.
+     */
+    public static int dispersaDJB(byte[] llave, int inicio, int longitud) {
         int h = 5381;
-        for (int i = 0; i < llave.length; i++)
+        for (int i = inicio; i < inicio + longitud; i++)
             h += (h << 5) + (llave[i] & 0xFF);
         return h;
     }
 
-    private static int combina(byte a, byte b, byte c, byte d) {
-        return ((a & 0xFF)) | ((b & 0xFF) << 8) | ((c & 0xFF) << 16) | ((d & 0xFF) << 24);
+    /**
+     * Función de dispersión Daniel J. Bernstein sobre los bytes UTF-8 de una
+     * secuencia de caracteres.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión de Daniel Bernstein de la llave.
+     */
+    public static int dispersaDJB(CharSequence llave) {
+        int h = 5381;
+        int n = llave.length();
+        for (int i = 0; i < n; ) {
+            char c = llave.charAt(i);
+            if (c < 0x80) {
+                h += (h << 5) + c;
+                i++;
+                continue;
+            }
+            long u = utf8(llave, i);
+            i += consumidos(u);
+            int bytes = (int) u;
+            for (int j = numeroBytes(u); j > 0; j--) {
+                h += (h << 5) + (bytes & 0xFF);
+                bytes >>>= 8;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Función de dispersión MurmurHash3 de 32 bits, con semilla 0.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión MurmurHash3 de la llave.
+     */
+    public static int dispersaMurmur3(byte[] llave) {
+        return dispersaMurmur3(llave, 0, llave.length);
+    }
+
+    /**
+     * Función de dispersión MurmurHash3 de 32 bits, con semilla 0, sobre un
+     * rango de un arreglo de bytes.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @return la dispersión MurmurHash3 de la llave.
+     */
+    public static int dispersaMurmur3(byte[] llave, int inicio, int longitud) {
+        int h = 0;
+        int i = inicio;
+        int fin = inicio + (longitud & ~3);
+        for (; i < fin; i += 4) {
+            h ^= murmur3K(enteroLE(llave, i));
+            h = Integer.rotateLeft(h, 13) * 5 + 0xE6546B64;
+        }
+        int k = 0;
+        switch (longitud & 3) {
+            case 3:
+                k ^= (llave[i + 2] & 0xFF) << 16;
+            case 2:
+                k ^= (llave[i + 1] & 0xFF) << 8;
+            case 1:
+                k ^= llave[i] & 0xFF;
+                h ^= murmur3K(k);
+        }
+        h ^= longitud;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Función de dispersión MurmurHash3 de 32 bits, con semilla 0, sobre los bytes UTF-8 de una
+     * secuencia de caracteres.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión MurmurHash3 de la llave.
+     */
+    public static int dispersaMurmur3(CharSequence llave) {
+        byte[] bytes = codificador(llave.length());
+        return dispersaMurmur3(bytes, 0, codifica(llave, bytes));
+    }
+
+    /* Revuelve un bloque de MurmurHash3. */
+    private static int murmur3K(int k) {
+        return Integer.rotateLeft(k * 0xCC9E2D51, 15) * 0x1B873593;
+    }
+
+    /**
+     * Función de dispersión xxHash de 32 bits, con semilla 0.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión xxHash32 de la llave.
+     */
+    public static int dispersaXXH32(byte[] llave) {
+        return dispersaXXH32(llave, 0, llave.length);
+    }
+
+    /**
+     * Función de dispersión xxHash de 32 bits, con semilla 0, sobre un rango de
+     * un arreglo de bytes.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @return la dispersión xxHash32 de la llave.
+     */
+    public static int dispersaXXH32(byte[] llave, int inicio, int longitud) {
+        int i = inicio;
+        int fin = inicio + longitud;
+        int h;
+        if (longitud >= 16) {
+            int v1 = XXH32_1 + XXH32_2;
+            int v2 = XXH32_2;
+            int v3 = 0;
+            int v4 = -XXH32_1;
+            for (; i + 16 <= fin; i += 16) {
+                v1 = xxh32Ronda(v1, enteroLE(llave, i));
+                v2 = xxh32Ronda(v2, enteroLE(llave, i + 4));
+                v3 = xxh32Ronda(v3, enteroLE(llave, i + 8));
+                v4 = xxh32Ronda(v4, enteroLE(llave, i + 12));
+            }
+            h = Integer.rotateLeft(v1, 1) + Integer.rotateLeft(v2, 7) +
+                Integer.rotateLeft(v3, 12) + Integer.rotateLeft(v4, 18);
+        } else {
+            h = XXH32_5;
+        }
+        h += longitud;
+        for (; i + 4 <= fin; i += 4)
+            h = Integer.rotateLeft(h + enteroLE(llave, i) * XXH32_3, 17) *
+                XXH32_4;
+        for (; i < fin; i++)
+            h = Integer.rotateLeft(h + (llave[i] & 0xFF) * XXH32_5, 11) *
+                XXH32_1;
+        h ^= h >>> 15;
+        h *= XXH32_2;
+        h ^= h >>> 13;
+        h *= XXH32_3;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Función de dispersión xxHash de 32 bits, con semilla 0, sobre los bytes UTF-8 de una
+     * secuencia de caracteres.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión xxHash32 de la llave.
+     */
+    public static int dispersaXXH32(CharSequence llave) {
+        byte[] bytes = codificador(llave.length());
+        return dispersaXXH32(bytes, 0, codifica(llave, bytes));
+    }
+
+    /* Una ronda de xxHash32. */
+    private static int xxh32Ronda(int v, int k) {
+        return Integer.rotateLeft(v + k * XXH32_2, 13) * XXH32_1;
+    }
+
+    /**
+     * Función de dispersión xxHash de 64 bits, con semilla 0.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión xxHash64 de la llave.
+     */
+    public static long dispersaXXH64(byte[] llave) {
+        return dispersaXXH64(llave, 0, llave.length);
+    }
+
+    /**
+     * Función de dispersión xxHash de 64 bits, con semilla 0, sobre un rango de
+     * un arreglo de bytes.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @return la dispersión xxHash64 de la llave.
+     */
+    public static long dispersaXXH64(byte[] llave, int inicio, int longitud) {
+        int i = inicio;
+        int fin = inicio + longitud;
+        long h;
+        if (longitud >= 32) {
+            long v1 = XXH64_1 + XXH64_2;
+            long v2 = XXH64_2;
+            long v3 = 0;
+            long v4 = -XXH64_1;
+            for (; i + 32 <= fin; i += 32) {
+                v1 = xxh64Ronda(v1, largoLE(llave, i));
+                v2 = xxh64Ronda(v2, largoLE(llave, i + 8));
+                v3 = xxh64Ronda(v3, largoLE(llave, i + 16));
+                v4 = xxh64Ronda(v4, largoLE(llave, i + 24));
+            }
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) +
+                Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = (h ^ xxh64Ronda(0, v1)) * XXH64_1 + XXH64_4;
+            h = (h ^ xxh64Ronda(0, v2)) * XXH64_1 + XXH64_4;
+            h = (h ^ xxh64Ronda(0, v3)) * XXH64_1 + XXH64_4;
+            h = (h ^ xxh64Ronda(0, v4)) * XXH64_1 + XXH64_4;
+        } else {
+            h = XXH64_5;
+        }
+        h += longitud;
+        for (; i + 8 <= fin; i += 8) {
+            h ^= xxh64Ronda(0, largoLE(llave, i));
+            h = Long.rotateLeft(h, 27) * XXH64_1 + XXH64_4;
+        }
+        if (i + 4 <= fin) {
+            h ^= (enteroLE(llave, i) & 0xFFFFFFFFL) * XXH64_1;
+            h = Long.rotateLeft(h, 23) * XXH64_2 + XXH64_3;
+            i += 4;
+        }
+        for (; i < fin; i++) {
+            h ^= (llave[i] & 0xFF) * XXH64_5;
+            h = Long.rotateLeft(h, 11) * XXH64_1;
+        }
+        h ^= h >>> 33;
+        h *= XXH64_2;
+        h ^= h >>> 29;
+        h *= XXH64_3;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * Función de dispersión xxHash de 64 bits, con semilla 0, sobre los bytes UTF-8 de una
+     * secuencia de caracteres.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión xxHash64 de la llave.
+     */
+    public static long dispersaXXH64(CharSequence llave) {
+        byte[] bytes = codificador(llave.length());
+        return dispersaXXH64(bytes, 0, codifica(llave, bytes));
+    }
+
+    /* Una ronda de xxHash64. */
+    private static long xxh64Ronda(long v, long k) {
+        return Long.rotateLeft(v + k * XXH64_2, 31) * XXH64_1;
+    }
+
+    /**
+     * Función de dispersión wyhash (versión <em>final4</em>), con semilla 0.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión wyhash de la llave.
+     */
+    public static long dispersaWy(byte[] llave) {
+        return dispersaWy(llave, 0, llave.length);
+    }
+
+    /**
+     * Función de dispersión wyhash (versión <em>final4</em>), con semilla 0,
+     * sobre un rango de un arreglo de bytes.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @return la dispersión wyhash de la llave.
+     */
+    public static long dispersaWy(byte[] llave, int inicio, int longitud) {
+        return dispersaWy(llave, inicio, longitud, 0);
+    }
+
+    /**
+     * Función de dispersión wyhash (versión <em>final4</em>) con la semilla
+     * recibida, sobre un rango de un arreglo de bytes.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @param semilla la semilla.
+     * @return la dispersión wyhash de la llave.
+     */
+    public static long dispersaWy(byte[] llave, int inicio, int longitud,
+                                  long semilla) {
+        long s = semilla ^ wyMezcla(semilla ^ WY_0, WY_1);
+        long a, b;
+        if (longitud <= 16) {
+            if (longitud >= 4) {
+                int d = (longitud >>> 3) << 2;
+                int f = inicio + longitud - 4;
+                a = ((enteroLE(llave, inicio) & 0xFFFFFFFFL) << 32) |
+                    (enteroLE(llave, inicio + d) & 0xFFFFFFFFL);
+                b = ((enteroLE(llave, f) & 0xFFFFFFFFL) << 32) |
+                    (enteroLE(llave, f - d) & 0xFFFFFFFFL);
+            } else if (longitud > 0) {
+                a = ((llave[inicio] & 0xFFL) << 16) |
+                    ((llave[inicio + (longitud >>> 1)] & 0xFFL) << 8) |
+                    (llave[inicio + longitud - 1] & 0xFFL);
+                b = 0;
+            } else {
+                a = b = 0;
+            }
+        } else {
+            int i = inicio;
+            int l = longitud;
+            if (l > 48) {
+                long s1 = s;
+                long s2 = s;
+                do {
+                    s = wyMezcla(largoLE(llave, i) ^ WY_1,
+                                 largoLE(llave, i + 8) ^ s);
+                    s1 = wyMezcla(largoLE(llave, i + 16) ^ WY_2,
+                                  largoLE(llave, i + 24) ^ s1);
+                    s2 = wyMezcla(largoLE(llave, i + 32) ^ WY_3,
+                                  largoLE(llave, i + 40) ^ s2);
+                    i += 48;
+                    l -= 48;
+                } while (l > 48);
+                s ^= s1 ^ s2;
+            }
+            while (l > 16) {
+                s = wyMezcla(largoLE(llave, i) ^ WY_1, largoLE(llave, i + 8) ^ s);
+                i += 16;
+                l -= 16;
+            }
+            a = largoLE(llave, i + l - 16);
+            b = largoLE(llave, i + l - 8);
+        }
+        a ^= WY_1;
+        b ^= s;
+        long bajo = a * b;
+        long alto = altoSinSigno(a, b);
+        return wyMezcla(bajo ^ WY_0 ^ longitud, alto ^ WY_1);
+    }
+
+    /**
+     * Función de dispersión wyhash (versión <em>final4</em>), con semilla 0,
+     * sobre los bytes UTF-8 de una secuencia de caracteres.
+     *
+     * @param llave la llave a dispersar.
+     * @return la dispersión wyhash de la llave.
+     */
+    public static long dispersaWy(CharSequence llave) {
+        byte[] bytes = codificador(llave.length());
+        return dispersaWy(bytes, 0, codifica(llave, bytes));
+    }
+
+    /* Multiplica a por b a 128 bits y regresa el XOR de ambas mitades. */
+    private static long wyMezcla(long a, long b) {
+        return (a * b) ^ altoSinSigno(a, b);
     }
 
-    private static int[] mezcla(int a, int b, int c) {
-        int[] m = new int[3];
+    /* Regresa los 64 bits altos del producto sin signo de a y b. */
+    private static long altoSinSigno(long a, long b) {
+        long a0 = a & 0xFFFFFFFFL;
+        long a1 = a >>> 32;
+        long b0 = b & 0xFFFFFFFFL;
+        long b1 = b >>> 32;
+        long p01 = a0 * b1;
+        long p10 = a1 * b0;
+        long medio = ((a0 * b0) >>> 32) + (p01 & 0xFFFFFFFFL) +
+            (p10 & 0xFFFFFFFFL);
+        return a1 * b1 + (p01 >>> 32) + (p10 >>> 32) + (medio >>> 32);
+    }
 
+    /**
+     * Función de dispersión SipHash-2-4 con llave de 128 bits. A diferencia de
+     * los demás dispersores, sin conocer la llave no es posible construir
+     * entradas que choquen a propósito.
+     *
+     * @param llave el arreglo con la llave a dispersar.
+     * @param inicio el índice del primer byte de la llave.
+     * @param longitud el número de bytes de la llave.
+     * @param k0 los 64 bits bajos de la llave secreta.
+     * @param k1 los 64 bits altos de la llave secreta.
+     * @return la dispersión SipHash de la llave.
+     */
+    public static long dispersaSip(byte[] llave, int inicio, int longitud,
+                                   long k0, long k1) {
+        long v0 = k0 ^ 0x736F6D6570736575L;
+        long v1 = k1 ^ 0x646F72616E646F6DL;
+        long v2 = k0 ^ 0x6C7967656E657261L;
+        long v3 = k1 ^ 0x7465646279746573L;
+        int i = inicio;
+        int fin = inicio + longitud;
+        for (; i + 8 <= fin; i += 8) {
+            long m = largoLE(llave, i);
+            v3 ^= m;
+            for (int r = 0; r < 2; r++) {
+                v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0;
+                v0 = Long.rotateLeft(v0, 32);
+                v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2;
+                v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+        long b = (long) longitud << 56;
+        for (int j = 0; i < fin; i++, j += 8)
+            b |= (llave[i] & 0xFFL) << j;
+        return sipTermina(v0, v1, v2, v3, b);
+    }
+
+    /**
+     * Función de dispersión SipHash-2-4 sobre los bytes UTF-8 de una secuencia
+     * de caracteres.
+     *
+     * @param llave la llave a dispersar.
+     * @param k0 los 64 bits bajos de la llave secreta.
+     * @param k1 los 64 bits altos de la llave secreta.
+     * @return la dispersión SipHash de la llave.
+     */
+    public static long dispersaSip(CharSequence llave, long k0, long k1) {
+        long v0 = k0 ^ 0x736F6D6570736575L;
+        long v1 = k1 ^ 0x646F72616E646F6DL;
+        long v2 = k0 ^ 0x6C7967656E657261L;
+        long v3 = k1 ^ 0x7465646279746573L;
+        long m = 0;
+        int p = 0;
+        long longitud = 0;
+        int n = llave.length();
+        for (int i = 0; i < n; ) {
+            long u = utf8(llave, i);
+            i += consumidos(u);
+            int bytes = (int) u;
+            for (int j = numeroBytes(u); j > 0; j--) {
+                m |= (bytes & 0xFFL) << (8 * p);
+                bytes >>>= 8;
+                longitud++;
+                if (++p < 8)
+                    continue;
+                /* Igual que en dispersaSip(byte[], int, int, long, long). */
+                v3 ^= m;
+                for (int r = 0; r < 2; r++) {
+                    v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0;
+                    v0 = Long.rotateLeft(v0, 32);
+                    v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                    v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                    v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2;
+                    v2 = Long.rotateLeft(v2, 32);
+                }
+                v0 ^= m;
+                m = 0;
+                p = 0;
+            }
+        }
+        return sipTermina(v0, v1, v2, v3, (longitud << 56) | m);
+    }
+
+    /* Procesa el último bloque de SipHash y regresa la dispersión. */
+    private static long sipTermina(long v0, long v1, long v2, long v3, long b) {
+        v3 ^= b;
+        for (int r = 0; r < 6; r++) {
+            /* Dos rondas para el último bloque y cuatro de finalización. */
+            if (r == 2) {
+                v0 ^= b;
+                v2 ^= 0xFF;
+            }
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0;
+            v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2;
+            v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    /**
+     * Mezcla un entero con una semilla de 64 bits, de manera que sin conocer la
+     * semilla no puede predecirse a qué cubeta va a dar. Sirve para revolver el
+     * {@link Object#hashCode} de llaves que no son secuencias de caracteres;
+     * enteros iguales siguen dando mezclas iguales.
+     *
+     * @param llave el entero a mezclar.
+     * @param semilla la semilla.
+     * @return la mezcla del entero con la semilla.
+     */
+    public static int mezclaConSemilla(int llave, long semilla) {
+        long h = (llave & 0xFFFFFFFFL) ^ semilla;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /* Lee un entero big-endian de cuatro bytes a partir de i. */
+    private static int enteroBE(byte[] a, int i) {
+        return ((a[i] & 0xFF) << 24) | ((a[i + 1] & 0xFF) << 16) |
+            ((a[i + 2] & 0xFF) << 8) | (a[i + 3] & 0xFF);
+    }
+
+    /* Lee un entero little-endian de cuatro bytes a partir de i. */
+    private static int enteroLE(byte[] a, int i) {
+        return (a[i] & 0xFF) | ((a[i + 1] & 0xFF) << 8) |
+            ((a[i + 2] & 0xFF) << 16) | ((a[i + 3] & 0xFF) << 24);
+    }
+
+    /* Lee un entero largo little-endian de ocho bytes a partir de i. */
+    private static long largoLE(byte[] a, int i) {
+        return (enteroLE(a, i) & 0xFFFFFFFFL) |
+            ((long) enteroLE(a, i + 4) << 32);
+    }
+
+    /*
+     * Codifica en UTF-8 el carácter (o par sustituto) en la posición i. Los
+     * bytes van empacados en los 32 bits bajos, el primero en el byte menos
+     * significativo; en los bits 32 a 34 va el número de bytes, y en el bit 35
+     * si se consumieron dos caracteres. Igual que String.getBytes, un sustituto
+     * sin pareja se codifica como '?'.
+     */
+    private static long utf8(CharSequence s, int i) {
+        char c = s.charAt(i);
+        if (c < 0x80)
+            return c | (1L << 32);
+        if (c < 0x800)
+            return (0xC0 | (c >>> 6)) | ((0x80 | (c & 0x3F)) << 8) | (2L << 32);
+        if (Character.isSurrogate(c)) {
+            if (Character.isHighSurrogate(c) && i + 1 < s.length() &&
+                Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(i + 1));
+                return (0xF0 | (cp >>> 18)) |
+                    ((0x80 | ((cp >>> 12) & 0x3F)) << 8) |
+                    ((0x80 | ((cp >>> 6) & 0x3F)) << 16) |
+                    ((long) (0x80 | (cp & 0x3F)) << 24) |
+                    (4L << 32) | (1L << 35);
+            }
+            return '?' | (1L << 32);
+        }
+        return (0xE0 | (c >>> 12)) | ((0x80 | ((c >>> 6) & 0x3F)) << 8) |
+            ((0x80 | (c & 0x3F)) << 16) | (3L << 32);
+    }
+
+    /*
+     * Regresa un arreglo con espacio para codificar en UTF-8 una secuencia de n
+     * caracteres; a lo más son tres bytes por carácter.
+     */
+    private static byte[] codificador(int n) {
+        int capacidad = 3 * n;
+        if (capacidad > MAXIMO_CODIFICADOR)
+            return new byte[capacidad];
+        byte[] bytes = CODIFICADOR.get();
+        if (bytes.length < capacidad) {
+            bytes = new byte[Math.min(2 * capacidad, MAXIMO_CODIFICADOR)];
+            CODIFICADOR.set(bytes);
+        }
+        return bytes;
+    }
+
+    /*
+     * Codifica en UTF-8 la secuencia en el arreglo, que debe tener espacio
+     * suficiente, y regresa el número de bytes escritos.
+     */
+    private static int codifica(CharSequence s, byte[] bytes) {
+        int longitud = 0;
+        int n = s.length();
+        for (int i = 0; i < n; ) {
+            long u = utf8(s, i);
+            i += consumidos(u);
+            int b = (int) u;
+            for (int j = numeroBytes(u); j > 0; j--) {
+                bytes[longitud++] = (byte) b;
+                b >>>= 8;
+            }
+        }
+        return longitud;
+    }
+
+    /* Regresa el número de bytes de una codificación de utf8. */
+    private static int numeroBytes(long u) {
+        return (int) (u >>> 32) & 0x7;
+    }
+
+    /* Regresa el número de caracteres consumidos por una codificación de utf8. */
+    private static int consumidos(long u) {
+        return 1 + (int) (u >>> 35);
+    }
+
+    /* La mezcla final de Bob Jenkins; regresa sólo c. */
+    private static int mezcla(int a, int b, int c) {
         a -= b;
         a -= c;
         a ^= c >>> 13;
@@ -152,11 +879,7 @@ public class Dispersores {
         c -= b;
         c ^= b >>> 15;
 
-        m[0] = a;
-        m[1] = b;
-        m[2] = c;
-
-        return m;
+        return c;
     }
 
 }
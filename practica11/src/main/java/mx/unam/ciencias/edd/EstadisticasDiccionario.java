@@ -0,0 +1,166 @@
+package mx.unam.ciencias.edd;
+
+/**
+ * <p>
+ * Clase para fotografías de las estadísticas de un {@link Diccionario}. Una
+ * fotografía no cambia aunque el diccionario siga modificándose.
+ * </p>
+ *
+ * <p>
+ * El histograma de exploración cuenta, para cada <em>j</em>, cuántas entradas
+ * tienen <em>j</em> entradas antes que ellas en su cubeta; es decir, cuántas
+ * entradas necesitan <em>j</em> + 1 comparaciones para encontrarse si la cubeta
+ * se recorre como lista. En las cubetas que ya son árboles la búsqueda real es
+ * más corta, así que el histograma es una cota superior. La última casilla
+ * acumula todas las entradas con {@link #LONGITUDES} - 1 colisiones o más.
+ * </p>
+ */
+public class EstadisticasDiccionario {
+
+    /** Número de casillas del histograma de exploración. */
+    public static final int LONGITUDES = 32;
+
+    /* El histograma de exploración. */
+    private long[] histograma;
+    /* Número de entradas. */
+    private int elementos;
+    /* Número de cubetas. */
+    private int capacidad;
+    /* Número de redispersiones. */
+    private long redispersiones;
+    /* Tiempo dedicado a redispersar, en nanosegundos. */
+    private long tiempoRedispersion;
+    /* Búsquedas exitosas. */
+    private long aciertos;
+    /* Búsquedas fallidas. */
+    private long fallos;
+
+    /* Construye una fotografía con los valores recibidos. */
+    EstadisticasDiccionario(long[] histograma, int elementos, int capacidad,
+                            long redispersiones, long tiempoRedispersion,
+                            long aciertos, long fallos) {
+        this.histograma = histograma.clone();
+        this.elementos = elementos;
+        this.capacidad = capacidad;
+        this.redispersiones = redispersiones;
+        this.tiempoRedispersion = tiempoRedispersion;
+        this.aciertos = aciertos;
+        this.fallos = fallos;
+    }
+
+    /**
+     * Regresa una copia del histograma de exploración.
+     *
+     * @return una copia del histograma de exploración.
+     */
+    public long[] getHistograma() {
+        return histograma.clone();
+    }
+
+    /**
+     * Nos dice el máximo número de colisiones para una misma llave. Si es
+     * {@link #LONGITUDES} - 1, el máximo real puede ser mayor.
+     *
+     * @return el máximo número de colisiones para una misma llave.
+     */
+    public int colisionMaxima() {
+        for (int j = histograma.length - 1; j > 0; j--)
+            if (histograma[j] != 0)
+                return j;
+        return 0;
+    }
+
+    /**
+     * Regresa el número promedio de comparaciones de una búsqueda exitosa, si
+     * todas las llaves se buscan con la misma frecuencia.
+     *
+     * @return el número promedio de comparaciones de una búsqueda exitosa.
+     */
+    public double exploracionPromedio() {
+        if (elementos == 0)
+            return 0.0;
+        double suma = 0.0;
+        for (int j = 0; j < histograma.length; j++)
+            suma += (j + 1) * (double) histograma[j];
+        return suma / elementos;
+    }
+
+    /**
+     * Regresa el número de entradas en el diccionario.
+     *
+     * @return el número de entradas en el diccionario.
+     */
+    public int getElementos() {
+        return elementos;
+    }
+
+    /**
+     * Regresa el número de cubetas en el diccionario.
+     *
+     * @return el número de cubetas en el diccionario.
+     */
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Nos dice la carga del diccionario.
+     *
+     * @return la carga del diccionario.
+     */
+    public double carga() {
+        return (double) elementos / capacidad;
+    }
+
+    /**
+     * Regresa cuántas veces ha crecido la tabla del diccionario.
+     *
+     * @return cuántas veces ha crecido la tabla del diccionario.
+     */
+    public long getRedispersiones() {
+        return redispersiones;
+    }
+
+    /**
+     * Regresa el tiempo dedicado a crecer la tabla y a migrar sus entradas, en
+     * nanosegundos.
+     *
+     * @return el tiempo dedicado a redispersar, en nanosegundos.
+     */
+    public long getTiempoRedispersion() {
+        return tiempoRedispersion;
+    }
+
+    /**
+     * Regresa cuántas búsquedas encontraron su llave.
+     *
+     * @return cuántas búsquedas encontraron su llave.
+     */
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    /**
+     * Regresa cuántas búsquedas no encontraron su llave.
+     *
+     * @return cuántas búsquedas no encontraron su llave.
+     */
+    public long getFallos() {
+        return fallos;
+    }
+
+    /**
+     * Regresa una representación en cadena de las estadísticas.
+     *
+     * @return una representación en cadena de las estadísticas.
+     */
+    @Override
+    public String toString() {
+        return String.format("elementos: %d, carga: %.3f, colisión máxima: %d, " +
+                             "exploración promedio: %.3f, redispersiones: %d " +
+                             "(%d ns), aciertos: %d, fallos: %d",
+                             elementos, carga(), colisionMaxima(),
+                             exploracionPromedio(), redispersiones,
+                             tiempoRedispersion, aciertos, fallos);
+    }
+}
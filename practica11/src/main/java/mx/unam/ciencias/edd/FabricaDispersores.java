@@ -1,15 +1,22 @@
 package mx.unam.ciencias.edd;
 
+import java.security.SecureRandom;
+
 /**
  * Clase para fabricar dispersores.
  */
 public class FabricaDispersores {
 
+    /* Generador de las semillas de los dispersores con semilla. */
+    private static final SecureRandom SEMILLAS = new SecureRandom();
+
     /* Constructor privado para evitar instanciación. */
     private FabricaDispersores() {}
 
     /**
-     * Regresa una instancia de {@link Dispersor} para cadenas.
+     * Regresa una instancia de {@link Dispersor} para cadenas. La dispersión se
+     * calcula sobre los bytes UTF-8 de la cadena, sin crear un arreglo nuevo en
+     * cada llamada (ver {@link Dispersores}).
      * @param algoritmo el algoritmo de dispersor que se desea.
      * @return una instancia de {@link Dispersor} para cadenas.
      * @throws IllegalArgumentException si recibe un identificador no
@@ -19,12 +26,85 @@ public class FabricaDispersores {
     dispersorCadena(AlgoritmoDispersor algoritmo) {
         switch (algoritmo) {
         case XOR_STRING:
-            return c -> Dispersores.dispersaXOR(c.getBytes());
+            return c -> Dispersores.dispersaXOR(c);
         case BJ_STRING:
-            return c -> Dispersores.dispersaBJ(c.getBytes());
+            return c -> Dispersores.dispersaBJ(c);
         case DJB_STRING:
-            return c -> Dispersores.dispersaDJB(c.getBytes());
+            return c -> Dispersores.dispersaDJB(c);
+        case MURMUR3_STRING:
+            return c -> Dispersores.dispersaMurmur3(c);
+        case XXH32_STRING:
+            return c -> Dispersores.dispersaXXH32(c);
+        case XXH64_STRING:
+            return c -> dobla(Dispersores.dispersaXXH64(c));
+        case WY_STRING:
+            return c -> dobla(Dispersores.dispersaWy(c));
         default: throw new IllegalArgumentException("Algoritmo inválido");
         }
     }
+
+    /**
+     * Regresa una instancia de {@link Dispersor} para arreglos de bytes. Los
+     * algoritmos de 64 bits se doblan a 32 bits combinando sus dos mitades con
+     * XOR.
+     * @param algoritmo el algoritmo de dispersor que se desea.
+     * @return una instancia de {@link Dispersor} para arreglos de bytes.
+     * @throws IllegalArgumentException si recibe un identificador no
+     *         reconocido.
+     */
+    public static Dispersor<byte[]>
+    dispersorBytes(AlgoritmoDispersor algoritmo) {
+        switch (algoritmo) {
+        case XOR_STRING:
+            return b -> Dispersores.dispersaXOR(b);
+        case BJ_STRING:
+            return b -> Dispersores.dispersaBJ(b);
+        case DJB_STRING:
+            return b -> Dispersores.dispersaDJB(b);
+        case MURMUR3_STRING:
+            return b -> Dispersores.dispersaMurmur3(b);
+        case XXH32_STRING:
+            return b -> Dispersores.dispersaXXH32(b);
+        case XXH64_STRING:
+            return b -> dobla(Dispersores.dispersaXXH64(b));
+        case WY_STRING:
+            return b -> dobla(Dispersores.dispersaWy(b));
+        default: throw new IllegalArgumentException("Algoritmo inválido");
+        }
+    }
+
+    /**
+     * Regresa un dispersor con una semilla aleatoria de 128 bits, distinta para
+     * cada dispersor. Las secuencias de caracteres se dispersan con SipHash-2-4
+     * usando la semilla como llave; para las demás llaves se mezcla su {@link
+     * Object#hashCode} con la semilla. Así, quien no conoce la semilla no puede
+     * escoger llaves que caigan todas en la misma cubeta.
+     * @param <K> el tipo de las llaves.
+     * @return un dispersor con una semilla aleatoria.
+     */
+    public static <K> Dispersor<K> dispersorConSemilla() {
+        return dispersorConSemilla(SEMILLAS.nextLong(), SEMILLAS.nextLong());
+    }
+
+    /**
+     * Regresa un dispersor con la semilla de 128 bits recibida. Ver {@link
+     * #dispersorConSemilla()}.
+     * @param <K> el tipo de las llaves.
+     * @param k0 los 64 bits bajos de la semilla.
+     * @param k1 los 64 bits altos de la semilla.
+     * @return un dispersor con la semilla recibida.
+     */
+    public static <K> Dispersor<K> dispersorConSemilla(long k0, long k1) {
+        return llave -> {
+            if (llave instanceof CharSequence)
+                return dobla(Dispersores.dispersaSip((CharSequence) llave,
+                                                     k0, k1));
+            return Dispersores.mezclaConSemilla(llave.hashCode(), k0 ^ k1);
+        };
+    }
+
+    /* Dobla una dispersión de 64 bits a 32 bits. */
+    private static int dobla(long h) {
+        return (int) (h ^ (h >>> 32));
+    }
 }
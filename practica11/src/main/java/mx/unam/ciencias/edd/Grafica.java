@@ -426,7 +426,7 @@ public class Grafica<T> implements Coleccion<T> {
      *         caso.
      */
     public boolean esConexa() {
-        Cola<Vertice> cola = new Cola<>();
+        ColaArreglo<Vertice> cola = new ColaArreglo<>();
         for (Vertice V : vertices)
             V.color = Color.ROJO;
         Iterator<Vertice> i = vertices.iterator();
@@ -476,7 +476,7 @@ public class Grafica<T> implements Coleccion<T> {
         Vertice w = (Vertice) vertice(elemento);
         for (Vertice v : vertices)
             v.color = Color.ROJO;
-        Cola<Vertice> q = new Cola<>();
+        ColaArreglo<Vertice> q = new ColaArreglo<>();
         w.color = Color.NEGRO;
         q.mete(w);
         while (!q.esVacia()) {
@@ -510,7 +510,7 @@ public class Grafica<T> implements Coleccion<T> {
         Vertice w = (Vertice) vertice(elemento);
         for (Vertice v : vertices)
             v.color = Color.ROJO;
-        Pila<Vertice> s = new Pila<>();
+        PilaArreglo<Vertice> s = new PilaArreglo<>();
         w.color = Color.NEGRO;
         s.mete(w);
         while (!s.esVacia()) {
@@ -630,7 +630,7 @@ public class Grafica<T> implements Coleccion<T> {
         for (Vertice v : vertices)
             v.distancia = Double.MAX_VALUE;
         s.distancia = 0;
-        Cola<Vertice> cola = new Cola<Vertice>();
+        ColaArreglo<Vertice> cola = new ColaArreglo<Vertice>();
         cola.mete(s);
         Vertice v;
         while (!cola.esVacia()) {
@@ -3,6 +3,8 @@ package mx.unam.ciencias.edd;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * <p>
@@ -19,6 +21,12 @@ import java.util.NoSuchElementException;
  * Las listas no aceptan a <code>null</code> como elemento.
  * </p>
  *
+ * <p>
+ * Los accesos por índice caminan desde la cabeza, el rabo o el último nodo al
+ * que se accedió por índice, el que esté más cerca; así recorrer la lista con
+ * {@link #get} en orden, hacia adelante o hacia atrás, toma tiempo lineal.
+ * </p>
+ *
  * @param <T> El tipo de los elementos de la lista.
  */
 public class Lista<T> implements Coleccion<T> {
@@ -106,6 +114,14 @@ public class Lista<T> implements Coleccion<T> {
     private Nodo rabo;
     /* Número de elementos en la lista. */
     private int longitud;
+    /*
+     * El último nodo al que se accedió por índice, o null si no hay; los
+     * accesos por índice caminan desde él si está más cerca que la cabeza o el
+     * rabo.
+     */
+    private Nodo dedo;
+    /* El índice del dedo. */
+    private int indiceDedo;
 
     /**
      * Regresa la longitud de la lista. El método es idéntico a
@@ -188,6 +204,7 @@ public class Lista<T> implements Coleccion<T> {
             throw new IllegalArgumentException();
         Nodo nuevo = new Nodo(elemento);
         longitud++;
+        indiceDedo++;
         if (esVacia()) {
             cabeza = rabo = nuevo;
         } else {
@@ -222,14 +239,13 @@ public class Lista<T> implements Coleccion<T> {
             agregaFinal(elemento);
         } else {
             Nodo nuevo = new Nodo(elemento);
+            Nodo actual = nodo(i);
             longitud++;
-            Nodo copiaCabeza = cabeza;
-            for (int j = 0; j < i; j++)
-                copiaCabeza = copiaCabeza.siguiente;
-            copiaCabeza.anterior.siguiente = nuevo;
-            nuevo.anterior = copiaCabeza.anterior;
-            nuevo.siguiente = copiaCabeza;
-            copiaCabeza.anterior = nuevo;
+            actual.anterior.siguiente = nuevo;
+            nuevo.anterior = actual.anterior;
+            nuevo.siguiente = actual;
+            actual.anterior = nuevo;
+            dedo = nuevo;
         }
     }
 
@@ -241,6 +257,7 @@ public class Lista<T> implements Coleccion<T> {
      */
     @Override
     public void elimina(T elemento) {
+        dedo = null;
         if (elemento == null || !contiene(elemento)) {
         } else if (cabeza.elemento.equals(elemento)) {
             eliminaPrimero();
@@ -276,6 +293,9 @@ public class Lista<T> implements Coleccion<T> {
             cabeza.anterior = null;
         }
         longitud--;
+        if (dedo == copiaCabeza)
+            dedo = null;
+        indiceDedo--;
         return copiaCabeza.elemento;
     }
 
@@ -296,6 +316,8 @@ public class Lista<T> implements Coleccion<T> {
             rabo.siguiente = null;
         }
         longitud--;
+        if (dedo == copiaRabo)
+            dedo = null;
         return copiaRabo.elemento;
     }
 
@@ -353,7 +375,7 @@ public class Lista<T> implements Coleccion<T> {
      */
     @Override
     public void limpia() {
-        cabeza = rabo = null;
+        cabeza = rabo = dedo = null;
         longitud = 0;
     }
 
@@ -392,13 +414,32 @@ public class Lista<T> implements Coleccion<T> {
     public T get(int i) {
         if (i < 0 || i >= longitud)
             throw new ExcepcionIndiceInvalido();
-        Nodo copiaCabeza = cabeza;
-        for (int j = 0; j < longitud - 1; j++) {
-            if (i == j)
-                break;
-            copiaCabeza = copiaCabeza.siguiente;
+        return nodo(i).elemento;
+    }
+
+    /*
+     * Regresa el nodo con índice i, caminando desde la cabeza, el rabo o el
+     * dedo, el que esté más cerca, y deja el dedo en él. El índice tiene que
+     * ser válido.
+     */
+    private Nodo nodo(int i) {
+        Nodo n = cabeza;
+        int j = 0;
+        if (longitud - 1 - i < i) {
+            n = rabo;
+            j = longitud - 1;
         }
-        return copiaCabeza.elemento;
+        if (dedo != null && Math.abs(i - indiceDedo) < Math.abs(i - j)) {
+            n = dedo;
+            j = indiceDedo;
+        }
+        for (; j < i; j++)
+            n = n.siguiente;
+        for (; j > i; j--)
+            n = n.anterior;
+        dedo = n;
+        indiceDedo = i;
+        return n;
     }
 
     /**
@@ -410,11 +451,12 @@ public class Lista<T> implements Coleccion<T> {
      */
     public int indiceDe(T elemento) {
         Nodo copiaCabeza = cabeza;
-        int indice = 0;
         for (int i = 0; i < longitud; i++) {
-            if (copiaCabeza.elemento.equals(elemento))
-                return indice;
-            indice++;
+            if (copiaCabeza.elemento.equals(elemento)) {
+                dedo = copiaCabeza;
+                indiceDedo = i;
+                return i;
+            }
             copiaCabeza = copiaCabeza.siguiente;
         }
         return -1;
@@ -483,6 +525,18 @@ public class Lista<T> implements Coleccion<T> {
         return new Iterador();
     }
 
+    /**
+     * Regresa un {@link Spliterator} para recorrer la lista en orden. Se parte
+     * en lotes que se copian a arreglos.
+     * 
+     * @return un {@link Spliterator} para recorrer la lista.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), longitud,
+                                        Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
     /**
      * Regresa una copia de la lista, pero ordenada. Para poder hacer el
      * ordenamiento, el método necesita una instancia de {@link Comparator} para
@@ -493,38 +547,151 @@ public class Lista<T> implements Coleccion<T> {
      * @return una copia de la lista, pero ordenada.
      */
     public Lista<T> mergeSort(Comparator<T> comparador) {
+        Lista<T> lista = copia();
+        lista.ordena(comparador);
+        return lista;
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada en paralelo con {@link
+     * Arreglos#mergeSortParalelo(Object[],Comparator)}.
+     * 
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @return una copia de la lista, pero ordenada.
+     */
+    public Lista<T> mergeSortParalelo(Comparator<T> comparador) {
+        Lista<T> lista = copia();
+        lista.ordenaParalelo(comparador);
+        return lista;
+    }
+
+    /**
+     * Ordena la lista en paralelo usando el comparador recibido. Los elementos
+     * se copian a un arreglo, se ordenan con {@link
+     * Arreglos#mergeSortParalelo(Object[],Comparator)}, y se regresan a los
+     * mismos nodos en el nuevo orden. El ordenamiento es estable.
+     *
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordenaParalelo(Comparator<T> comparador) {
+        @SuppressWarnings("unchecked")
+        T[] arreglo = (T[]) new Object[longitud];
+        int i = 0;
+        for (Nodo n = cabeza; n != null; n = n.siguiente)
+            arreglo[i++] = n.elemento;
+        Arreglos.mergeSortParalelo(arreglo, comparador);
+        i = 0;
+        for (Nodo n = cabeza; n != null; n = n.siguiente)
+            n.elemento = arreglo[i++];
+    }
+
+    /**
+     * Ordena la lista usando el comparador recibido. El ordenamiento es estable
+     * y se hace en la lista misma, religando sus nodos: primero voltea las
+     * corridas estrictamente descendentes, y después mezcla por pares las
+     * corridas ascendentes que ya trae la lista hasta que sólo queda una. Una
+     * lista que ya está ordenada se ordena en tiempo lineal.
+     *
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordena(Comparator<T> comparador) {
         if (longitud <= 1)
-            return copia();
-        Lista<T> izq = new Lista<T>();
-        Lista<T> der = new Lista<T>();
-        for (int i = 0; i < longitud / 2; i++)
-            izq.agrega(get(i));
-        for (int i = longitud / 2; i < getLongitud(); i++)
-            der.agrega(get(i));
-        izq = izq.mergeSort(comparador);
-        der = der.mergeSort(comparador);
-
-        Nodo auxIzq = izq.cabeza;
-        Nodo auxDer = der.cabeza;
-        Lista<T> lista = new Lista<T>();
-        while (auxIzq != null && auxDer != null) {
-            if (comparador.compare(auxIzq.elemento, auxDer.elemento) <= 0) {
-                lista.agrega(auxIzq.elemento);
-                auxIzq = auxIzq.siguiente;
-            } else {
-                lista.agrega(auxDer.elemento);
-                auxDer = auxDer.siguiente;
+            return;
+        dedo = null;
+        invierteDescendentes(comparador);
+        boolean mezclo = true;
+        while (mezclo) {
+            mezclo = false;
+            Nodo cola = null;
+            Nodo a = cabeza;
+            while (a != null) {
+                Nodo finA = finCorrida(a, comparador);
+                Nodo b = finA.siguiente;
+                if (b == null) {
+                    pega(cola, a);
+                    break;
+                }
+                Nodo finB = finCorrida(b, comparador);
+                Nodo resto = finB.siguiente;
+                finA.siguiente = finB.siguiente = null;
+                while (a != null && b != null) {
+                    if (comparador.compare(a.elemento, b.elemento) <= 0) {
+                        cola = pega(cola, a);
+                        a = a.siguiente;
+                    } else {
+                        cola = pega(cola, b);
+                        b = b.siguiente;
+                    }
+                }
+                if (a != null) {
+                    pega(cola, a);
+                    cola = finA;
+                } else {
+                    pega(cola, b);
+                    cola = finB;
+                }
+                a = resto;
+                mezclo = true;
             }
         }
-        while (auxIzq != null) {
-            lista.agrega(auxIzq.elemento);
-            auxIzq = auxIzq.siguiente;
+        Nodo anterior = null;
+        for (Nodo n = cabeza; n != null; n = n.siguiente) {
+            n.anterior = anterior;
+            anterior = n;
         }
-        while (auxDer != null) {
-            lista.agrega(auxDer.elemento);
-            auxDer = auxDer.siguiente;
+        rabo = anterior;
+    }
+
+    /*
+     * Cuelga el nodo después de cola, o lo hace la cabeza si cola es null;
+     * regresa el nodo.
+     */
+    private Nodo pega(Nodo cola, Nodo nodo) {
+        if (cola == null)
+            cabeza = nodo;
+        else
+            cola.siguiente = nodo;
+        return nodo;
+    }
+
+    /* Regresa el último nodo de la corrida ascendente que empieza en el nodo. */
+    private Nodo finCorrida(Nodo nodo, Comparator<T> comparador) {
+        while (nodo.siguiente != null &&
+               comparador.compare(nodo.elemento, nodo.siguiente.elemento) <= 0)
+            nodo = nodo.siguiente;
+        return nodo;
+    }
+
+    /*
+     * Voltea las corridas estrictamente descendentes de la lista, usando sólo
+     * las referencias al siguiente nodo. Como son estrictas, no hay elementos
+     * iguales que cambien de orden.
+     */
+    private void invierteDescendentes(Comparator<T> comparador) {
+        Nodo previo = null;
+        Nodo inicio = cabeza;
+        while (inicio != null) {
+            Nodo fin = inicio;
+            while (fin.siguiente != null &&
+                   comparador.compare(fin.elemento, fin.siguiente.elemento) > 0)
+                fin = fin.siguiente;
+            Nodo resto = fin.siguiente;
+            if (fin != inicio) {
+                Nodo volteada = resto;
+                for (Nodo n = inicio; n != resto;) {
+                    Nodo siguiente = n.siguiente;
+                    n.siguiente = volteada;
+                    volteada = n;
+                    n = siguiente;
+                }
+                pega(previo, fin);
+            }
+            previo = inicio;
+            inicio = resto;
         }
-        return lista;
     }
 
     /**
@@ -2,6 +2,8 @@ package mx.unam.ciencias.edd;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Clase para montículos mínimos (<i>min heaps</i>).
@@ -317,6 +319,17 @@ public class MonticuloMinimo<T extends ComparableIndexable<T>> implements Colecc
         acomodaAbajo(j);
     }
 
+    /**
+     * Regresa un {@link Spliterator} para recorrer el montículo en orden BFS.
+     * Recorre directamente el arreglo, y se parte por la mitad sin copiar.
+     * 
+     * @return un {@link Spliterator} para recorrer el montículo.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(arbol, 0, elementos, Spliterator.NONNULL);
+    }
+
     /**
      * Regresa un iterador para iterar el montículo mínimo. El montículo se itera en
      * orden BFS.
@@ -336,14 +349,30 @@ public class MonticuloMinimo<T extends ComparableIndexable<T>> implements Colecc
      * @return una lista ordenada con los elementos de la colección.
      */
     public static <T extends Comparable<T>> Lista<T> heapSort(Coleccion<T> coleccion) {
-        Lista<Adaptador<T>> l1 = new Lista<Adaptador<T>>();
-        Lista<T> l2 = new Lista<T>();
+        return heapSort(coleccion, new Lista<T>());
+    }
+
+    /**
+     * Ordena la colección usando HeapSort, y agrega sus elementos ya ordenados
+     * a la colección de salida. Con una {@link ArregloLista} de salida, el
+     * resultado queda contiguo en memoria.
+     * 
+     * @param <T>       tipo del que puede ser el arreglo.
+     * @param <C>       tipo de la colección de salida.
+     * @param coleccion la colección a ordenar.
+     * @param salida    la colección a la que se agregan los elementos ordenados.
+     * @return la colección de salida.
+     */
+    public static <T extends Comparable<T>, C extends Coleccion<T>>
+    C heapSort(Coleccion<T> coleccion, C salida) {
+        ArregloLista<Adaptador<T>> l1 =
+            new ArregloLista<Adaptador<T>>(coleccion.getElementos());
         for (T elemento : coleccion)
             l1.agrega(new Adaptador<T>(elemento));
         MonticuloMinimo<Adaptador<T>> m = new MonticuloMinimo<Adaptador<T>>(l1);
         while (!m.esVacia()) {
-            l2.agrega(m.elimina().elemento);
+            salida.agrega(m.elimina().elemento);
         }
-        return l2;
+        return salida;
     }
 }
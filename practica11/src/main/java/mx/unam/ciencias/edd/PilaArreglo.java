@@ -0,0 +1,188 @@
+package mx.unam.ciencias.edd;
+
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Clase para pilas genéricas respaldadas por un arreglo.
+ * </p>
+ *
+ * <p>
+ * Se comporta igual que una {@link Pila}, pero no crea un nodo por cada
+ * elemento que se mete: una vez que el arreglo alcanzó el tamaño máximo que la
+ * pila necesita, meter y sacar elementos ya no reserva memoria. Una pila
+ * acotada nunca crece; cuando está llena, {@link #mete} lanza una excepción y
+ * {@link #ofrece} regresa <code>false</code>.
+ * </p>
+ */
+public class PilaArreglo<T> extends MeteSaca<T> {
+
+    /* Capacidad mínima; decidida arbitrariamente a 2^4. */
+    private static final int MINIMA_CAPACIDAD = 16;
+
+    /* Los elementos de la pila; el tope es el último. */
+    private T[] elementos;
+    /* Número de elementos en la pila. */
+    private int total;
+    /* Si la pila está acotada. */
+    private boolean acotada;
+
+    /* Truco para crear un arreglo genérico. */
+    @SuppressWarnings("unchecked")
+    private T[] nuevoArreglo(int n) {
+        return (T[]) new Object[n];
+    }
+
+    /**
+     * Construye una pila vacía que crece según se necesite.
+     */
+    public PilaArreglo() {
+        this(MINIMA_CAPACIDAD, false);
+    }
+
+    /**
+     * Construye una pila vacía con una capacidad inicial.
+     *
+     * @param capacidad la capacidad inicial de la pila; si está acotada, la
+     *                  pila nunca tendrá más elementos que ésta.
+     * @param acotada   si la pila está acotada por su capacidad.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public PilaArreglo(int capacidad, boolean acotada) {
+        if (capacidad < 1)
+            throw new IllegalArgumentException();
+        elementos = nuevoArreglo(capacidad);
+        this.acotada = acotada;
+    }
+
+    /**
+     * Agrega un elemento al tope de la pila.
+     *
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     * @throws IllegalStateException    si la pila está acotada y llena.
+     */
+    @Override
+    public void mete(T elemento) {
+        if (!ofrece(elemento))
+            throw new IllegalStateException();
+    }
+
+    /**
+     * Agrega un elemento al tope de la pila, si cabe.
+     *
+     * @param elemento el elemento a agregar.
+     * @return <code>true</code> si el elemento se agregó, <code>false</code> si
+     *         la pila está acotada y llena.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public boolean ofrece(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        if (total == elementos.length) {
+            if (acotada)
+                return false;
+            T[] nuevo = nuevoArreglo(elementos.length * 2);
+            System.arraycopy(elementos, 0, nuevo, 0, total);
+            elementos = nuevo;
+        }
+        elementos[total++] = elemento;
+        return true;
+    }
+
+    /**
+     * Elimina el elemento en el tope de la pila y lo regresa.
+     *
+     * @return el elemento en el tope de la pila.
+     * @throws NoSuchElementException si la pila está vacía.
+     */
+    @Override
+    public T saca() {
+        if (total == 0)
+            throw new NoSuchElementException();
+        T elemento = elementos[--total];
+        elementos[total] = null;
+        return elemento;
+    }
+
+    /**
+     * Nos permite ver el elemento en el tope de la pila, sin sacarlo de la
+     * misma.
+     *
+     * @return el elemento en el tope de la pila.
+     * @throws NoSuchElementException si la pila está vacía.
+     */
+    @Override
+    public T mira() {
+        if (total == 0)
+            throw new NoSuchElementException();
+        return elementos[total - 1];
+    }
+
+    /**
+     * Nos dice si la pila está vacía.
+     *
+     * @return <code>true</code> si la pila no tiene elementos,
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean esVacia() {
+        return total == 0;
+    }
+
+    /**
+     * Nos dice si la pila está acotada y llena.
+     *
+     * @return <code>true</code> si la pila está acotada y ya no le caben
+     *         elementos, <code>false</code> en otro caso.
+     */
+    public boolean estaLlena() {
+        return acotada && total == elementos.length;
+    }
+
+    /**
+     * Regresa el número de elementos en la pila.
+     *
+     * @return el número de elementos en la pila.
+     */
+    public int getElementos() {
+        return total;
+    }
+
+    /**
+     * Regresa una representación en cadena de la pila.
+     *
+     * @return una representación en cadena de la pila.
+     */
+    @Override
+    public String toString() {
+        String cadena = "";
+        for (int i = total - 1; i >= 0; i--)
+            cadena += elementos[i] + "\n";
+        return cadena;
+    }
+
+    /**
+     * Compara la pila con un objeto.
+     *
+     * @param object el objeto con el que queremos comparar la pila.
+     * @return <code>true</code> si el objeto recibido es una instancia de
+     *         PilaArreglo, y sus elementos son iguales en el mismo orden;
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == null || getClass() != object.getClass())
+            return false;
+        @SuppressWarnings("unchecked")
+        PilaArreglo<T> p = (PilaArreglo<T>) object;
+        if (total != p.total)
+            return false;
+        for (int i = 0; i < total; i++)
+            if (!elementos[i].equals(p.elementos[i]))
+                return false;
+        return true;
+    }
+}
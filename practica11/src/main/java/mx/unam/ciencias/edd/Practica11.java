@@ -1,7 +1,13 @@
 package mx.unam.ciencias.edd;
 
 import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Práctica 11: Conjuntos y gráficas mejoradas.
@@ -16,6 +22,79 @@ public class Practica11 {
         System.exit(1);
     }
 
+    /*
+     * Regresa la memoria usada del montículo, recolectando basura hasta que dos
+     * lecturas seguidas coinciden. Algunos recolectores sólo compactan por
+     * completo cada cuatro recolecciones, así que siempre hacemos al menos
+     * cuatro.
+     */
+    private static long memoriaUsada() {
+        Runtime r = Runtime.getRuntime();
+        long antes = -1;
+        long usada = r.totalMemory() - r.freeMemory();
+        for (int i = 0; i < 20 && (i < 4 || usada != antes); i++) {
+            antes = usada;
+            System.gc();
+            usada = r.totalMemory() - r.freeMemory();
+        }
+        return usada;
+    }
+
+    /* La colección que se está midiendo; la mantiene viva durante la medición. */
+    private static Coleccion<Integer> medida;
+
+    /*
+     * Regresa los bytes que ocupa una colección nueva con los elementos del
+     * arreglo, sin contar los elementos mismos.
+     */
+    private static long memoria(Supplier<Coleccion<Integer>> fabrica,
+                                Integer[] arreglo) {
+        long antes = memoriaUsada();
+        medida = fabrica.get();
+        for (Integer n : arreglo)
+            medida.agrega(n);
+        long ocupada = memoriaUsada() - antes;
+        medida = null;
+        return ocupada;
+    }
+
+    /*
+     * Pasa los elementos del arreglo por una cola, con el número de productores
+     * y de consumidores recibido, y regresa los nanosegundos que tardó. Los
+     * productores se reparten el arreglo; cuando la cola está llena o vacía,
+     * los hilos ceden el procesador y vuelven a intentar.
+     */
+    private static long trasiega(Predicate<Integer> ofrece,
+                                 Supplier<Integer> extrae,
+                                 Integer[] arreglo, int hilos)
+        throws InterruptedException {
+        int porHilo = arreglo.length / hilos;
+        AtomicInteger pendientes = new AtomicInteger(porHilo * hilos);
+        Thread[] trabajadores = new Thread[2 * hilos];
+        for (int h = 0; h < hilos; h++) {
+            int ini = h * porHilo;
+            trabajadores[2 * h] = new Thread(() -> {
+                    for (int i = ini; i < ini + porHilo; i++)
+                        while (!ofrece.test(arreglo[i]))
+                            Thread.yield();
+                });
+            trabajadores[2 * h + 1] = new Thread(() -> {
+                    while (pendientes.get() > 0) {
+                        if (extrae.get() != null)
+                            pendientes.decrementAndGet();
+                        else
+                            Thread.yield();
+                    }
+                });
+        }
+        long tiempoInicial = System.nanoTime();
+        for (Thread t : trabajadores)
+            t.start();
+        for (Thread t : trabajadores)
+            t.join();
+        return System.nanoTime() - tiempoInicial;
+    }
+
     public static void main(String[] args) {
         if (args.length != 1)
             uso();
@@ -40,6 +119,166 @@ public class Practica11 {
 
         int b = arreglo[N/2];
 
+        /* Memoria de cada conjunto, sin contar los elementos mismos. */
+        System.out.printf("%s bytes en un conjunto con %s elementos.\n",
+                          nf.format(memoria(() -> new Conjunto<Integer>(),
+                                            arreglo)),
+                          nf.format(N));
+        System.out.printf("%s bytes en un conjunto compacto con %s " +
+                          "elementos.\n",
+                          nf.format(memoria(() -> new ConjuntoCompacto<Integer>(),
+                                            arreglo)),
+                          nf.format(N));
+        System.out.printf("%s bytes en un conjunto compacto sin " +
+                          "dispersiones con %s elementos.\n",
+                          nf.format(memoria(() -> new ConjuntoCompacto<Integer>(
+                                                  0, k -> k, false), arreglo)),
+                          nf.format(N));
+
+        Lista<Integer> lista = new Lista<Integer>();
+        for (int i = 0; i < N; i++)
+            lista.agrega(arreglo[i]);
+        tiempoInicial = System.nanoTime();
+        Lista<Integer> ordenada = lista.mergeSort((x, y) -> x.compareTo(y));
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar una lista " +
+                          "con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+        tiempoInicial = System.nanoTime();
+        ordenada = ordenada.mergeSort((x, y) -> x.compareTo(y));
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar una lista " +
+                          "ya ordenada con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        /* Distribuciones que vuelven cuadrático a un QuickSort ingenuo. */
+        String[] distribuciones = { "al azar", "ordenado", "en reversa",
+                                    "constante", "con 4 valores",
+                                    "en montaña" };
+        for (int d = 0; d < distribuciones.length; d++) {
+            Integer[] datos = new Integer[N];
+            for (int i = 0; i < N; i++) {
+                switch (d) {
+                case 0: datos[i] = arreglo[i]; break;
+                case 1: datos[i] = i; break;
+                case 2: datos[i] = N - i; break;
+                case 3: datos[i] = b; break;
+                case 4: datos[i] = arreglo[i] % 4; break;
+                default: datos[i] = Math.min(i, N - i);
+                }
+            }
+            Integer[] copia = datos.clone();
+            tiempoInicial = System.nanoTime();
+            Arreglos.quickSort(datos);
+            tiempoTotal = System.nanoTime() - tiempoInicial;
+            tiempoInicial = System.nanoTime();
+            Arrays.sort(copia);
+            long tiempoJava = System.nanoTime() - tiempoInicial;
+            System.out.printf("%2.9f segundos (%2.9f con Arrays.sort) en " +
+                              "ordenar un arreglo %s con %s elementos.\n",
+                              (tiempoTotal/1000000000.0),
+                              (tiempoJava/1000000000.0),
+                              distribuciones[d], nf.format(N));
+        }
+
+        /* Los mismos valores, sin envolver en objetos. */
+        int[] primitivos = new int[N];
+        for (int i = 0; i < N; i++)
+            primitivos[i] = arreglo[i];
+        Integer[] envueltos = arreglo.clone();
+        tiempoInicial = System.nanoTime();
+        Arreglos.quickSort(envueltos);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar un arreglo de " +
+                          "Integer con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+        int[] datosInt = primitivos.clone();
+        tiempoInicial = System.nanoTime();
+        Arreglos.quickSort(datosInt);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar un arreglo de " +
+                          "int con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+        datosInt = primitivos.clone();
+        tiempoInicial = System.nanoTime();
+        Arreglos.radixSort(datosInt);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar un arreglo de " +
+                          "int con RadixSort con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+        datosInt = primitivos.clone();
+        tiempoInicial = System.nanoTime();
+        Arrays.sort(datosInt);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en ordenar un arreglo de " +
+                          "int con Arrays.sort con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        /* Búsquedas de todos los valores en el arreglo ya ordenado. */
+        long suma = 0;
+        tiempoInicial = System.nanoTime();
+        for (int aguja : primitivos)
+            suma += Arreglos.busquedaBinaria(datosInt, aguja);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en %s búsquedas binarias en un " +
+                          "arreglo de int (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+        suma = 0;
+        tiempoInicial = System.nanoTime();
+        for (int cota : Arreglos.cotasInferiores(datosInt, primitivos))
+            suma += cota;
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en %s búsquedas binarias por " +
+                          "lotes en un arreglo de int (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+        ArregloEytzinger eytzinger = new ArregloEytzinger(datosInt);
+        suma = 0;
+        tiempoInicial = System.nanoTime();
+        for (int aguja : primitivos)
+            suma += eytzinger.cotaInferior(aguja);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en %s búsquedas en un arreglo " +
+                          "de Eytzinger (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+        suma = 0;
+        tiempoInicial = System.nanoTime();
+        for (int cota : eytzinger.cotasInferiores(primitivos))
+            suma += cota;
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en %s búsquedas por lotes en un " +
+                          "arreglo de Eytzinger (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+
+        /* Escalamiento de los ordenamientos paralelos con el número de hilos. */
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        long secuencialQuick = 0, secuencialMerge = 0;
+        for (int hilos = 1; hilos <= nucleos; hilos *= 2) {
+            ForkJoinPool alberca = new ForkJoinPool(hilos);
+            Integer[] datos = arreglo.clone();
+            tiempoInicial = System.nanoTime();
+            Arreglos.quickSortParalelo(datos, (x, y) -> x.compareTo(y),
+                                       1 << 13, alberca);
+            long tiempoQuick = System.nanoTime() - tiempoInicial;
+            datos = arreglo.clone();
+            tiempoInicial = System.nanoTime();
+            Arreglos.mergeSortParalelo(datos, (x, y) -> x.compareTo(y),
+                                       1 << 13, alberca);
+            long tiempoMerge = System.nanoTime() - tiempoInicial;
+            alberca.shutdown();
+            if (hilos == 1) {
+                secuencialQuick = tiempoQuick;
+                secuencialMerge = tiempoMerge;
+            }
+            System.out.printf("%2.9f segundos (%.2fx) con QuickSort y " +
+                              "%2.9f segundos (%.2fx) con MergeSort en " +
+                              "ordenar %s elementos con %d hilos.\n",
+                              (tiempoQuick/1000000000.0),
+                              (double)secuencialQuick / tiempoQuick,
+                              (tiempoMerge/1000000000.0),
+                              (double)secuencialMerge / tiempoMerge,
+                              nf.format(N), hilos);
+        }
+
         ArbolBinarioOrdenado<Integer> abo = new ArbolBinarioOrdenado<Integer>();
         tiempoInicial = System.nanoTime();
         for (int i = 0; i < N; i++)
@@ -67,6 +306,25 @@ public class Practica11 {
                           "AVL con %s elementos.\n",
                           (tiempoTotal/1000000000.0), nf.format(N));
 
+        /*
+         * Costo por inserción en árboles AVL cada vez más grandes, con llaves
+         * en orden; si es logarítmico, la última columna se mantiene estable.
+         */
+        for (int n = 1000; n <= N; n *= 10) {
+            ArbolAVL<Integer> ordenado = new ArbolAVL<Integer>();
+            tiempoInicial = System.nanoTime();
+            for (int i = 0; i < n; i++)
+                ordenado.agrega(i);
+            tiempoTotal = System.nanoTime() - tiempoInicial;
+            double porInsercion = (double)tiempoTotal / n;
+            System.out.printf("%.1f ns por inserción (%.2f ns/log2(n)) en un " +
+                              "árbol AVL con %s elementos en orden y altura " +
+                              "%d.\n",
+                              porInsercion,
+                              porInsercion * Math.log(2) / Math.log(n),
+                              nf.format(n), ordenado.altura());
+        }
+
         Diccionario<Integer, Integer> diccionario =
             new Diccionario<Integer, Integer>(N);
         tiempoInicial = System.nanoTime();
@@ -77,6 +335,25 @@ public class Practica11 {
                           "con %s elementos.\n",
                           (tiempoTotal/1000000000.0), nf.format(N));
 
+        DiccionarioAbierto<Integer, Integer> abierto =
+            new DiccionarioAbierto<Integer, Integer>(N);
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            abierto.agrega(arreglo[i], arreglo[i]);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en llenar un diccionario " +
+                          "abierto con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        DiccionarioIntInt primitivo = new DiccionarioIntInt(N);
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            primitivo.agrega(arreglo[i], arreglo[i]);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en llenar un diccionario " +
+                          "de enteros primitivos con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
         Conjunto<Integer> conjunto = new Conjunto<Integer>(N);
         tiempoInicial = System.nanoTime();
         for (int i = 0; i < N; i++)
@@ -113,6 +390,20 @@ public class Practica11 {
                           "diccionario con %s elementos.\n",
                           (tiempoTotal/1000000000.0), nf.format(N));
 
+        tiempoInicial = System.nanoTime();
+        abierto.contiene(b);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en buscar en un " +
+                          "diccionario abierto con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        tiempoInicial = System.nanoTime();
+        primitivo.contiene(b);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en buscar en un diccionario " +
+                          "de enteros primitivos con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
         tiempoInicial = System.nanoTime();
         conjunto.contiene(b);
         tiempoTotal = System.nanoTime() - tiempoInicial;
@@ -120,6 +411,212 @@ public class Practica11 {
                           "conjunto con %s elementos.\n",
                           (tiempoTotal/1000000000.0), nf.format(N));
 
+        /*
+         * Una sola búsqueda tarda muy poco para compararla; buscamos todos
+         * los elementos en los árboles balanceados y en el diccionario.
+         */
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            arn.contiene(arreglo[i]);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en buscar todos los elementos de " +
+                          "un árbol rojinegro con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            avl.contiene(arreglo[i]);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en buscar todos los elementos de " +
+                          "un árbol AVL con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            diccionario.contiene(arreglo[i]);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en buscar todos los elementos de " +
+                          "un diccionario con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+
+        /* Percentiles con estadísticos de orden contra recorrer el árbol. */
+        ArbolRojinegro<Integer> estadistico = new ArbolRojinegro<Integer>(true);
+        tiempoInicial = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            estadistico.agrega(arreglo[i]);
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en llenar un árbol rojinegro " +
+                          "con estadísticos de orden con %s elementos.\n",
+                          (tiempoTotal/1000000000.0), nf.format(N));
+        tiempoInicial = System.nanoTime();
+        suma = 0;
+        for (int p = 1; p < 100; p++)
+            suma += estadistico.selecciona((int)((long)N * p / 100));
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en seleccionar los percentiles de " +
+                          "un árbol rojinegro con %s elementos (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+        tiempoInicial = System.nanoTime();
+        suma = 0;
+        int percentil = 1;
+        int posicion = 0;
+        for (int e : arn)
+            if (percentil < 100 && posicion++ == (int)((long)N * percentil / 100)) {
+                suma += e;
+                percentil++;
+            }
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en recorrer los percentiles de " +
+                          "un árbol rojinegro con %s elementos (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+
+        /* Una ventana de cien elementos: con un rango contra recorrer todo. */
+        int desde = estadistico.selecciona(N / 2);
+        int hasta = estadistico.selecciona(Math.min(N - 1, N / 2 + 99));
+        tiempoInicial = System.nanoTime();
+        suma = 0;
+        Iterator<Integer> ventana = arn.rango(desde, hasta);
+        while (ventana.hasNext())
+            suma += ventana.next();
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en recorrer un rango de un árbol " +
+                          "rojinegro con %s elementos (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+        tiempoInicial = System.nanoTime();
+        suma = 0;
+        for (int e : arn)
+            if (desde <= e && e <= hasta)
+                suma += e;
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en filtrar un rango de un árbol " +
+                          "rojinegro con %s elementos (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+
+        /* Sumas con flujos secuenciales y paralelos. */
+        tiempoInicial = System.nanoTime();
+        suma = arn.stream().mapToLong(x -> x).sum();
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en sumar con un flujo un árbol " +
+                          "rojinegro con %s elementos (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+        tiempoInicial = System.nanoTime();
+        suma = arn.parallelStream().mapToLong(x -> x).sum();
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en sumar con un flujo paralelo un " +
+                          "árbol rojinegro con %s elementos (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+        tiempoInicial = System.nanoTime();
+        suma = diccionario.stream().mapToLong(x -> x).sum();
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en sumar con un flujo un " +
+                          "diccionario con %s elementos (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+        tiempoInicial = System.nanoTime();
+        suma = diccionario.parallelStream().mapToLong(x -> x).sum();
+        tiempoTotal = System.nanoTime() - tiempoInicial;
+        System.out.printf("%2.9f segundos en sumar con un flujo paralelo un " +
+                          "diccionario con %s elementos (%d).\n",
+                          (tiempoTotal/1000000000.0), nf.format(N), suma);
+
+        for (int hilos = 1; hilos <= nucleos; hilos *= 2) {
+            DiccionarioConcurrente<Integer, Integer> concurrente =
+                new DiccionarioConcurrente<Integer, Integer>(N, k -> k, hilos);
+            Thread[] trabajadores = new Thread[hilos];
+            int porHilo = N / hilos;
+            tiempoInicial = System.nanoTime();
+            for (int h = 0; h < hilos; h++) {
+                int ini = h * porHilo;
+                trabajadores[h] = new Thread(() -> {
+                        for (int i = ini; i < ini + porHilo; i++)
+                            concurrente.agregaOActualiza(arreglo[i], 1,
+                                                         Integer::sum);
+                    });
+                trabajadores[h].start();
+            }
+            try {
+                for (Thread t : trabajadores)
+                    t.join();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            tiempoTotal = System.nanoTime() - tiempoInicial;
+            System.out.printf("%2.9f segundos en contar %s elementos en " +
+                              "un diccionario concurrente con %d hilos.\n",
+                              (tiempoTotal/1000000000.0),
+                              nf.format(porHilo * hilos), hilos);
+        }
+
+        for (int hilos = 1; hilos <= nucleos; hilos *= 2) {
+            ColaConcurrente<Integer> cola = new ColaConcurrente<Integer>();
+            ColaConcurrenteAcotada<Integer> acotada =
+                new ColaConcurrenteAcotada<Integer>(1024);
+            long tiempoCola, tiempoAcotada;
+            try {
+                tiempoCola = trasiega(cola::ofrece, cola::extrae,
+                                      arreglo, hilos);
+                tiempoAcotada = trasiega(acotada::ofrece, acotada::extrae,
+                                         arreglo, hilos);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            int pasados = N / hilos * hilos;
+            System.out.printf("%2.9f segundos en pasar %s elementos por una " +
+                              "cola concurrente con %d productores y %d " +
+                              "consumidores.\n",
+                              (tiempoCola/1000000000.0),
+                              nf.format(pasados), hilos, hilos);
+            System.out.printf("%2.9f segundos en pasar %s elementos por una " +
+                              "cola concurrente acotada a %d con %d " +
+                              "productores y %d consumidores.\n",
+                              (tiempoAcotada/1000000000.0),
+                              nf.format(pasados), acotada.getCapacidad(),
+                              hilos, hilos);
+        }
+
+        /* Corpus con llaves decimales consecutivas y con palabras al azar. */
+        String[] decimales = new String[N];
+        String[] palabras = new String[N];
+        long bytesPalabras = 0;
+        for (int i = 0; i < N; i++) {
+            decimales[i] = String.valueOf(i);
+            char[] cs = new char[3 + random.nextInt(10)];
+            for (int j = 0; j < cs.length; j++)
+                cs[j] = (char)('a' + random.nextInt(26));
+            palabras[i] = new String(cs);
+            bytesPalabras += cs.length;
+        }
+        for (AlgoritmoDispersor algoritmo : AlgoritmoDispersor.values()) {
+            Dispersor<String> dispersor =
+                FabricaDispersores.dispersorCadena(algoritmo);
+            /* Nos quedamos con la mejor de varias rondas, para calentar. */
+            int h = 0;
+            long mejor = Long.MAX_VALUE;
+            for (int r = 0; r < 5; r++) {
+                tiempoInicial = System.nanoTime();
+                for (int i = 0; i < N; i++)
+                    h ^= dispersor.dispersa(palabras[i]);
+                mejor = Math.min(mejor, System.nanoTime() - tiempoInicial);
+            }
+            Diccionario<String, String> porDecimales =
+                new Diccionario<String, String>(N, dispersor);
+            Diccionario<String, String> porPalabras =
+                new Diccionario<String, String>(N, dispersor);
+            porDecimales.activaEstadisticas();
+            porPalabras.activaEstadisticas();
+            for (int i = 0; i < N; i++) {
+                porDecimales.agrega(decimales[i], decimales[i]);
+                porPalabras.agrega(palabras[i], palabras[i]);
+            }
+            System.out.printf("%2.3f ns/byte con %s (%08x); colisión máxima " +
+                              "%d con decimales y %d con palabras; " +
+                              "exploración promedio %.3f y %.3f.\n",
+                              (double)mejor / bytesPalabras, algoritmo, h,
+                              porDecimales.colisionMaxima(),
+                              porPalabras.colisionMaxima(),
+                              porDecimales.estadisticas().exploracionPromedio(),
+                              porPalabras.estadisticas().exploracionPromedio());
+        }
+
         /*       3
          *    b─────d
          *  1╱│╲    │╲1
@@ -0,0 +1,158 @@
+package mx.unam.ciencias.edd;
+
+/**
+ * <p>
+ * Clase abstracta para tablas con direccionamiento abierto y exploración lineal
+ * <em>Robin Hood</em>. Cada tabla guarda sus llaves (y valores) en arreglos
+ * paralelos cuya longitud es una potencia de dos, y tiene como campo una
+ * instancia de una clase interna privada que extiende {@link Primitiva} o
+ * {@link DeObjetos}, según el tipo de sus llaves, y que sólo dice cómo se lee,
+ * compara, mueve y vacía una casilla; la exploración, la inserción, la
+ * eliminación por corrimiento hacia atrás y la cuenta de colisiones están aquí.
+ * </p>
+ *
+ * <p>
+ * En una tabla Robin Hood las llaves de un mismo bloque de casillas ocupadas
+ * están ordenadas por su casilla original. Por eso una búsqueda termina en
+ * cuanto encuentra una llave más cercana a su casilla que la buscada, insertar
+ * es recorrer una casilla hacia adelante el resto del bloque, y eliminar es
+ * recorrerlo una casilla hacia atrás.
+ * </p>
+ */
+abstract class TablaRobinHood {
+
+    /* Clase abstracta para tablas con llaves de tipos primitivos. */
+    abstract static class Primitiva extends TablaRobinHood {
+
+        /* Nos dice si en la casilla ocupada i está la llave recibida. */
+        abstract boolean esLlave(int i, long llave);
+
+        /*
+         * Regresa la casilla de la llave con la dispersión recibida, o -1 si
+         * no está en la tabla.
+         */
+        final int indice(long llave, int dispersion) {
+            int mascara = capacidad() - 1;
+            int i = dispersion & mascara;
+            for (int d = 0; ocupada(i) && d <= distancia(i); d++) {
+                if (esLlave(i, llave))
+                    return i;
+                i = (i + 1) & mascara;
+            }
+            return -1;
+        }
+    }
+
+    /* Clase abstracta para tablas con llaves que son objetos. */
+    abstract static class DeObjetos extends TablaRobinHood {
+
+        /*
+         * Nos dice si en la casilla ocupada i está la llave recibida, con la
+         * dispersión recibida.
+         */
+        abstract boolean esLlave(int i, Object llave, int dispersion);
+
+        /*
+         * Regresa la casilla de la llave con la dispersión recibida, o -1 si
+         * no está en la tabla.
+         */
+        final int indice(Object llave, int dispersion) {
+            int mascara = capacidad() - 1;
+            int i = dispersion & mascara;
+            for (int d = 0; ocupada(i) && d <= distancia(i); d++) {
+                if (esLlave(i, llave, dispersion))
+                    return i;
+                i = (i + 1) & mascara;
+            }
+            return -1;
+        }
+    }
+
+    /* Regresa el número de casillas de la tabla; siempre una potencia de dos. */
+    abstract int capacidad();
+
+    /* Nos dice si la casilla i está ocupada. */
+    abstract boolean ocupada(int i);
+
+    /* Regresa la dispersión, ya mezclada, de la llave en la casilla i. */
+    abstract int dispersion(int i);
+
+    /* Copia el contenido de la casilla origen a la casilla destino. */
+    abstract void mueve(int origen, int destino);
+
+    /* Vacía la casilla i. */
+    abstract void vacia(int i);
+
+    /*
+     * Mezcla una dispersión multiplicándola por la razón áurea. Las casillas se
+     * escogen con los bits bajos; sin la mezcla, dispersiones que sólo difieren
+     * en los bits altos (como las de múltiplos de una potencia de dos) caerían
+     * todas en la misma casilla, y llaves consecutivas en casillas consecutivas.
+     */
+    static int mezcla(int dispersion) {
+        int h = dispersion * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /* Regresa la distancia de la casilla i a la casilla original de su llave. */
+    final int distancia(int i) {
+        int mascara = capacidad() - 1;
+        return (i - (dispersion(i) & mascara)) & mascara;
+    }
+
+    /*
+     * Abre lugar para una llave que sabemos que no está en la tabla: busca la
+     * primera casilla cuya llave está más cerca de su casilla original que la
+     * nueva, recorre una casilla hacia adelante el resto del bloque, y regresa
+     * la casilla que quedó libre para que la subclase escriba la llave.
+     */
+    final int abre(int dispersion) {
+        int mascara = capacidad() - 1;
+        int i = dispersion & mascara;
+        for (int d = 0; ocupada(i) && distancia(i) >= d; d++)
+            i = (i + 1) & mascara;
+        int j = i;
+        while (ocupada(j))
+            j = (j + 1) & mascara;
+        while (j != i) {
+            int k = (j - 1) & mascara;
+            mueve(k, j);
+            j = k;
+        }
+        return i;
+    }
+
+    /*
+     * Saca la llave de la casilla i. Las llaves que la siguen se recorren una
+     * casilla hacia atrás, por lo que la tabla nunca deja marcas de casillas
+     * borradas.
+     */
+    final void saca(int i) {
+        int mascara = capacidad() - 1;
+        int j = (i + 1) & mascara;
+        while (ocupada(j) && distancia(j) > 0) {
+            mueve(j, i);
+            i = j;
+            j = (j + 1) & mascara;
+        }
+        vacia(i);
+    }
+
+    /* Regresa cuántas llaves no están en su casilla original. */
+    final int cuentaColisiones() {
+        int colisiones = 0;
+        for (int i = 0; i < capacidad(); i++)
+            if (ocupada(i) && distancia(i) > 0)
+                colisiones++;
+        return colisiones;
+    }
+
+    /* Regresa la máxima distancia de una llave a su casilla original. */
+    final int distanciaMaxima() {
+        int maxima = 0;
+        for (int i = 0; i < capacidad(); i++)
+            if (ocupada(i) && distancia(i) > maxima)
+                maxima = distancia(i);
+        return maxima;
+    }
+}
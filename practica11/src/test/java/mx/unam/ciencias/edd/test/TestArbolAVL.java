@@ -157,6 +157,26 @@ public class TestArbolAVL {
         arbol.elimina(a[a.length/2]);
     }
 
+    /**
+     * Prueba unitaria para {@link ArbolAVL#agrega} y {@link ArbolAVL#elimina}
+     * con muchos elementos en orden, el peor caso para un árbol sin balancear.
+     * Las alturas se mantienen en cada vértice, así que cada operación toma
+     * tiempo logarítmico y la prueba termina antes de la expiración.
+     */
+    @Test public void testAgregaEliminaMuchos() {
+        int n = 200000;
+        for (int i = 0; i < n; i++)
+            arbol.agrega(i);
+        arbolAVLValido(arbol);
+        /* La altura de un árbol AVL es menor que 1.45·log2(n + 2). */
+        double cota = 1.45 * Math.log(n + 2) / Math.log(2);
+        Assert.assertTrue(arbol.altura() < cota);
+        for (int i = 0; i < n; i += 2)
+            arbol.elimina(i);
+        Assert.assertTrue(arbol.getElementos() == n / 2);
+        arbolAVLValido(arbol);
+    }
+
     /**
      * Prueba unitaria para {@link ArbolAVL#giraIzquierda}.
      */
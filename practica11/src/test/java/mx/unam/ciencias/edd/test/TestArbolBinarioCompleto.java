@@ -159,6 +159,34 @@ public class TestArbolBinarioCompleto {
         }
     }
 
+    /**
+     * Prueba unitaria para {@link ArbolBinarioCompleto#agrega} y {@link
+     * ArbolBinarioCompleto#elimina} con muchos elementos: el árbol sigue
+     * completo y su altura es la que regresan sus vértices.
+     */
+    @Test public void testAgregaEliminaMuchos() {
+        int n = 100000;
+        for (int i = 0; i < n; i++)
+            arbol.agrega(i);
+        Assert.assertTrue(arbol.getElementos() == n);
+        Assert.assertTrue(arbol.altura() == arbol.raiz().altura());
+        arbolBinarioCompletoValido(arbol);
+        int i = 0;
+        for (int e : arbol)
+            Assert.assertTrue(e == i++);
+        for (int k = 0; k < 200; k++) {
+            int e = random.nextInt(n);
+            boolean estaba = arbol.contiene(e);
+            arbol.elimina(e);
+            Assert.assertFalse(arbol.contiene(e));
+            if (estaba)
+                n--;
+            Assert.assertTrue(arbol.getElementos() == n);
+        }
+        Assert.assertTrue(arbol.altura() == arbol.raiz().altura());
+        arbolBinarioCompletoValido(arbol);
+    }
+
     /**
      * Prueba unitaria para {@link ArbolBinarioCompleto#altura}.
      */
@@ -1,11 +1,15 @@
 package mx.unam.ciencias.edd.test;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Spliterator;
 import mx.unam.ciencias.edd.ArbolBinario;
 import mx.unam.ciencias.edd.ArbolBinarioOrdenado;
 import mx.unam.ciencias.edd.Cola;
+import mx.unam.ciencias.edd.Coleccion;
 import mx.unam.ciencias.edd.Lista;
 import mx.unam.ciencias.edd.VerticeArbolBinario;
 import org.junit.Assert;
@@ -40,6 +44,28 @@ public class TestArbolBinarioOrdenado {
             llenaColaEnOrden(v.derecho(), cola);
     }
 
+    /* Método auxiliar recursivo para llenar una cola con los elementos del
+     * árbol recorrido en pre-order. */
+    private static <T extends Comparable<T>> void
+    llenaColaPreOrden(VerticeArbolBinario<T> v, Cola<T> cola) {
+        cola.mete(v.get());
+        if (v.hayIzquierdo())
+            llenaColaPreOrden(v.izquierdo(), cola);
+        if (v.hayDerecho())
+            llenaColaPreOrden(v.derecho(), cola);
+    }
+
+    /* Método auxiliar recursivo para llenar una cola con los elementos del
+     * árbol recorrido en post-order. */
+    private static <T extends Comparable<T>> void
+    llenaColaPostOrden(VerticeArbolBinario<T> v, Cola<T> cola) {
+        if (v.hayIzquierdo())
+            llenaColaPostOrden(v.izquierdo(), cola);
+        if (v.hayDerecho())
+            llenaColaPostOrden(v.derecho(), cola);
+        cola.mete(v.get());
+    }
+
     /**
      * Valida un árbol ordenado. Comprueba que para todo nodo A se
      * cumpla que si A tiene como hijo izquierdo a B, entonces B ≤
@@ -822,4 +848,232 @@ public class TestArbolBinarioOrdenado {
                 Assert.assertTrue(v.get().equals(IN_ORDER[indice++]));
             });
     }
+
+    /**
+     * Prueba unitaria para {@link ArbolBinarioOrdenado#spliterator}: los
+     * pedazos en que se parte cubren el árbol en orden, aun con elementos
+     * repetidos.
+     */
+    @Test public void testSpliterator() {
+        Spliterator<Integer> vacio = arbol.spliterator();
+        Assert.assertTrue(vacio.getExactSizeIfKnown() == 0);
+        Assert.assertFalse(vacio.tryAdvance(e -> Assert.fail()));
+        for (int i = 0; i < 5000; i++)
+            arbol.agrega(random.nextInt(1000));
+        Spliterator<Integer> s = arbol.spliterator();
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.SORTED));
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.ORDERED));
+        Assert.assertTrue(s.getComparator() == null);
+        Assert.assertTrue(s.getExactSizeIfKnown() == arbol.getElementos());
+        /* Partimos recursivamente y juntamos los pedazos en orden. */
+        Lista<Spliterator<Integer>> pedazos = new Lista<Spliterator<Integer>>();
+        pedazos.agrega(s);
+        for (int r = 0; r < 6; r++) {
+            Lista<Spliterator<Integer>> partidos =
+                new Lista<Spliterator<Integer>>();
+            for (Spliterator<Integer> p : pedazos) {
+                Spliterator<Integer> izquierdo = p.trySplit();
+                if (izquierdo != null)
+                    partidos.agrega(izquierdo);
+                partidos.agrega(p);
+            }
+            pedazos = partidos;
+        }
+        Assert.assertTrue(pedazos.getLongitud() > 1);
+        Lista<Integer> recorridos = new Lista<Integer>();
+        for (Spliterator<Integer> p : pedazos)
+            p.forEachRemaining(recorridos::agrega);
+        Lista<Integer> esperados = new Lista<Integer>();
+        for (int e : arbol)
+            esperados.agrega(e);
+        Assert.assertTrue(recorridos.equals(esperados));
+        Assert.assertTrue(arbol.parallelStream()
+                          .collect(Coleccion.colector(Lista::new))
+                          .equals(esperados));
+    }
+
+    /**
+     * Prueba unitaria para {@link ArbolBinarioOrdenado#dfsPreOrder}, {@link
+     * ArbolBinarioOrdenado#dfsInOrder} y {@link
+     * ArbolBinarioOrdenado#dfsPostOrder} en árboles aleatorios con elementos
+     * repetidos.
+     */
+    @Test public void testDfsAleatorio() {
+        for (int i = 0; i < total * 10; i++)
+            arbol.agrega(random.nextInt(total));
+        Cola<Integer> pre = new Cola<Integer>();
+        Cola<Integer> in = new Cola<Integer>();
+        Cola<Integer> post = new Cola<Integer>();
+        llenaColaPreOrden(arbol.raiz(), pre);
+        llenaColaEnOrden(arbol.raiz(), in);
+        llenaColaPostOrden(arbol.raiz(), post);
+        arbol.dfsPreOrder(v -> Assert.assertTrue(v.get().equals(pre.saca())));
+        arbol.dfsInOrder(v -> Assert.assertTrue(v.get().equals(in.saca())));
+        arbol.dfsPostOrder(v -> Assert.assertTrue(v.get().equals(post.saca())));
+        Assert.assertTrue(pre.esVacia());
+        Assert.assertTrue(in.esVacia());
+        Assert.assertTrue(post.esVacia());
+    }
+
+    /* Llena el árbol con 0, …, n-1 en desorden y lo convierte en la lista
+     * 0 → 1 → … → n-1 por la derecha, girando a la derecha sobre la espina
+     * derecha mientras tenga hijos izquierdos. Es el mismo árbol que
+     * agregar los elementos en orden, pero toma tiempo lineal. */
+    private void degenera(ArbolBinarioOrdenado<Integer> arbol, int n) {
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++)
+            a[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+        for (int e : a)
+            arbol.agrega(e);
+        VerticeArbolBinario<Integer> v = arbol.raiz();
+        while (v != null) {
+            if (v.hayIzquierdo()) {
+                VerticeArbolBinario<Integer> i = v.izquierdo();
+                arbol.giraDerecha(v);
+                v = i;
+            } else {
+                v = v.hayDerecho() ? v.derecho() : null;
+            }
+        }
+    }
+
+    /**
+     * Prueba unitaria para los recorridos, la búsqueda, la altura, la
+     * profundidad y la igualdad en un árbol degenerado, que es una lista tan
+     * larga que cualquier recursión sobre ella desborda la pila.
+     */
+    @Test synchronized public void testDegenerado() {
+        int n = 200000;
+        ArbolBinarioOrdenado<Integer> otro = new ArbolBinarioOrdenado<Integer>();
+        degenera(arbol, n);
+        degenera(otro, n);
+        Assert.assertTrue(arbol.getElementos() == n);
+        Assert.assertTrue(arbol.altura() == n - 1);
+        Assert.assertTrue(arbol.busca(n - 1).profundidad() == n - 1);
+        Assert.assertTrue(arbol.busca(n - 1).get() == n - 1);
+        Assert.assertTrue(arbol.busca(n) == null);
+        Assert.assertTrue(arbol.contiene(n / 2));
+        Assert.assertTrue(arbol.equals(otro));
+        otro.elimina(n - 1);
+        Assert.assertFalse(arbol.equals(otro));
+        indice = 0;
+        arbol.dfsPreOrder(v -> Assert.assertTrue(v.get().intValue() == indice++));
+        Assert.assertTrue(indice == n);
+        indice = 0;
+        arbol.dfsInOrder(v -> Assert.assertTrue(v.get().intValue() == indice++));
+        Assert.assertTrue(indice == n);
+        arbol.dfsPostOrder(v -> Assert.assertTrue(v.get().intValue() == --indice));
+        Assert.assertTrue(indice == 0);
+        for (int i = 0; i < n / 2; i++)
+            arbol.elimina(i);
+        Assert.assertTrue(arbol.getElementos() == n / 2);
+        Assert.assertTrue(arbol.altura() == n / 2 - 1);
+        Assert.assertTrue(arbol.raiz().get() == n / 2);
+    }
+
+    /**
+     * Prueba unitaria para {@link ArbolBinarioOrdenado#piso}, {@link
+     * ArbolBinarioOrdenado#techo}, {@link ArbolBinarioOrdenado#menor} y {@link
+     * ArbolBinarioOrdenado#mayor}, con elementos repetidos.
+     */
+    @Test public void testPisoTechoMenorMayor() {
+        Assert.assertTrue(arbol.piso(0) == null);
+        Assert.assertTrue(arbol.techo(0) == null);
+        Assert.assertTrue(arbol.menor(0) == null);
+        Assert.assertTrue(arbol.mayor(0) == null);
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = 2 * random.nextInt(total);
+            arbol.agrega(a[i]);
+        }
+        Arrays.sort(a);
+        for (int e = -1; e <= 2 * total; e++) {
+            Integer piso = null, techo = null, menor = null, mayor = null;
+            for (int x : a) {
+                if (x <= e)
+                    piso = x;
+                if (x < e)
+                    menor = x;
+                if (x >= e && techo == null)
+                    techo = x;
+                if (x > e && mayor == null)
+                    mayor = x;
+            }
+            Assert.assertTrue(Objects.equals(arbol.piso(e), piso));
+            Assert.assertTrue(Objects.equals(arbol.techo(e), techo));
+            Assert.assertTrue(Objects.equals(arbol.menor(e), menor));
+            Assert.assertTrue(Objects.equals(arbol.mayor(e), mayor));
+        }
+        try {
+            arbol.piso(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            arbol.mayor(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ArbolBinarioOrdenado#minimo} y {@link
+     * ArbolBinarioOrdenado#maximo}.
+     */
+    @Test public void testMinimoMaximo() {
+        try {
+            arbol.minimo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            arbol.maximo();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        int minimo = Integer.MAX_VALUE;
+        int maximo = Integer.MIN_VALUE;
+        for (int i = 0; i < total; i++) {
+            int e = random.nextInt(total) - total / 2;
+            arbol.agrega(e);
+            minimo = Math.min(minimo, e);
+            maximo = Math.max(maximo, e);
+            Assert.assertTrue(arbol.minimo() == minimo);
+            Assert.assertTrue(arbol.maximo() == maximo);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ArbolBinarioOrdenado#rango}.
+     */
+    @Test public void testRango() {
+        Assert.assertFalse(arbol.rango(0, total).hasNext());
+        int[] a = new int[total * 2];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt(total);
+            arbol.agrega(a[i]);
+        }
+        Arrays.sort(a);
+        for (int r = 0; r < total; r++) {
+            int x = random.nextInt(total + 2) - 1;
+            int y = random.nextInt(total + 2) - 1;
+            Iterator<Integer> iterador = arbol.rango(x, y);
+            for (int e : a)
+                if (x <= e && e <= y) {
+                    Assert.assertTrue(iterador.hasNext());
+                    Assert.assertTrue(iterador.next() == e);
+                }
+            Assert.assertFalse(iterador.hasNext());
+            try {
+                iterador.next();
+                Assert.fail();
+            } catch (NoSuchElementException nsee) {}
+        }
+        try {
+            arbol.rango(null, 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
 }
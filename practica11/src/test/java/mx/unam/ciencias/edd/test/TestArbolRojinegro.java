@@ -6,6 +6,7 @@ import mx.unam.ciencias.edd.ArbolBinario;
 import mx.unam.ciencias.edd.ArbolRojinegro;
 import mx.unam.ciencias.edd.Cola;
 import mx.unam.ciencias.edd.Color;
+import mx.unam.ciencias.edd.ExcepcionIndiceInvalido;
 import mx.unam.ciencias.edd.Lista;
 import mx.unam.ciencias.edd.VerticeArbolBinario;
 import org.junit.Assert;
@@ -28,6 +29,26 @@ public class TestArbolRojinegro {
     /* El árbol. */
     private ArbolRojinegro<Integer> arbol;
 
+    /* Entero que cuenta cuántas veces se compara. */
+    private static class Contado implements Comparable<Contado> {
+
+        /* Número de comparaciones desde la última vez que se reinició. */
+        public static int comparaciones;
+        /* El valor. */
+        private int valor;
+
+        /* Construye un entero contado. */
+        public Contado(int valor) {
+            this.valor = valor;
+        }
+
+        /* Compara y cuenta la comparación. */
+        @Override public int compareTo(Contado c) {
+            comparaciones++;
+            return Integer.compare(valor, c.valor);
+        }
+    }
+
     /* Valida el vértice de un árbol rojinegro, y recursivamente
      * revisa sus hijos. */
     private static <T extends Comparable<T>> void
@@ -597,4 +618,132 @@ public class TestArbolRojinegro {
             "      └─»R{7}\n";
         Assert.assertTrue(arbol.toString().equals(cadena));
     }
+
+    /**
+     * Prueba unitaria para {@link ArbolRojinegro#contiene}: la búsqueda baja
+     * por el árbol, así que hace a lo más una comparación por nivel.
+     */
+    @Test public void testContieneLogaritmico() {
+        int n = 1 << 16;
+        ArbolRojinegro<Contado> contados = new ArbolRojinegro<Contado>();
+        for (int i = 0; i < n; i++)
+            contados.agrega(new Contado(2 * i));
+        int cota = contados.altura() + 1;
+        Assert.assertTrue(cota <= 2 * 17);
+        for (int i = 0; i < 1000; i++) {
+            int e = random.nextInt(2 * n + 2) - 1;
+            Contado.comparaciones = 0;
+            Assert.assertTrue(contados.contiene(new Contado(e)) ==
+                              (e >= 0 && e % 2 == 0 && e < 2 * n));
+            Assert.assertTrue(Contado.comparaciones <= cota);
+        }
+    }
+
+    /* Revisa selecciona, rango y cuentaEnRango contra el arreglo ordenado de
+     * los elementos del árbol. */
+    private void estadisticosValidos(ArbolRojinegro<Integer> arbol, int maximo) {
+        int n = arbol.getElementos();
+        int[] a = new int[n];
+        int i = 0;
+        for (int e : arbol)
+            a[i++] = e;
+        for (int k = 0; k < n; k++)
+            Assert.assertTrue(arbol.selecciona(k) == a[k]);
+        for (int e = -1; e <= maximo; e++) {
+            int menores = 0;
+            while (menores < n && a[menores] < e)
+                menores++;
+            Assert.assertTrue(arbol.rango(e) == menores);
+        }
+        for (int r = 0; r < 10; r++) {
+            int x = random.nextInt(maximo + 2) - 1;
+            int y = random.nextInt(maximo + 2) - 1;
+            int cuenta = 0;
+            for (int e : a)
+                if (x <= e && e <= y)
+                    cuenta++;
+            Assert.assertTrue(arbol.cuentaEnRango(x, y) == cuenta);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ArbolRojinegro#selecciona}, {@link
+     * ArbolRojinegro#rango} y {@link ArbolRojinegro#cuentaEnRango}, agregando
+     * y eliminando elementos repetidos.
+     */
+    @Test public void testEstadisticos() {
+        arbol = new ArbolRojinegro<Integer>(true);
+        Assert.assertTrue(arbol.tieneEstadisticos());
+        Assert.assertTrue(arbol.rango(0) == 0);
+        Assert.assertTrue(arbol.cuentaEnRango(0, total) == 0);
+        for (int i = 0; i < total; i++) {
+            arbol.agrega(random.nextInt(total));
+            arbolRojinegroValido(arbol);
+            estadisticosValidos(arbol, total);
+        }
+        while (!arbol.esVacia()) {
+            arbol.elimina(arbol.selecciona(random.nextInt(arbol.getElementos())));
+            arbolRojinegroValido(arbol);
+            estadisticosValidos(arbol, total);
+        }
+        Lista<Integer> lista = new Lista<Integer>();
+        for (int i = 0; i < total; i++)
+            lista.agrega(total - i);
+        arbol = new ArbolRojinegro<Integer>(lista, true);
+        for (int k = 0; k < total; k++)
+            Assert.assertTrue(arbol.selecciona(k) == k + 1);
+        Assert.assertTrue(arbol.cuentaEnRango(total, 1) == 0);
+    }
+
+    /**
+     * Prueba unitaria para los estadísticos de orden de {@link
+     * ArbolRojinegro} con muchos elementos.
+     */
+    @Test public void testEstadisticosMuchos() {
+        int n = 100000;
+        arbol = new ArbolRojinegro<Integer>(true);
+        for (int i = 0; i < n; i++)
+            arbol.agrega(i);
+        for (int i = 0; i < n; i += 2)
+            arbol.elimina(i);
+        for (int k = 0; k < n / 2; k++)
+            Assert.assertTrue(arbol.selecciona(k) == 2 * k + 1);
+        Assert.assertTrue(arbol.rango(n / 2) == n / 4);
+        Assert.assertTrue(arbol.cuentaEnRango(n / 4, 3 * n / 4) == n / 4);
+    }
+
+    /**
+     * Prueba unitaria para los estadísticos de orden de {@link
+     * ArbolRojinegro} en árboles sin ellos y con índices inválidos.
+     */
+    @Test public void testEstadisticosInvalidos() {
+        Assert.assertFalse(arbol.tieneEstadisticos());
+        arbol.agrega(1);
+        try {
+            arbol.selecciona(0);
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        try {
+            arbol.rango(1);
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        try {
+            arbol.cuentaEnRango(0, 1);
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        arbol = new ArbolRojinegro<Integer>(true);
+        arbol.agrega(1);
+        try {
+            arbol.selecciona(-1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            arbol.selecciona(1);
+            Assert.fail();
+        } catch (ExcepcionIndiceInvalido eii) {}
+        try {
+            arbol.rango(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
 }
@@ -0,0 +1,136 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.Arrays;
+import java.util.Random;
+import mx.unam.ciencias.edd.ArregloEytzinger;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ArregloEytzinger}.
+ */
+public class TestArregloEytzinger {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+
+    /* Regresa un arreglo ordenado con repeticiones. */
+    private int[] ordenado(int n) {
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++)
+            a[i] = random.nextInt(2 * n + 1) - n;
+        Arrays.sort(a);
+        return a;
+    }
+
+    /* Regresa la cota inferior por búsqueda lineal. */
+    private static int cotaInferior(int[] a, int e) {
+        int i = 0;
+        while (i < a.length && a[i] < e)
+            i++;
+        return i;
+    }
+
+    /* Regresa la cota superior por búsqueda lineal. */
+    private static int cotaSuperior(int[] a, int e) {
+        int i = 0;
+        while (i < a.length && a[i] <= e)
+            i++;
+        return i;
+    }
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba y un número
+     * total de elementos.
+     */
+    public TestArregloEytzinger() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+    }
+
+    /**
+     * Prueba unitaria para {@link ArregloEytzinger#ArregloEytzinger}.
+     */
+    @Test public void testConstructor() {
+        try {
+            new ArregloEytzinger(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            new ArregloEytzinger(new int[] { 1, 3, 2 });
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        int[] a = ordenado(total);
+        int[] copia = a.clone();
+        ArregloEytzinger e = new ArregloEytzinger(a);
+        Assert.assertTrue(e.getLongitud() == total);
+        Assert.assertArrayEquals(copia, a);
+        ArregloEytzinger vacio = new ArregloEytzinger(new int[0]);
+        Assert.assertTrue(vacio.getLongitud() == 0);
+        Assert.assertTrue(vacio.cotaInferior(0) == 0);
+        Assert.assertTrue(vacio.cotaSuperior(0) == 0);
+        Assert.assertTrue(vacio.busca(0) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link ArregloEytzinger#cotaInferior} y {@link
+     * ArregloEytzinger#cotaSuperior}, con todas las longitudes hasta el total.
+     */
+    @Test public void testCotas() {
+        for (int n = 1; n <= total; n++) {
+            int[] a = ordenado(n);
+            ArregloEytzinger e = new ArregloEytzinger(a);
+            for (int x = -n - 2; x <= n + 2; x++) {
+                Assert.assertTrue(e.cotaInferior(x) == cotaInferior(a, x));
+                Assert.assertTrue(e.cotaSuperior(x) == cotaSuperior(a, x));
+            }
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ArregloEytzinger#busca} y {@link
+     * ArregloEytzinger#contiene}.
+     */
+    @Test public void testBusca() {
+        int[] a = ordenado(total);
+        ArregloEytzinger e = new ArregloEytzinger(a);
+        for (int x = -total - 2; x <= total + 2; x++) {
+            int i = cotaInferior(a, x);
+            boolean esta = i < a.length && a[i] == x;
+            Assert.assertTrue(e.busca(x) == (esta ? i : -1));
+            Assert.assertTrue(e.contiene(x) == esta);
+        }
+        ArregloEytzinger extremos = new ArregloEytzinger(
+            new int[] { Integer.MIN_VALUE, 0, Integer.MAX_VALUE });
+        Assert.assertTrue(extremos.busca(Integer.MIN_VALUE) == 0);
+        Assert.assertTrue(extremos.busca(Integer.MAX_VALUE) == 2);
+        Assert.assertTrue(extremos.cotaSuperior(Integer.MAX_VALUE) == 3);
+    }
+
+    /**
+     * Prueba unitaria para {@link ArregloEytzinger#cotasInferiores}.
+     */
+    @Test public void testCotasInferiores() {
+        try {
+            new ArregloEytzinger(new int[0]).cotasInferiores(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        int[] a = ordenado(10000);
+        ArregloEytzinger e = new ArregloEytzinger(a);
+        int[] agujas = new int[1000 + random.nextInt(100)];
+        for (int i = 0; i < agujas.length; i++)
+            agujas[i] = random.nextInt(30000) - 15000;
+        int[] cotas = e.cotasInferiores(agujas);
+        Assert.assertTrue(cotas.length == agujas.length);
+        for (int i = 0; i < agujas.length; i++)
+            Assert.assertTrue(cotas[i] == e.cotaInferior(agujas[i]));
+        Assert.assertTrue(e.cotasInferiores(new int[0]).length == 0);
+    }
+}
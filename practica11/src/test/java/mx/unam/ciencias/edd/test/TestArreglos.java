@@ -1,5 +1,6 @@
 package mx.unam.ciencias.edd.test;
 
+import java.util.Arrays;
 import java.util.Random;
 import mx.unam.ciencias.edd.Arreglos;
 import org.junit.Assert;
@@ -67,6 +68,312 @@ public class TestArreglos {
         Assert.assertTrue(estaOrdenado(arreglo));
     }
 
+    /* Regresa un arreglo de n elementos con la distribución recibida. */
+    private Integer[] distribucion(int tipo, int n) {
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            switch (tipo) {
+            case 0: a[i] = i; break;
+            case 1: a[i] = n - i; break;
+            case 2: a[i] = 7; break;
+            case 3: a[i] = random.nextInt(4); break;
+            case 4: a[i] = Math.min(i, n - i); break;
+            case 5: a[i] = i % 64; break;
+            default: a[i] = random.nextInt(n);
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(Object[],Comparator)} con
+     * distribuciones que vuelven cuadrático a un QuickSort ingenuo: ordenadas,
+     * en reversa, constantes, con pocos valores distintos, en montaña y en
+     * dientes de sierra.
+     */
+    @Test public void testQuickSortAdversarios() {
+        int n = 50000;
+        /* HeapSort e InsertionSort garantizan a lo más ~3n·log(n) comparaciones. */
+        long maximo = 3L * n * (32 - Integer.numberOfLeadingZeros(n));
+        for (int tipo = 0; tipo <= 6; tipo++) {
+            Integer[] a = distribucion(tipo, n);
+            Integer[] esperado = a.clone();
+            Arrays.sort(esperado);
+            long[] comparaciones = { 0 };
+            Arreglos.quickSort(a, (x, y) -> {
+                    comparaciones[0]++;
+                    return x.compareTo(y);
+                });
+            Assert.assertArrayEquals(esperado, a);
+            Assert.assertTrue(comparaciones[0] <= maximo);
+        }
+    }
+
+    /**
+     * Prueba unitaria para
+     * {@link Arreglos#quickSort(Object[],Comparator,int,int)}.
+     */
+    @Test public void testQuickSortRango() {
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Integer[] copia = arreglo.clone();
+        int a = random.nextInt(total);
+        int b = a + random.nextInt(total - a);
+        Arreglos.quickSort(arreglo, (x, y) -> x.compareTo(y), a, b);
+        Arrays.sort(copia, a, b + 1);
+        Assert.assertArrayEquals(copia, arreglo);
+    }
+
+    /**
+     * Prueba unitaria para
+     * {@link Arreglos#quickSortParalelo(Object[],Comparator,int)}.
+     */
+    @Test public void testQuickSortParalelo() {
+        for (int tipo = 0; tipo <= 6; tipo++) {
+            Integer[] a = distribucion(tipo, 20000);
+            Integer[] esperado = a.clone();
+            Arrays.sort(esperado);
+            Arreglos.quickSortParalelo(a, (x, y) -> x.compareTo(y),
+                                       1 + random.nextInt(1000));
+            Assert.assertArrayEquals(esperado, a);
+        }
+        try {
+            Arreglos.quickSortParalelo(arreglo, (x, y) -> x.compareTo(y), 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        Integer[] vacio = new Integer[0];
+        Arreglos.quickSortParalelo(vacio);
+        Assert.assertTrue(vacio.length == 0);
+    }
+
+    /**
+     * Prueba unitaria para
+     * {@link Arreglos#mergeSortParalelo(Object[],Comparator,int)}; revisa
+     * también que el ordenamiento sea estable.
+     */
+    @Test public void testMergeSortParalelo() {
+        for (int tipo = 0; tipo <= 6; tipo++) {
+            int n = 20000;
+            Integer[] a = distribucion(tipo, n);
+            /* Ordenamos índices por su valor; los empates deben quedar en orden. */
+            Integer[] indices = new Integer[n];
+            for (int i = 0; i < n; i++)
+                indices[i] = i;
+            Integer[] esperado = indices.clone();
+            Arrays.sort(esperado, (x, y) -> a[x].compareTo(a[y]));
+            Arreglos.mergeSortParalelo(indices, (x, y) -> a[x].compareTo(a[y]),
+                                       1 + random.nextInt(1000));
+            Assert.assertArrayEquals(esperado, indices);
+        }
+        for (int umbral = 1; umbral <= 3; umbral++) {
+            Integer[] b = distribucion(6, 1000);
+            Integer[] ordenado = b.clone();
+            Arrays.sort(ordenado);
+            Arreglos.mergeSortParalelo(b, (x, y) -> x.compareTo(y), umbral);
+            Assert.assertArrayEquals(ordenado, b);
+        }
+        try {
+            Arreglos.mergeSortParalelo(arreglo, (x, y) -> x.compareTo(y), 0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total);
+        Integer[] copia = arreglo.clone();
+        Arrays.sort(copia);
+        Arreglos.mergeSortParalelo(arreglo);
+        Assert.assertArrayEquals(copia, arreglo);
+    }
+
+    /* Regresa un arreglo de enteros con la distribución recibida. */
+    private int[] distribucionInt(int tipo, int n) {
+        int[] a = new int[n];
+        Integer[] d = distribucion(tipo, n);
+        for (int i = 0; i < n; i++)
+            a[i] = d[i] - n / 2;
+        return a;
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#quickSort(int[])}, {@link
+     * Arreglos#quickSort(long[])} y {@link Arreglos#quickSort(double[])}.
+     */
+    @Test public void testQuickSortPrimitivos() {
+        for (int tipo = 0; tipo <= 6; tipo++) {
+            int[] a = distribucionInt(tipo, 50000);
+            long[] l = new long[a.length];
+            double[] d = new double[a.length];
+            for (int i = 0; i < a.length; i++) {
+                l[i] = (long) a[i] * Integer.MAX_VALUE;
+                d[i] = a[i] / 3.0;
+            }
+            int[] ea = a.clone();
+            long[] el = l.clone();
+            double[] ed = d.clone();
+            Arrays.sort(ea);
+            Arrays.sort(el);
+            Arrays.sort(ed);
+            Arreglos.quickSort(a);
+            Arreglos.quickSort(l);
+            Arreglos.quickSort(d);
+            Assert.assertArrayEquals(ea, a);
+            Assert.assertArrayEquals(el, l);
+            Assert.assertArrayEquals(ed, d, 0.0);
+        }
+        double[] d = { 1.0, Double.NaN, 0.0, -0.0, -1.0, Double.NaN, 0.0 };
+        double[] ed = d.clone();
+        Arrays.sort(ed);
+        Arreglos.quickSort(d);
+        for (int i = 0; i < d.length; i++)
+            Assert.assertTrue(Double.compare(ed[i], d[i]) == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#selectionSort(int[])}, {@link
+     * Arreglos#selectionSort(long[])} y {@link Arreglos#selectionSort(double[])}.
+     */
+    @Test public void testSelectionSortPrimitivos() {
+        int[] a = new int[total];
+        long[] l = new long[total];
+        double[] d = new double[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = random.nextInt();
+            l[i] = random.nextLong();
+            d[i] = random.nextGaussian();
+        }
+        int[] ea = a.clone();
+        long[] el = l.clone();
+        double[] ed = d.clone();
+        Arrays.sort(ea);
+        Arrays.sort(el);
+        Arrays.sort(ed);
+        Arreglos.selectionSort(a);
+        Arreglos.selectionSort(l);
+        Arreglos.selectionSort(d);
+        Assert.assertArrayEquals(ea, a);
+        Assert.assertArrayEquals(el, l);
+        Assert.assertArrayEquals(ed, d, 0.0);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#busquedaBinaria(int[],int)},
+     * {@link Arreglos#busquedaBinaria(long[],long)} y {@link
+     * Arreglos#busquedaBinaria(double[],double)}.
+     */
+    @Test public void testBusquedaBinariaPrimitivos() {
+        int ini = random.nextInt(total) - total / 2;
+        int[] a = new int[total];
+        long[] l = new long[total];
+        double[] d = new double[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = ini + 2 * i;
+            l[i] = a[i];
+            d[i] = a[i];
+        }
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(l, l[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(d, d[i]) == i);
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, a[i] + 1) == -1);
+            Assert.assertTrue(Arreglos.busquedaBinaria(l, l[i] + 1) == -1);
+            Assert.assertTrue(Arreglos.busquedaBinaria(d, d[i] + 0.5) == -1);
+        }
+        Assert.assertTrue(Arreglos.busquedaBinaria(a, ini - 1) == -1);
+        Assert.assertTrue(Arreglos.busquedaBinaria(new int[0], ini) == -1);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#radixSort(int[])} y {@link
+     * Arreglos#radixSort(long[])}.
+     */
+    @Test public void testRadixSort() {
+        for (int tipo = 0; tipo <= 6; tipo++) {
+            int[] a = distribucionInt(tipo, 50000);
+            int[] ea = a.clone();
+            Arrays.sort(ea);
+            Arreglos.radixSort(a);
+            Assert.assertArrayEquals(ea, a);
+        }
+        int[] a = new int[10000];
+        long[] l = new long[10000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt();
+            l[i] = random.nextLong();
+        }
+        a[0] = Integer.MIN_VALUE;
+        a[1] = Integer.MAX_VALUE;
+        l[0] = Long.MIN_VALUE;
+        l[1] = Long.MAX_VALUE;
+        int[] ea = a.clone();
+        long[] el = l.clone();
+        Arrays.sort(ea);
+        Arrays.sort(el);
+        Arreglos.radixSort(a);
+        Arreglos.radixSort(l);
+        Assert.assertArrayEquals(ea, a);
+        Assert.assertArrayEquals(el, l);
+        int[] vacio = new int[0];
+        Arreglos.radixSort(vacio);
+        Assert.assertTrue(vacio.length == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#cotaInferior(Comparable[],Comparable)}
+     * y {@link Arreglos#cotaSuperior(Comparable[],Comparable)}, y sus versiones
+     * para arreglos de primitivos.
+     */
+    @Test public void testCotas() {
+        for (int i = 0; i < total; i++)
+            arreglo[i] = random.nextInt(total / 4 + 1);
+        Arrays.sort(arreglo);
+        int[] a = new int[total];
+        long[] l = new long[total];
+        double[] d = new double[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = arreglo[i];
+            l[i] = arreglo[i];
+            d[i] = arreglo[i];
+        }
+        for (int x = -1; x <= total / 4 + 2; x++) {
+            int inferior = 0;
+            while (inferior < total && arreglo[inferior] < x)
+                inferior++;
+            int superior = inferior;
+            while (superior < total && arreglo[superior] == x)
+                superior++;
+            Assert.assertTrue(Arreglos.cotaInferior(arreglo, x) == inferior);
+            Assert.assertTrue(Arreglos.cotaSuperior(arreglo, x) == superior);
+            Assert.assertTrue(Arreglos.cotaInferior(a, x) == inferior);
+            Assert.assertTrue(Arreglos.cotaSuperior(a, x) == superior);
+            Assert.assertTrue(Arreglos.cotaInferior(l, x) == inferior);
+            Assert.assertTrue(Arreglos.cotaSuperior(l, x) == superior);
+            Assert.assertTrue(Arreglos.cotaInferior(d, x) == inferior);
+            Assert.assertTrue(Arreglos.cotaSuperior(d, x) == superior);
+            int indice = inferior < superior ? inferior : -1;
+            Assert.assertTrue(Arreglos.busquedaBinaria(arreglo, x) == indice);
+            Assert.assertTrue(Arreglos.busquedaBinaria(a, x) == indice);
+        }
+        Integer[] vacio = new Integer[0];
+        Assert.assertTrue(Arreglos.cotaInferior(vacio, 1) == 0);
+        Assert.assertTrue(Arreglos.cotaSuperior(vacio, 1) == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link Arreglos#cotasInferiores}.
+     */
+    @Test public void testCotasInferiores() {
+        int[] a = distribucionInt(6, 10000);
+        Arrays.sort(a);
+        int[] agujas = new int[1000 + random.nextInt(100)];
+        for (int i = 0; i < agujas.length; i++)
+            agujas[i] = random.nextInt(12000) - 6000;
+        int[] cotas = Arreglos.cotasInferiores(a, agujas);
+        for (int i = 0; i < agujas.length; i++)
+            Assert.assertTrue(cotas[i] == Arreglos.cotaInferior(a, agujas[i]));
+        cotas = Arreglos.cotasInferiores(new int[0], agujas);
+        for (int c : cotas)
+            Assert.assertTrue(c == 0);
+    }
+
     /**
      * Prueba unitaria para {@link Arreglos#selectionSort(Comparable[])}.
      */
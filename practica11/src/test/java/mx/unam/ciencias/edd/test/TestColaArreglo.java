@@ -0,0 +1,219 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.edd.Cola;
+import mx.unam.ciencias.edd.ColaArreglo;
+import mx.unam.ciencias.edd.MeteSaca;
+import mx.unam.ciencias.edd.Pila;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ColaArreglo}.
+ */
+public class TestColaArreglo {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La cola. */
+    private ColaArreglo<Integer> cola;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un
+     * número total de elementos para nuestra cola, y una cola.
+     */
+    public TestColaArreglo() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        cola = new ColaArreglo<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaArreglo#ColaArreglo()}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(cola != null);
+        Assert.assertTrue(cola.esVacia());
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nse) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaArreglo#mete}.
+     */
+    @Test public void testMete() {
+        try {
+            cola.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(i);
+        int c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == c++);
+        Assert.assertTrue(c == total);
+        try {
+            cola.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(i);
+        c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == c++);
+        Assert.assertTrue(c == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaArreglo#saca}.
+     */
+    @Test public void testSaca() {
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = i;
+            cola.mete(a[i]);
+        }
+        int c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == a[c++]);
+        Assert.assertTrue(c == total);
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(a[i]);
+        c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == a[c++]);
+        Assert.assertTrue(c == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link MeteSaca#mira}.
+     */
+    @Test public void testMira() {
+        try {
+            cola.mira();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++) {
+            cola.mete(i);
+            Assert.assertTrue(cola.mira() == 0);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaArreglo#esVacia}.
+     */
+    @Test public void testEsVacia() {
+        Assert.assertTrue(cola.esVacia());
+        cola.mete(1);
+        Assert.assertFalse(cola.esVacia());
+        cola.saca();
+        Assert.assertTrue(cola.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaArreglo#toString}.
+     */
+    @Test public void testToString() {
+        Assert.assertTrue(cola.toString().equals(""));
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = i;
+            cola.mete(i);
+            String s = "";
+            for (int j = 0; j <= i; j++)
+                s += String.valueOf(a[j]) + ",";
+            Assert.assertTrue(cola.toString().equals(s));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaArreglo#equals}.
+     */
+    @Test public void testEquals() {
+        Assert.assertFalse(cola.equals(null));
+        Assert.assertFalse(cola.equals(""));
+        Assert.assertFalse(cola.equals(new Pila<Integer>()));
+        ColaArreglo<Integer> cola2 = new ColaArreglo<Integer>();
+        Assert.assertTrue(cola.equals(cola2));
+        for (int i = 0; i < total; i++) {
+            cola.mete(i);
+            Assert.assertFalse(cola.equals(cola2));
+            cola2.mete(i);
+            Assert.assertTrue(cola.equals(cola2));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaArreglo#mete} intercalado con {@link
+     * ColaArreglo#saca}, de manera que el arreglo da la vuelta y crece.
+     */
+    @Test public void testMeteSacaIntercalados() {
+        Cola<Integer> control = new Cola<Integer>();
+        for (int i = 0; i < total * 20; i++) {
+            if (random.nextInt(3) == 0 && !cola.esVacia()) {
+                Assert.assertTrue(cola.saca().equals(control.saca()));
+            } else {
+                cola.mete(i);
+                control.mete(i);
+            }
+            if (!control.esVacia())
+                Assert.assertTrue(cola.mira().equals(control.mira()));
+        }
+        Assert.assertTrue(cola.toString().equals(control.toString()));
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca().equals(control.saca()));
+        Assert.assertTrue(control.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaArreglo#ofrece} en una cola acotada.
+     */
+    @Test public void testAcotada() {
+        try {
+            new ColaArreglo<Integer>(0, true);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        cola = new ColaArreglo<Integer>(total, true);
+        for (int r = 0; r < 3; r++) {
+            for (int i = 0; i < total; i++) {
+                Assert.assertFalse(cola.estaLlena());
+                Assert.assertTrue(cola.ofrece(i));
+            }
+            Assert.assertTrue(cola.estaLlena());
+            Assert.assertTrue(cola.getElementos() == total);
+            Assert.assertFalse(cola.ofrece(total));
+            try {
+                cola.mete(total);
+                Assert.fail();
+            } catch (IllegalStateException ise) {}
+            for (int i = 0; i < total / 2; i++)
+                Assert.assertTrue(cola.saca() == i);
+            for (int i = 0; i < total / 2; i++)
+                Assert.assertTrue(cola.ofrece(total + i));
+            Assert.assertTrue(cola.estaLlena());
+            for (int i = total / 2; i < total; i++)
+                Assert.assertTrue(cola.saca() == i);
+            for (int i = 0; i < total / 2; i++)
+                Assert.assertTrue(cola.saca() == total + i);
+            Assert.assertTrue(cola.esVacia());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import mx.unam.ciencias.edd.ColaConcurrente;
+import mx.unam.ciencias.edd.Lista;
+import mx.unam.ciencias.edd.MeteSaca;
+import mx.unam.ciencias.edd.Pila;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ColaConcurrente}.
+ */
+public class TestColaConcurrente {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La cola. */
+    private ColaConcurrente<Integer> cola;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un
+     * número total de elementos para nuestra cola, y una cola.
+     */
+    public TestColaConcurrente() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        cola = new ColaConcurrente<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrente#ColaConcurrente}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(cola != null);
+        Assert.assertTrue(cola.esVacia());
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nse) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrente#mete}.
+     */
+    @Test public void testMete() {
+        try {
+            cola.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(i);
+        int c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == c++);
+        Assert.assertTrue(c == total);
+        try {
+            cola.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(i);
+        c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == c++);
+        Assert.assertTrue(c == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrente#saca}.
+     */
+    @Test public void testSaca() {
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = i;
+            cola.mete(a[i]);
+        }
+        int c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == a[c++]);
+        Assert.assertTrue(c == total);
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(a[i]);
+        c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == a[c++]);
+        Assert.assertTrue(c == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link MeteSaca#mira}.
+     */
+    @Test public void testMira() {
+        try {
+            cola.mira();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++) {
+            cola.mete(i);
+            Assert.assertTrue(cola.mira() == 0);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrente#esVacia}.
+     */
+    @Test public void testEsVacia() {
+        Assert.assertTrue(cola.esVacia());
+        cola.mete(1);
+        Assert.assertFalse(cola.esVacia());
+        cola.saca();
+        Assert.assertTrue(cola.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrente#toString}.
+     */
+    @Test public void testToString() {
+        Assert.assertTrue(cola.toString().equals(""));
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = i;
+            cola.mete(i);
+            String s = "";
+            for (int j = 0; j <= i; j++)
+                s += String.valueOf(a[j]) + ",";
+            Assert.assertTrue(cola.toString().equals(s));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrente#equals}.
+     */
+    @Test public void testEquals() {
+        Assert.assertFalse(cola.equals(null));
+        Assert.assertFalse(cola.equals(""));
+        Assert.assertFalse(cola.equals(new Pila<Integer>()));
+        ColaConcurrente<Integer> cola2 = new ColaConcurrente<Integer>();
+        Assert.assertTrue(cola.equals(cola2));
+        for (int i = 0; i < total; i++) {
+            cola.mete(i);
+            Assert.assertFalse(cola.equals(cola2));
+            cola2.mete(i);
+            Assert.assertTrue(cola.equals(cola2));
+        }
+    }
+
+    /* Número de productores y de consumidores en las pruebas de estrés. */
+    private static final int HILOS = 4;
+    /* Número de elementos que mete cada productor. */
+    private static final int POR_PRODUCTOR = 20000;
+
+    /*
+     * Revisa que los consumidores hayan recibido cada elemento exactamente una
+     * vez, y los de cada productor en el orden en que los metió.
+     */
+    private void revisaEstres(Lista<Lista<Integer>> recibidos) {
+        boolean[] visto = new boolean[HILOS * POR_PRODUCTOR];
+        for (Lista<Integer> lista : recibidos) {
+            int[] ultimo = new int[HILOS];
+            Arrays.fill(ultimo, -1);
+            for (int e : lista) {
+                Assert.assertFalse(visto[e]);
+                visto[e] = true;
+                int productor = e / POR_PRODUCTOR;
+                Assert.assertTrue(ultimo[productor] < e);
+                ultimo[productor] = e;
+            }
+        }
+        for (boolean v : visto)
+            Assert.assertTrue(v);
+    }
+
+    /* Arranca y espera a los hilos. */
+    private void corre(Lista<Thread> hilos) throws InterruptedException {
+        for (Thread t : hilos)
+            t.start();
+        for (Thread t : hilos)
+            t.join();
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrente#extrae}.
+     */
+    @Test public void testExtrae() {
+        Assert.assertTrue(cola.extrae() == null);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(cola.ofrece(i));
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(cola.extrae() == i);
+        Assert.assertTrue(cola.extrae() == null);
+        Assert.assertTrue(cola.esVacia());
+    }
+
+    /**
+     * Prueba de estrés para {@link ColaConcurrente} con varios productores y
+     * consumidores.
+     */
+    @Test public void testEstres() throws InterruptedException {
+        AtomicInteger pendientes = new AtomicInteger(HILOS * POR_PRODUCTOR);
+        Lista<Lista<Integer>> recibidos = new Lista<Lista<Integer>>();
+        Lista<Thread> hilos = new Lista<Thread>();
+        for (int h = 0; h < HILOS; h++) {
+            int productor = h;
+            hilos.agrega(new Thread(() -> {
+                        for (int i = 0; i < POR_PRODUCTOR; i++)
+                            cola.mete(productor * POR_PRODUCTOR + i);
+            }));
+            Lista<Integer> propios = new Lista<Integer>();
+            recibidos.agrega(propios);
+            hilos.agrega(new Thread(() -> {
+                        while (pendientes.get() > 0) {
+                            Integer e = cola.extrae();
+                            if (e == null) {
+                                Thread.yield();
+                                continue;
+                            }
+                            propios.agrega(e);
+                            pendientes.decrementAndGet();
+                        }
+            }));
+        }
+        corre(hilos);
+        Assert.assertTrue(cola.esVacia());
+        revisaEstres(recibidos);
+    }
+}
@@ -0,0 +1,279 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.edd.ColaConcurrenteAcotada;
+import mx.unam.ciencias.edd.Lista;
+import mx.unam.ciencias.edd.MeteSaca;
+import mx.unam.ciencias.edd.Pila;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ColaConcurrenteAcotada}.
+ */
+public class TestColaConcurrenteAcotada {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La cola. */
+    private ColaConcurrenteAcotada<Integer> cola;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un
+     * número total de elementos para nuestra cola, y una cola.
+     */
+    public TestColaConcurrenteAcotada() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        cola = new ColaConcurrenteAcotada<Integer>(total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrenteAcotada#ColaConcurrenteAcotada}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(cola != null);
+        Assert.assertTrue(cola.esVacia());
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nse) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrenteAcotada#mete}.
+     */
+    @Test public void testMete() {
+        try {
+            cola.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(i);
+        int c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == c++);
+        Assert.assertTrue(c == total);
+        try {
+            cola.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(i);
+        c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == c++);
+        Assert.assertTrue(c == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrenteAcotada#saca}.
+     */
+    @Test public void testSaca() {
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = i;
+            cola.mete(a[i]);
+        }
+        int c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == a[c++]);
+        Assert.assertTrue(c == total);
+        try {
+            cola.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++)
+            cola.mete(a[i]);
+        c = 0;
+        while (!cola.esVacia())
+            Assert.assertTrue(cola.saca() == a[c++]);
+        Assert.assertTrue(c == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link MeteSaca#mira}.
+     */
+    @Test public void testMira() {
+        try {
+            cola.mira();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++) {
+            cola.mete(i);
+            Assert.assertTrue(cola.mira() == 0);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrenteAcotada#esVacia}.
+     */
+    @Test public void testEsVacia() {
+        Assert.assertTrue(cola.esVacia());
+        cola.mete(1);
+        Assert.assertFalse(cola.esVacia());
+        cola.saca();
+        Assert.assertTrue(cola.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrenteAcotada#toString}.
+     */
+    @Test public void testToString() {
+        Assert.assertTrue(cola.toString().equals(""));
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = i;
+            cola.mete(i);
+            String s = "";
+            for (int j = 0; j <= i; j++)
+                s += String.valueOf(a[j]) + ",";
+            Assert.assertTrue(cola.toString().equals(s));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrenteAcotada#equals}.
+     */
+    @Test public void testEquals() {
+        Assert.assertFalse(cola.equals(null));
+        Assert.assertFalse(cola.equals(""));
+        Assert.assertFalse(cola.equals(new Pila<Integer>()));
+        ColaConcurrenteAcotada<Integer> cola2 = new ColaConcurrenteAcotada<Integer>(total);
+        Assert.assertTrue(cola.equals(cola2));
+        for (int i = 0; i < total; i++) {
+            cola.mete(i);
+            Assert.assertFalse(cola.equals(cola2));
+            cola2.mete(i);
+            Assert.assertTrue(cola.equals(cola2));
+        }
+    }
+
+    /* Número de productores y de consumidores en las pruebas de estrés. */
+    private static final int HILOS = 4;
+    /* Número de elementos que mete cada productor. */
+    private static final int POR_PRODUCTOR = 20000;
+
+    /*
+     * Revisa que los consumidores hayan recibido cada elemento exactamente una
+     * vez, y los de cada productor en el orden en que los metió.
+     */
+    private void revisaEstres(Lista<Lista<Integer>> recibidos) {
+        boolean[] visto = new boolean[HILOS * POR_PRODUCTOR];
+        for (Lista<Integer> lista : recibidos) {
+            int[] ultimo = new int[HILOS];
+            Arrays.fill(ultimo, -1);
+            for (int e : lista) {
+                Assert.assertFalse(visto[e]);
+                visto[e] = true;
+                int productor = e / POR_PRODUCTOR;
+                Assert.assertTrue(ultimo[productor] < e);
+                ultimo[productor] = e;
+            }
+        }
+        for (boolean v : visto)
+            Assert.assertTrue(v);
+    }
+
+    /* Arranca y espera a los hilos. */
+    private void corre(Lista<Thread> hilos) throws InterruptedException {
+        for (Thread t : hilos)
+            t.start();
+        for (Thread t : hilos)
+            t.join();
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrenteAcotada#ofrece} y {@link
+     * ColaConcurrenteAcotada#extrae}.
+     */
+    @Test public void testOfreceExtrae() {
+        try {
+            new ColaConcurrenteAcotada<Integer>(0);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        int capacidad = cola.getCapacidad();
+        Assert.assertTrue(capacidad >= total);
+        Assert.assertTrue(cola.extrae() == null);
+        for (int r = 0; r < 3; r++) {
+            for (int i = 0; i < capacidad; i++)
+                Assert.assertTrue(cola.ofrece(i));
+            Assert.assertTrue(cola.getElementos() == capacidad);
+            Assert.assertFalse(cola.ofrece(capacidad));
+            try {
+                cola.mete(capacidad);
+                Assert.fail();
+            } catch (IllegalStateException ise) {}
+            for (int i = 0; i < capacidad; i++)
+                Assert.assertTrue(cola.extrae() == i);
+            Assert.assertTrue(cola.extrae() == null);
+        }
+    }
+
+    /**
+     * Prueba de estrés para {@link ColaConcurrenteAcotada} con varios
+     * productores y consumidores que esperan, con una cola pequeña para que
+     * unos y otros tengan que esperar.
+     */
+    @Test public void testEstres() throws InterruptedException {
+        ColaConcurrenteAcotada<Integer> acotada =
+            new ColaConcurrenteAcotada<Integer>(64);
+        Lista<Lista<Integer>> recibidos = new Lista<Lista<Integer>>();
+        Lista<Thread> productores = new Lista<Thread>();
+        Lista<Thread> consumidores = new Lista<Thread>();
+        for (int h = 0; h < HILOS; h++) {
+            int productor = h;
+            productores.agrega(new Thread(() -> {
+                        try {
+                            for (int i = 0; i < POR_PRODUCTOR; i++)
+                                acotada.meteEsperando(productor * POR_PRODUCTOR
+                                                      + i);
+                        } catch (InterruptedException ie) {}
+            }));
+            Lista<Integer> propios = new Lista<Integer>();
+            recibidos.agrega(propios);
+            consumidores.agrega(new Thread(() -> {
+                        try {
+                            int e;
+                            while ((e = acotada.sacaEsperando()) != -1)
+                                propios.agrega(e);
+                        } catch (InterruptedException ie) {}
+            }));
+        }
+        for (Thread t : consumidores)
+            t.start();
+        corre(productores);
+        for (int h = 0; h < HILOS; h++)
+            acotada.meteEsperando(-1);
+        for (Thread t : consumidores)
+            t.join();
+        Assert.assertTrue(acotada.esVacia());
+        revisaEstres(recibidos);
+    }
+
+    /**
+     * Prueba unitaria para {@link ColaConcurrenteAcotada#sacaEsperando} cuando
+     * el hilo es interrumpido.
+     */
+    @Test public void testInterrumpido() throws InterruptedException {
+        Thread.currentThread().interrupt();
+        try {
+            cola.sacaEsperando();
+            Assert.fail();
+        } catch (InterruptedException ie) {}
+        Assert.assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
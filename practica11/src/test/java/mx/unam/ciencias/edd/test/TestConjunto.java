@@ -2,6 +2,8 @@ package mx.unam.ciencias.edd.test;
 
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
+import mx.unam.ciencias.edd.Coleccion;
 import mx.unam.ciencias.edd.Conjunto;
 import mx.unam.ciencias.edd.Lista;
 import org.junit.Assert;
@@ -196,6 +198,112 @@ public class TestConjunto {
             Assert.assertTrue(union.contiene(n));
     }
 
+    /* Llena el conjunto con los enteros en [ini, fin) como cadenas. */
+    private Conjunto<String> cadenas(int ini, int fin) {
+        Conjunto<String> c = new Conjunto<String>();
+        for (int i = ini; i < fin; i++)
+            c.agrega(String.valueOf(i));
+        return c;
+    }
+
+    /**
+     * Prueba unitaria para {@link Conjunto#diferencia}.
+     */
+    @Test public void testDiferencia() {
+        int m = 1 + random.nextInt(total * 2);
+        Conjunto<String> a = cadenas(0, total);
+        Conjunto<String> b = cadenas(total / 2, total / 2 + m);
+        Conjunto<String> d = a.diferencia(b);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(d.contiene(String.valueOf(i)) ==
+                              (i < total / 2 || i >= total / 2 + m));
+        Assert.assertTrue(d.getElementos() == total / 2 +
+                          Math.max(0, total - total / 2 - m));
+        Assert.assertTrue(a.getElementos() == total);
+        Assert.assertTrue(a.diferencia(a).esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link Conjunto#diferenciaSimetrica}.
+     */
+    @Test public void testDiferenciaSimetrica() {
+        int m = 1 + random.nextInt(total * 2);
+        Conjunto<String> a = cadenas(0, total);
+        Conjunto<String> b = cadenas(total / 2, total / 2 + m);
+        Conjunto<String> d = a.diferenciaSimetrica(b);
+        int c = 0;
+        for (int i = 0; i < total / 2 + m || i < total; i++) {
+            String s = String.valueOf(i);
+            boolean uno = a.contiene(s) != b.contiene(s);
+            Assert.assertTrue(d.contiene(s) == uno);
+            if (uno)
+                c++;
+        }
+        Assert.assertTrue(d.getElementos() == c);
+        Assert.assertTrue(d.equals(b.diferenciaSimetrica(a)));
+        Assert.assertTrue(a.diferenciaSimetrica(a).esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link Conjunto#agregaTodos}.
+     */
+    @Test public void testAgregaTodos() {
+        for (int i = 0; i < total; i++)
+            conjunto.agrega(i);
+        Conjunto<Integer> c2 = new Conjunto<Integer>();
+        Lista<Integer> lista = new Lista<Integer>();
+        for (int i = total / 2; i < total * 2; i++) {
+            c2.agrega(i);
+            lista.agrega(i + total);
+        }
+        conjunto.agregaTodos(c2);
+        Assert.assertTrue(conjunto.getElementos() == total * 2);
+        conjunto.agregaTodos(lista);
+        Assert.assertTrue(conjunto.getElementos() == total * 3);
+        for (int i = 0; i < total * 3; i++)
+            Assert.assertTrue(conjunto.contiene(i));
+        conjunto.agregaTodos(conjunto);
+        Assert.assertTrue(conjunto.getElementos() == total * 3);
+    }
+
+    /**
+     * Prueba unitaria para {@link Conjunto#retieneTodos}.
+     */
+    @Test public void testRetieneTodos() {
+        Conjunto<String> a = cadenas(0, total);
+        a.retieneTodos(cadenas(total / 2, total * 2));
+        Assert.assertTrue(a.getElementos() == total - total / 2);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(a.contiene(String.valueOf(i)) == (i >= total / 2));
+        Lista<String> lista = new Lista<String>();
+        lista.agrega(String.valueOf(total - 1));
+        lista.agrega(String.valueOf(total * 5));
+        a.retieneTodos(lista);
+        Assert.assertTrue(a.getElementos() == 1);
+        Assert.assertTrue(a.contiene(String.valueOf(total - 1)));
+        a.retieneTodos(a);
+        Assert.assertTrue(a.getElementos() == 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link Conjunto#eliminaTodos}.
+     */
+    @Test public void testEliminaTodos() {
+        Conjunto<String> a = cadenas(0, total);
+        a.eliminaTodos(cadenas(total / 2, total * 3));
+        Assert.assertTrue(a.getElementos() == total / 2);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(a.contiene(String.valueOf(i)) == (i < total / 2));
+        Lista<String> lista = new Lista<String>();
+        lista.agrega("0");
+        lista.agrega("-1");
+        a.eliminaTodos(lista);
+        Assert.assertFalse(a.contiene("0"));
+        Assert.assertTrue(a.getElementos() == total / 2 - 1);
+        a.eliminaTodos(a);
+        Assert.assertTrue(a.esVacia());
+    }
+
     /**
      * Prueba unitaria para {@link Conjunto#toString}.
      */
@@ -258,4 +366,29 @@ public class TestConjunto {
             c++;
         Assert.assertTrue(c == 0);
     }
+
+    /**
+     * Prueba unitaria para {@link Conjunto#spliterator}, {@link
+     * Conjunto#stream} y {@link Conjunto#parallelStream}.
+     */
+    @Test public void testStream() {
+        Assert.assertTrue(conjunto.stream().count() == 0);
+        for (int i = 0; i < 10000; i++)
+            conjunto.agrega(random.nextInt());
+        Spliterator<Integer> s = conjunto.spliterator();
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.DISTINCT));
+        Assert.assertTrue(s.getExactSizeIfKnown() == conjunto.getElementos());
+        Assert.assertTrue(s.trySplit() != null);
+        Assert.assertFalse(s.hasCharacteristics(Spliterator.SIZED));
+        long suma = 0;
+        for (int e : conjunto)
+            suma += e;
+        Assert.assertTrue(conjunto.parallelStream().count() ==
+                          conjunto.getElementos());
+        Assert.assertTrue(conjunto.parallelStream().mapToLong(e -> e).sum() ==
+                          suma);
+        Conjunto<Integer> copia =
+            conjunto.parallelStream().collect(Coleccion.colector(Conjunto::new));
+        Assert.assertTrue(copia.equals(conjunto));
+    }
 }
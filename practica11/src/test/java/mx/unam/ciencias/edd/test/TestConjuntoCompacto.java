@@ -0,0 +1,253 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import mx.unam.ciencias.edd.Coleccion;
+import mx.unam.ciencias.edd.ConjuntoCompacto;
+import mx.unam.ciencias.edd.Lista;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link ConjuntoCompacto}.
+ */
+public class TestConjuntoCompacto {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* El conjunto. */
+    private ConjuntoCompacto<Integer> conjunto;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un
+     * número total de elementos para nuestro conjunto, y un conjunto.
+     */
+    public TestConjuntoCompacto() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        conjunto = new ConjuntoCompacto<Integer>(total);
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#ConjuntoCompacto}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(conjunto.esVacia());
+        Assert.assertTrue(conjunto.getElementos() == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#agrega}.
+     */
+    @Test public void testAgrega() {
+        try {
+            conjunto.agrega(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        int ini = random.nextInt(total);
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = ini + i;
+            conjunto.agrega(a[i]);
+        }
+        Assert.assertFalse(conjunto.esVacia());
+        Assert.assertTrue(conjunto.getElementos() == total);
+        for (int i = 0; i < total; i++)
+            Assert.assertTrue(conjunto.contiene(a[i]));
+        Assert.assertFalse(conjunto.contiene(ini-1));
+        Assert.assertFalse(conjunto.contiene(ini+total));
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#contiene}.
+     */
+    @Test public void testContiene() {
+        int ini = random.nextInt(total);
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = ini + i;
+            Assert.assertFalse(conjunto.contiene(a[i]));
+            conjunto.agrega(a[i]);
+            Assert.assertTrue(conjunto.contiene(a[i]));
+        }
+        Assert.assertFalse(conjunto.contiene(null));
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#elimina}.
+     */
+    @Test public void testElimina() {
+        int ini = random.nextInt(total);
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = ini + i;
+            conjunto.agrega(a[i]);
+        }
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(conjunto.contiene(a[i]));
+            conjunto.elimina(a[i]);
+            Assert.assertFalse(conjunto.contiene(a[i]));
+        }
+        try {
+            conjunto.elimina(null);
+        } catch (IllegalArgumentException iae) {
+            Assert.fail();
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#esVacia}.
+     */
+    @Test public void testEsVacia() {
+        Assert.assertTrue(conjunto.esVacia());
+        int ini = random.nextInt(total);
+        for (int i = 0; i < total; i++) {
+            conjunto.agrega(ini + i);
+            Assert.assertFalse(conjunto.esVacia());
+        }
+        for (int i = 0; i < total; i++) {
+            Assert.assertFalse(conjunto.esVacia());
+            conjunto.elimina(ini + i);
+        }
+        Assert.assertTrue(conjunto.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#getElementos}.
+     */
+    @Test public void testGetElementos() {
+        int ini = random.nextInt(total);
+        for (int i = 0; i < total; i++) {
+            conjunto.agrega(ini + i);
+            Assert.assertTrue(conjunto.getElementos() == i+1);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#limpia}.
+     */
+    @Test public void testLimpia() {
+        Assert.assertTrue(conjunto.esVacia());
+        Assert.assertTrue(conjunto.getElementos() == 0);
+        for (int i = 0; i < total; i++)
+            conjunto.agrega(i);
+        Assert.assertFalse(conjunto.esVacia());
+        Assert.assertTrue(conjunto.getElementos() == total);
+        conjunto.limpia();
+        Assert.assertTrue(conjunto.esVacia());
+        Assert.assertTrue(conjunto.getElementos() == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#equals}.
+     */
+    @Test public void testEquals() {
+        ConjuntoCompacto<Integer> c2 = new ConjuntoCompacto<Integer>();
+        int ini = random.nextInt(total);
+        int[] a = new int[total];
+        Assert.assertFalse(conjunto == c2);
+        Assert.assertTrue(conjunto.equals(c2));
+        for (int i = 0; i < total; i++) {
+            a[i] = ini + i;
+            conjunto.agrega(a[i]);
+            Assert.assertFalse(conjunto.equals(c2));
+            c2.agrega(a[i]);
+            Assert.assertTrue(conjunto.equals(c2));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#iterator}.
+     */
+    @Test public void testIterator() {
+        int ini = random.nextInt(total);
+        Lista<Integer> lista = new Lista<Integer>();
+        for (int i = 0; i < total; i++) {
+            conjunto.agrega(ini + i);
+            lista.agregaFinal(ini + i);
+        }
+        int c = 0;
+        for (Integer n : conjunto) {
+            Assert.assertTrue(lista.contiene(n));
+            lista.elimina(n);
+            c++;
+        }
+        Assert.assertTrue(c == total);
+        Assert.assertTrue(lista.getLongitud() == 0);
+        for (int i = 0; i < total; i++)
+            conjunto.elimina(ini + i);
+        c = 0;
+        for (Integer s : conjunto)
+            c++;
+        Assert.assertTrue(c == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto} sin guardar las
+     * dispersiones, y con un dispersor que provoca muchas colisiones.
+     */
+    @Test public void testSinDispersiones() {
+        ConjuntoCompacto<Integer> c =
+            new ConjuntoCompacto<Integer>(total, n -> n % 7, false);
+        for (int i = 0; i < total * 3; i++)
+            c.agrega(i);
+        c.agrega(0);
+        Assert.assertTrue(c.getElementos() == total * 3);
+        for (int i = 0; i < total * 3; i += 2)
+            c.elimina(i);
+        for (int i = 0; i < total * 3; i++)
+            Assert.assertTrue(c.contiene(i) == (i % 2 == 1));
+        int n = 0;
+        for (Integer e : c) {
+            Assert.assertTrue(e % 2 == 1);
+            n++;
+        }
+        Assert.assertTrue(n == c.getElementos());
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto} con elementos cuyo hashCode
+     * sólo difiere en los bits altos; sin mezclar las dispersiones todos caen
+     * en unas cuantas casillas y la prueba expira.
+     */
+    @Test public void testPotenciasDeDos() {
+        int n = 60000;
+        for (int i = 0; i < n; i++)
+            conjunto.agrega(i << 15);
+        Assert.assertTrue(conjunto.getElementos() == n);
+        for (int i = 0; i < n; i++)
+            Assert.assertTrue(conjunto.contiene(i << 15));
+        Assert.assertFalse(conjunto.contiene(1));
+    }
+
+    /**
+     * Prueba unitaria para {@link ConjuntoCompacto#spliterator}, {@link
+     * ConjuntoCompacto#stream} y {@link ConjuntoCompacto#parallelStream}.
+     */
+    @Test public void testStream() {
+        Assert.assertTrue(conjunto.stream().count() == 0);
+        for (int i = 0; i < 10000; i++)
+            conjunto.agrega(random.nextInt());
+        Spliterator<Integer> s = conjunto.spliterator();
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.DISTINCT));
+        Assert.assertTrue(s.getExactSizeIfKnown() == conjunto.getElementos());
+        long suma = 0;
+        for (int e : conjunto)
+            suma += e;
+        Assert.assertTrue(conjunto.parallelStream().count() ==
+                          conjunto.getElementos());
+        Assert.assertTrue(conjunto.parallelStream().mapToLong(e -> e).sum() ==
+                          suma);
+        ConjuntoCompacto<Integer> copia = conjunto.parallelStream()
+            .collect(Coleccion.colector(ConjuntoCompacto::new));
+        Assert.assertTrue(copia.equals(conjunto));
+    }
+}
@@ -3,10 +3,12 @@ package mx.unam.ciencias.edd.test;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
 import mx.unam.ciencias.edd.AlgoritmoDispersor;
 import mx.unam.ciencias.edd.Arreglos;
 import mx.unam.ciencias.edd.Diccionario;
 import mx.unam.ciencias.edd.Dispersor;
+import mx.unam.ciencias.edd.EstadisticasDiccionario;
 import mx.unam.ciencias.edd.FabricaDispersores;
 import mx.unam.ciencias.edd.Lista;
 import org.junit.Assert;
@@ -86,6 +88,7 @@ public class TestDiccionario {
             Assert.assertTrue(diccionario.contiene(s));
             Assert.assertTrue(diccionario.get(s).equals(s));
             Assert.assertTrue(diccionario.carga() < Diccionario.MAXIMA_CARGA);
+            Assert.assertTrue(diccionario.cubetasPorMigrar() == 0);
             l = diccionario.carga();
         }
         Assert.assertTrue(crecio);
@@ -106,6 +109,76 @@ public class TestDiccionario {
         } catch (IllegalArgumentException iae) {}
     }
 
+    /**
+     * Prueba unitaria para {@link Diccionario#agrega} en un diccionario que crece
+     * de manera incremental.
+     */
+    @Test public void testAgregaIncremental() {
+        diccionario = new Diccionario<String, String>(total, s -> s.hashCode(),
+                                                      true);
+        int ini = random.nextInt(10000);
+        String[] arreglo = new String[total * 8];
+        int crecimientos = 0;
+        for (int i = 0; i < arreglo.length; i++) {
+            int antes = diccionario.cubetasPorMigrar();
+            arreglo[i] = String.format("%x", ini + i * 1000);
+            diccionario.agrega(arreglo[i], arreglo[i]);
+            int despues = diccionario.cubetasPorMigrar();
+            if (despues > antes) {
+                /* Creció: la tabla anterior queda entera por migrar. */
+                Assert.assertTrue(antes <= Diccionario.CUBETAS_POR_OPERACION);
+                Assert.assertTrue(despues > Diccionario.CUBETAS_POR_OPERACION);
+                crecimientos++;
+            } else {
+                Assert.assertTrue(antes - despues <=
+                                  Diccionario.CUBETAS_POR_OPERACION);
+            }
+            Assert.assertTrue(diccionario.getElementos() == i+1);
+            Assert.assertTrue(diccionario.carga() < Diccionario.MAXIMA_CARGA);
+            for (int j = 0; j <= i; j += 1 + random.nextInt(8))
+                Assert.assertTrue(diccionario.get(arreglo[j]).equals(arreglo[j]));
+        }
+        Assert.assertTrue(crecimientos > 0);
+        int c = 0;
+        Iterator<String> iteradorLlaves = diccionario.iteradorLlaves();
+        while (iteradorLlaves.hasNext()) {
+            iteradorLlaves.next();
+            c++;
+        }
+        Assert.assertTrue(c == arreglo.length);
+        for (int i = 0; i < arreglo.length; i += 2) {
+            int antes = diccionario.cubetasPorMigrar();
+            diccionario.elimina(arreglo[i]);
+            int despues = diccionario.cubetasPorMigrar();
+            Assert.assertTrue(despues <= antes);
+            Assert.assertTrue(antes - despues <=
+                              Diccionario.CUBETAS_POR_OPERACION);
+            Assert.assertFalse(diccionario.contiene(arreglo[i]));
+        }
+        Assert.assertTrue(diccionario.cubetasPorMigrar() == 0);
+        for (int i = 1; i < arreglo.length; i += 2)
+            Assert.assertTrue(diccionario.get(arreglo[i]).equals(arreglo[i]));
+        Assert.assertTrue(diccionario.getElementos() == arreglo.length / 2);
+    }
+
+    /**
+     * Prueba unitaria para {@link Diccionario#agrega} que verifica que al crecer
+     * no se vuelve a llamar al dispersor.
+     */
+    @Test public void testAgregaNoRedispersa() {
+        int[] llamadas = { 0 };
+        diccionario = new Diccionario<String, String>(s -> {
+                llamadas[0]++;
+                return s.hashCode();
+            });
+        int ini = random.nextInt(10000);
+        for (int i = 0; i < total * 4; i++) {
+            String s = String.format("%x", ini + i * 1000);
+            diccionario.agrega(s, s);
+        }
+        Assert.assertTrue(llamadas[0] == total * 4);
+    }
+
     /**
      * Prueba unitaria para {@link Diccionario#get}.
      */
@@ -167,6 +240,148 @@ public class TestDiccionario {
         }
     }
 
+    /* Llave no comparable cuyo hashCode siempre es el mismo. */
+    private static class LlaveConstante {
+        private int id;
+        public LlaveConstante(int id) { this.id = id; }
+        @Override public int hashCode() { return 0; }
+        @Override public boolean equals(Object o) {
+            return o instanceof LlaveConstante && ((LlaveConstante)o).id == id;
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Diccionario} cuando todas las llaves caen en
+     * la misma cubeta, y ésta se vuelve árbol.
+     */
+    @Test public void testCubetaArbol() {
+        diccionario = new Diccionario<String, String>(total, s -> 0);
+        int n = Diccionario.UMBRAL_ARBOL * 4;
+        String[] arreglo = new String[n];
+        for (int i = 0; i < n; i++) {
+            arreglo[i] = String.valueOf(random.nextInt(100) * 1000 + i);
+            diccionario.agrega(arreglo[i], arreglo[i]);
+            Assert.assertTrue(diccionario.colisionMaxima() == i);
+        }
+        for (int i = 0; i < n; i++) {
+            Assert.assertTrue(diccionario.get(arreglo[i]).equals(arreglo[i]));
+            diccionario.agrega(arreglo[i], "X" + i);
+        }
+        Assert.assertTrue(diccionario.getElementos() == n);
+        Assert.assertFalse(diccionario.contiene("X"));
+        int c = 0;
+        for (String v : diccionario) {
+            Assert.assertTrue(v.startsWith("X"));
+            c++;
+        }
+        Assert.assertTrue(c == n);
+        for (int i = 0; i < n; i++) {
+            diccionario.elimina(arreglo[i]);
+            Assert.assertFalse(diccionario.contiene(arreglo[i]));
+            for (int j = i + 1; j < n; j++)
+                Assert.assertTrue(diccionario.get(arreglo[j]).equals("X" + j));
+        }
+        Assert.assertTrue(diccionario.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link Diccionario} cuando las llaves no son
+     * comparables y todas tienen la misma dispersión.
+     */
+    @Test public void testCubetaArbolNoComparable() {
+        Diccionario<LlaveConstante, Integer> d =
+            new Diccionario<LlaveConstante, Integer>(total, k -> k.hashCode());
+        int n = Diccionario.UMBRAL_ARBOL * 4;
+        for (int i = 0; i < n; i++)
+            d.agrega(new LlaveConstante(i), i);
+        for (int i = 0; i < n; i++)
+            Assert.assertTrue(d.get(new LlaveConstante(i)) == i);
+        Assert.assertFalse(d.contiene(new LlaveConstante(n)));
+        for (int i = n - 1; i >= 0; i -= 2) {
+            d.elimina(new LlaveConstante(i));
+            Assert.assertFalse(d.contiene(new LlaveConstante(i)));
+        }
+        for (int i = 0; i < n; i += 2)
+            Assert.assertTrue(d.get(new LlaveConstante(i)) == i);
+        Assert.assertTrue(d.getElementos() == n / 2);
+    }
+
+    /* Revisa que las estadísticas coincidan con recorrer el diccionario. */
+    private void revisaEstadisticas(Diccionario<Integer, Integer> d) {
+        EstadisticasDiccionario e = d.estadisticas();
+        long suma = 0;
+        for (long n : e.getHistograma()) {
+            Assert.assertTrue(n >= 0);
+            suma += n;
+        }
+        Assert.assertTrue(suma == d.getElementos());
+        Assert.assertTrue(e.getElementos() == d.getElementos());
+        Assert.assertTrue(e.carga() == d.carga());
+        Assert.assertTrue(e.colisionMaxima() == d.colisionMaxima());
+    }
+
+    /* Prueba las estadísticas de un diccionario, incremental o no. */
+    private void pruebaEstadisticas(boolean incremental) {
+        Diccionario<Integer, Integer> d =
+            new Diccionario<Integer, Integer>(0, k -> k % 32, incremental);
+        try {
+            d.estadisticas();
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        int n = total * 4;
+        for (int i = 0; i < n / 2; i++)
+            d.agrega(i, i);
+        d.activaEstadisticas();
+        revisaEstadisticas(d);
+        Assert.assertTrue(d.estadisticas().getRedispersiones() == 0);
+        for (int i = n / 2; i < n; i++) {
+            d.agrega(i, i);
+            revisaEstadisticas(d);
+        }
+        Assert.assertTrue(d.estadisticas().getRedispersiones() > 0);
+        for (int i = 0; i < n; i += 3) {
+            d.elimina(i);
+            revisaEstadisticas(d);
+        }
+        int aciertos = 0, fallos = 0;
+        for (int i = 0; i < n; i++) {
+            if (d.contiene(i))
+                aciertos++;
+            else
+                fallos++;
+        }
+        try {
+            d.get(n);
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        EstadisticasDiccionario e = d.estadisticas();
+        Assert.assertTrue(e.getAciertos() == aciertos);
+        Assert.assertTrue(e.getFallos() == fallos + 1);
+        Assert.assertTrue(e.exploracionPromedio() >= 1.0);
+        d.limpia();
+        revisaEstadisticas(d);
+        d.desactivaEstadisticas();
+        try {
+            d.estadisticas();
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link Diccionario#estadisticas}.
+     */
+    @Test public void testEstadisticas() {
+        pruebaEstadisticas(false);
+    }
+
+    /**
+     * Prueba unitaria para {@link Diccionario#estadisticas} con un diccionario
+     * incremental.
+     */
+    @Test public void testEstadisticasIncremental() {
+        pruebaEstadisticas(true);
+    }
+
     /**
      * Prueba unitaria para {@link Diccionario#colisiones}.
      */
@@ -421,4 +636,49 @@ public class TestDiccionario {
             c++;
         Assert.assertTrue(c == 0);
     }
+
+    /**
+     * Prueba unitaria para {@link Diccionario#spliterator}, {@link
+     * Diccionario#stream} y {@link Diccionario#parallelStream}, también a mitad
+     * de una redispersión incremental.
+     */
+    @Test public void testStream() {
+        for (boolean incremental : new boolean[] { false, true }) {
+            Diccionario<Integer, Integer> d =
+                new Diccionario<Integer, Integer>(0, k -> k, incremental);
+            Assert.assertTrue(d.stream().count() == 0);
+            long suma = 0;
+            for (int i = 0; i < 10000; i++) {
+                d.agrega(i, 2 * i);
+                suma += 2 * i;
+            }
+            Spliterator<Integer> s = d.spliterator();
+            Assert.assertTrue(s.getExactSizeIfKnown() == d.getElementos());
+            Assert.assertTrue(d.stream().mapToLong(v -> v).sum() == suma);
+            Assert.assertTrue(d.parallelStream().mapToLong(v -> v).sum() ==
+                              suma);
+            Assert.assertTrue(d.parallelStream().distinct().count() ==
+                              d.getElementos());
+        }
+    }
+
+    /**
+     * Prueba unitaria para el dispersor predeterminado de {@link Diccionario}:
+     * todos los diccionarios lo comparten, así que con las mismas llaves
+     * agregadas en el mismo orden se recorren en el mismo orden.
+     */
+    @Test public void testDispersorPredeterminadoCompartido() {
+        Diccionario<String, Integer> a = new Diccionario<String, Integer>();
+        Diccionario<String, Integer> b = new Diccionario<String, Integer>();
+        for (int i = 0; i < total; i++) {
+            String llave = "llave" + random.nextInt(total * 10);
+            a.agrega(llave, i);
+            b.agrega(llave, i);
+        }
+        Iterator<String> i = a.iteradorLlaves();
+        Iterator<String> j = b.iteradorLlaves();
+        while (i.hasNext())
+            Assert.assertTrue(i.next().equals(j.next()));
+        Assert.assertFalse(j.hasNext());
+    }
 }
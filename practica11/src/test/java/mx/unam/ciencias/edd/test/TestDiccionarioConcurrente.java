@@ -0,0 +1,231 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.edd.DiccionarioConcurrente;
+import mx.unam.ciencias.edd.Lista;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link DiccionarioConcurrente}.
+ */
+public class TestDiccionarioConcurrente {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* El diccionario. */
+    private DiccionarioConcurrente<String, String> diccionario;
+
+    /**
+     * Crea un diccionario para cada prueba.
+     */
+    public TestDiccionarioConcurrente() {
+        int N = 64;
+        random = new Random();
+        total = N + random.nextInt(N);
+        diccionario = new DiccionarioConcurrente<String, String>();
+    }
+
+    /**
+     * Prueba unitaria para {@link
+     * DiccionarioConcurrente#DiccionarioConcurrente}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(diccionario.esVacia());
+        Assert.assertTrue(diccionario.getElementos() == 0);
+        Assert.assertTrue(diccionario.carga() == 0.0);
+        Assert.assertTrue(diccionario.colisiones() == 0);
+        Assert.assertFalse(diccionario.iteradorLlaves().hasNext());
+        Assert.assertFalse(diccionario.iterator().hasNext());
+        Assert.assertTrue(diccionario.toString().equals("{}"));
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#agrega}.
+     */
+    @Test public void testAgrega() {
+        int ini = random.nextInt(10000);
+        for (int i = 0; i < total * 4; i++) {
+            String s = String.format("%x", ini + i * 1000);
+            Assert.assertFalse(diccionario.contiene(s));
+            diccionario.agrega(s, s);
+            Assert.assertTrue(diccionario.getElementos() == i+1);
+            Assert.assertTrue(diccionario.contiene(s));
+            Assert.assertTrue(diccionario.get(s).equals(s));
+            Assert.assertTrue(diccionario.carga() <
+                              DiccionarioConcurrente.MAXIMA_CARGA);
+        }
+        String k = String.format("%x", ini);
+        diccionario.agrega(k, "X");
+        Assert.assertTrue(diccionario.getElementos() == total * 4);
+        Assert.assertTrue(diccionario.get(k).equals("X"));
+        try {
+            diccionario.agrega(null, "X");
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        try {
+            diccionario.agrega("X", null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#agregaOActualiza}.
+     */
+    @Test public void testAgregaOActualiza() {
+        DiccionarioConcurrente<Integer, Integer> cuentas =
+            new DiccionarioConcurrente<Integer, Integer>();
+        int[] esperadas = new int[total];
+        for (int i = 0; i < total * 8; i++) {
+            int k = random.nextInt(total);
+            esperadas[k]++;
+            int c = cuentas.agregaOActualiza(k, 1, Integer::sum);
+            Assert.assertTrue(c == esperadas[k]);
+        }
+        for (int i = 0; i < total; i++)
+            if (esperadas[i] > 0)
+                Assert.assertTrue(cuentas.get(i) == esperadas[i]);
+            else
+                Assert.assertFalse(cuentas.contiene(i));
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#agregaOActualiza} desde
+     * varios hilos a la vez.
+     */
+    @Test public void testAgregaOActualizaConcurrente() throws InterruptedException {
+        DiccionarioConcurrente<Integer, Integer> cuentas =
+            new DiccionarioConcurrente<Integer, Integer>();
+        int hilos = 4;
+        int porHilo = total * 100;
+        Thread[] arreglo = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            arreglo[h] = new Thread(() -> {
+                    for (int i = 0; i < porHilo; i++)
+                        cuentas.agregaOActualiza(i % total, 1, Integer::sum);
+                });
+            arreglo[h].start();
+        }
+        for (Thread t : arreglo)
+            t.join();
+        Assert.assertTrue(cuentas.getElementos() == total);
+        int suma = 0;
+        for (int c : cuentas)
+            suma += c;
+        Assert.assertTrue(suma == hilos * porHilo);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#get}.
+     */
+    @Test public void testGet() {
+        int ini = 1 + random.nextInt(10000);
+        for (int i = 0; i < total; i++) {
+            String s = String.format("%x", ini + i * 1000);
+            diccionario.agrega(s, s);
+            Assert.assertTrue(diccionario.get(s).equals(s));
+        }
+        try {
+            diccionario.get("00000");
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        try {
+            diccionario.get(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#elimina}.
+     */
+    @Test public void testElimina() {
+        String[] arreglo = new String[total];
+        int ini = random.nextInt(10000);
+        for (int i = 0; i < total; i++) {
+            arreglo[i] = String.format("%x", ini + i * 1000);
+            diccionario.agrega(arreglo[i], arreglo[i]);
+        }
+        for (int i = 0; i < total; i++) {
+            diccionario.elimina(arreglo[i]);
+            Assert.assertFalse(diccionario.contiene(arreglo[i]));
+            Assert.assertTrue(diccionario.getElementos() == total - (i+1));
+        }
+        try {
+            diccionario.elimina(arreglo[0]);
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#colisiones} y {@link
+     * DiccionarioConcurrente#colisionMaxima}.
+     */
+    @Test public void testColisiones() {
+        diccionario = new DiccionarioConcurrente<String, String>(s -> 0);
+        for (int i = 0; i < total; i++) {
+            String s = String.valueOf(i);
+            diccionario.agrega(s, s);
+        }
+        Assert.assertTrue(diccionario.colisiones() == total - 1);
+        Assert.assertTrue(diccionario.colisionMaxima() == total - 1);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#colisionMaxima} con
+     * llaves que sólo difieren en los bits altos de su dispersión.
+     */
+    @Test public void testColisionMaximaPotenciasDeDos() {
+        DiccionarioConcurrente<Integer, Integer> d;
+        d = new DiccionarioConcurrente<Integer, Integer>();
+        int n = 20000;
+        for (int i = 0; i < n; i++)
+            d.agrega(i << 16, i);
+        Assert.assertTrue(d.colisionMaxima() < 16);
+        for (int i = 0; i < n; i++)
+            Assert.assertTrue(d.get(i << 16) == i);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#limpia}.
+     */
+    @Test public void testLimpia() {
+        for (int i = 0; i < total; i++)
+            diccionario.agrega(String.valueOf(i), String.valueOf(i));
+        Assert.assertFalse(diccionario.esVacia());
+        diccionario.limpia();
+        Assert.assertTrue(diccionario.esVacia());
+        Assert.assertTrue(diccionario.carga() == 0.0);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioConcurrente#iteradorLlaves}
+     * mientras el diccionario se modifica.
+     */
+    @Test public void testIteradorLlaves() {
+        Lista<String> lista = new Lista<String>();
+        for (int i = 0; i < total; i++) {
+            String s = String.valueOf(i);
+            diccionario.agrega(s, s);
+            lista.agrega(s);
+        }
+        int c = 0;
+        Iterator<String> iterador = diccionario.iteradorLlaves();
+        while (iterador.hasNext()) {
+            String s = iterador.next();
+            Assert.assertTrue(lista.contiene(s));
+            diccionario.elimina(s);
+            c++;
+        }
+        Assert.assertTrue(c == total);
+        Assert.assertTrue(diccionario.esVacia());
+    }
+}
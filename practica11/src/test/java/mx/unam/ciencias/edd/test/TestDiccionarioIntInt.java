@@ -0,0 +1,176 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import mx.unam.ciencias.edd.DiccionarioIntInt;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link DiccionarioIntInt}.
+ */
+public class TestDiccionarioIntInt {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* El diccionario. */
+    private DiccionarioIntInt diccionario;
+
+    /**
+     * Crea un diccionario para cada prueba.
+     */
+    public TestDiccionarioIntInt() {
+        int N = 64;
+        random = new Random();
+        total = N + random.nextInt(N);
+        diccionario = new DiccionarioIntInt(total);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioIntInt#DiccionarioIntInt}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(diccionario.esVacia());
+        Assert.assertTrue(diccionario.getElementos() == 0);
+        Assert.assertTrue(diccionario.carga() == 0.0);
+        Assert.assertTrue(diccionario.colisiones() == 0);
+        Assert.assertFalse(diccionario.iteradorLlaves().hasNext());
+        Assert.assertFalse(diccionario.iteradorValores().hasNext());
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioIntInt#agrega}.
+     */
+    @Test public void testAgrega() {
+        int ini = random.nextInt(10000);
+        for (int i = 0; i < total * 4; i++) {
+            int k = ini + i * 1000;
+            Assert.assertFalse(diccionario.contiene(k));
+            diccionario.agrega(k, -k);
+            Assert.assertTrue(diccionario.getElementos() == i+1);
+            Assert.assertTrue(diccionario.contiene(k));
+            Assert.assertTrue(diccionario.get(k) == -k);
+            Assert.assertTrue(diccionario.carga() <
+                              DiccionarioIntInt.MAXIMA_CARGA);
+        }
+        diccionario.agrega(ini, 7);
+        Assert.assertTrue(diccionario.getElementos() == total * 4);
+        Assert.assertTrue(diccionario.get(ini) == 7);
+        diccionario.agrega(0, 0);
+        Assert.assertTrue(diccionario.contiene(0));
+        Assert.assertTrue(diccionario.get(0) == 0);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioIntInt#suma}.
+     */
+    @Test public void testSuma() {
+        int[] cuentas = new int[total];
+        for (int i = 0; i < total * 8; i++) {
+            int k = random.nextInt(total);
+            cuentas[k]++;
+            Assert.assertTrue(diccionario.suma(k, 1) == cuentas[k]);
+        }
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(diccionario.contiene(i) == (cuentas[i] > 0));
+            if (cuentas[i] > 0)
+                Assert.assertTrue(diccionario.get(i) == cuentas[i]);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioIntInt#get}.
+     */
+    @Test public void testGet() {
+        for (int i = 0; i < total; i++) {
+            diccionario.agrega(i, i * 2);
+            Assert.assertTrue(diccionario.get(i) == i * 2);
+        }
+        try {
+            diccionario.get(total);
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioIntInt#elimina}.
+     */
+    @Test public void testElimina() {
+        int[] arreglo =
+            UtilTestDiccionarioPrimitivo.enterosDistintos(random, total);
+        for (int i = 0; i < total; i++)
+            diccionario.agrega(arreglo[i], i);
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(diccionario.contiene(arreglo[i]));
+            diccionario.elimina(arreglo[i]);
+            Assert.assertFalse(diccionario.contiene(arreglo[i]));
+            Assert.assertTrue(diccionario.getElementos() == total - (i+1));
+            for (int j = i + 1; j < total; j++)
+                Assert.assertTrue(diccionario.get(arreglo[j]) == j);
+        }
+        try {
+            diccionario.elimina(0);
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioIntInt#limpia}.
+     */
+    @Test public void testLimpia() {
+        for (int i = 0; i < total; i++)
+            diccionario.agrega(i, i);
+        Assert.assertFalse(diccionario.esVacia());
+        diccionario.limpia();
+        Assert.assertTrue(diccionario.esVacia());
+        Assert.assertTrue(diccionario.getElementos() == 0);
+        Assert.assertTrue(diccionario.carga() == 0.0);
+        Assert.assertFalse(diccionario.contiene(0));
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioIntInt#equals}.
+     */
+    @Test public void testEquals() {
+        DiccionarioIntInt d2 = new DiccionarioIntInt();
+        Assert.assertTrue(diccionario.equals(d2));
+        for (int i = 0; i < total; i++) {
+            diccionario.agrega(i, i);
+            d2.agrega(total - i - 1, total - i - 1);
+        }
+        Assert.assertTrue(diccionario.equals(d2));
+        d2.agrega(0, -1);
+        Assert.assertFalse(diccionario.equals(d2));
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioIntInt#iteradorLlaves} y {@link
+     * DiccionarioIntInt#iteradorValores}.
+     */
+    @Test public void testIteradores() {
+        int ini = random.nextInt(10000);
+        for (int i = 0; i < total; i++)
+            diccionario.agrega(ini + i, i);
+        boolean[] vistos = new boolean[total];
+        PrimitiveIterator.OfInt llaves = diccionario.iteradorLlaves();
+        PrimitiveIterator.OfInt valores = diccionario.iteradorValores();
+        int c = 0;
+        while (llaves.hasNext()) {
+            int k = llaves.nextInt();
+            Assert.assertFalse(vistos[k - ini]);
+            vistos[k - ini] = true;
+            Assert.assertTrue(valores.nextInt() == k - ini);
+            c++;
+        }
+        Assert.assertFalse(valores.hasNext());
+        Assert.assertTrue(c == total);
+    }
+}
@@ -0,0 +1,174 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import mx.unam.ciencias.edd.DiccionarioLong;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link DiccionarioLong}.
+ */
+public class TestDiccionarioLong {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* El diccionario. */
+    private DiccionarioLong<String> diccionario;
+
+    /**
+     * Crea un diccionario para cada prueba.
+     */
+    public TestDiccionarioLong() {
+        int N = 64;
+        random = new Random();
+        total = N + random.nextInt(N);
+        diccionario = new DiccionarioLong<String>(total);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioLong#DiccionarioLong}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(diccionario.esVacia());
+        Assert.assertTrue(diccionario.getElementos() == 0);
+        Assert.assertTrue(diccionario.carga() == 0.0);
+        Assert.assertTrue(diccionario.colisiones() == 0);
+        Assert.assertFalse(diccionario.iteradorLlaves().hasNext());
+        Assert.assertFalse(diccionario.iterator().hasNext());
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioLong#agrega}.
+     */
+    @Test public void testAgrega() {
+        int ini = random.nextInt(10000);
+        for (int i = 0; i < total * 4; i++) {
+            long k = ini + i * 1000L * Integer.MAX_VALUE;
+            Assert.assertFalse(diccionario.contiene(k));
+            diccionario.agrega(k, String.valueOf(k));
+            Assert.assertTrue(diccionario.getElementos() == i+1);
+            Assert.assertTrue(diccionario.contiene(k));
+            Assert.assertTrue(diccionario.get(k).equals(String.valueOf(k)));
+            Assert.assertTrue(diccionario.carga() <
+                              DiccionarioLong.MAXIMA_CARGA);
+        }
+        diccionario.agrega(ini, "X");
+        Assert.assertTrue(diccionario.getElementos() == total * 4);
+        Assert.assertTrue(diccionario.get(ini).equals("X"));
+        diccionario.agrega(-1, "-1");
+        Assert.assertTrue(diccionario.get(-1).equals("-1"));
+        try {
+            diccionario.agrega(1, null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioLong#get}.
+     */
+    @Test public void testGet() {
+        for (int i = 0; i < total; i++) {
+            diccionario.agrega(i, String.valueOf(i));
+            Assert.assertTrue(diccionario.get(i).equals(String.valueOf(i)));
+        }
+        try {
+            diccionario.get(total);
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioLong#elimina}.
+     */
+    @Test public void testElimina() {
+        long[] arreglo =
+            UtilTestDiccionarioPrimitivo.largosDistintos(random, total);
+        for (int i = 0; i < total; i++)
+            diccionario.agrega(arreglo[i], String.valueOf(arreglo[i]));
+        for (int i = 0; i < total; i++) {
+            Assert.assertTrue(diccionario.contiene(arreglo[i]));
+            diccionario.elimina(arreglo[i]);
+            Assert.assertFalse(diccionario.contiene(arreglo[i]));
+            Assert.assertTrue(diccionario.getElementos() == total - (i+1));
+            for (int j = i + 1; j < total; j++)
+                Assert.assertTrue(diccionario.contiene(arreglo[j]));
+        }
+        try {
+            diccionario.elimina(0);
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioLong#colisionMaxima}.
+     */
+    @Test public void testColisionMaxima() {
+        for (int i = 0; i < total; i++)
+            diccionario.agrega(i, String.valueOf(i));
+        Assert.assertTrue(diccionario.colisionMaxima() <= diccionario.colisiones());
+        Assert.assertTrue(diccionario.colisiones() < total);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioLong#limpia}.
+     */
+    @Test public void testLimpia() {
+        for (int i = 0; i < total; i++)
+            diccionario.agrega(i, String.valueOf(i));
+        Assert.assertFalse(diccionario.esVacia());
+        diccionario.limpia();
+        Assert.assertTrue(diccionario.esVacia());
+        Assert.assertTrue(diccionario.getElementos() == 0);
+        Assert.assertTrue(diccionario.carga() == 0.0);
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioLong#equals}.
+     */
+    @Test public void testEquals() {
+        DiccionarioLong<String> d2 = new DiccionarioLong<String>();
+        Assert.assertTrue(diccionario.equals(d2));
+        for (int i = 0; i < total; i++) {
+            diccionario.agrega(i, String.valueOf(i));
+            d2.agrega(total - i - 1, String.valueOf(total - i - 1));
+        }
+        Assert.assertTrue(diccionario.equals(d2));
+        d2.agrega(0, "X");
+        Assert.assertFalse(diccionario.equals(d2));
+        d2.elimina(0);
+        Assert.assertFalse(diccionario.equals(d2));
+    }
+
+    /**
+     * Prueba unitaria para {@link DiccionarioLong#iteradorLlaves} y {@link
+     * DiccionarioLong#iterator}.
+     */
+    @Test public void testIteradores() {
+        int ini = random.nextInt(10000);
+        for (int i = 0; i < total; i++)
+            diccionario.agrega(ini + i, String.valueOf(ini + i));
+        boolean[] vistos = new boolean[total];
+        PrimitiveIterator.OfLong llaves = diccionario.iteradorLlaves();
+        Iterator<String> valores = diccionario.iterator();
+        int c = 0;
+        while (llaves.hasNext()) {
+            long k = llaves.nextLong();
+            Assert.assertFalse(vistos[(int) (k - ini)]);
+            vistos[(int) (k - ini)] = true;
+            Assert.assertTrue(valores.next().equals(String.valueOf(k)));
+            c++;
+        }
+        Assert.assertFalse(valores.hasNext());
+        Assert.assertTrue(c == total);
+    }
+}
@@ -1,5 +1,6 @@
 package mx.unam.ciencias.edd.test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Random;
 import mx.unam.ciencias.edd.Dispersores;
 import org.junit.Assert;
@@ -116,6 +117,46 @@ public class TestDispersores {
         0xea5b748b, 0x35ca067d, 0xef0ad6a0, 0xd065aacb
     };
 
+    /* Mensajes de referencia para los algoritmos publicados. */
+    private static final String[] MENSAJES = {
+        "", "a", "abc", "message digest", "abcdefghijklmnopqrstuvwxyz",
+        "1234567890123456789012345678901234567890" +
+        "1234567890123456789012345678901234567890"
+    };
+
+    /* Los resultados MurmurHash3 para los mensajes. */
+    private static final int[] RESULTADOS_MURMUR3 = {
+        0x00000000, 0x3c2569b2, 0xb3dd93fa, 0x638f4169, 0xa34e036d, 0xf8e05287
+    };
+
+    /* Los resultados xxHash32 para los mensajes. */
+    private static final int[] RESULTADOS_XXH32 = {
+        0x02cc5d05, 0x550d7456, 0x32d153ff, 0x7c948494, 0x63a14d5f, 0x9c05f475
+    };
+
+    /* Los resultados xxHash64 para los mensajes. */
+    private static final long[] RESULTADOS_XXH64 = {
+        0xef46db3751d8e999L, 0xd24ec4f1a98c6e5bL, 0x44bc2cf5ad770999L,
+        0x066ed728fceeb3beL, 0xcfe1f278fa89835cL, 0xe04a477f19ee145dL
+    };
+
+    /*
+     * Mensajes de referencia de wyhash; el mensaje i se dispersa con semilla i.
+     */
+    private static final String[] MENSAJES_WY = {
+        "", "a", "abc", "message digest", "abcdefghijklmnopqrstuvwxyz",
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789",
+        "1234567890123456789012345678901234567890" +
+        "1234567890123456789012345678901234567890"
+    };
+
+    /* Los resultados wyhash para los mensajes de wyhash y sus semillas. */
+    private static final long[] RESULTADOS_WY = {
+        0x0409638ee2bde459L, 0xa8412d091b5fe0a9L, 0x32dd92e4b2915153L,
+        0x8619124089a3a16bL, 0x7a43afb61d7f5f40L, 0xff42329b90e50d58L,
+        0xc39cab13b115aad3L
+    };
+
     /* Regresa un subarreglo del arreglo. */
     private byte[] subArreglo(int n) {
         byte[] sub = new byte[n];
@@ -156,4 +197,140 @@ public class TestDispersores {
             Assert.assertTrue(RESULTADOS_DJB[i-1] == r);
         }
     }
+
+    /**
+     * Prueba unitaria para {@link Dispersores#dispersaMurmur3}.
+     */
+    @Test public void testDispersaMurmur3() {
+        for (int i = 0; i < MENSAJES.length; i++) {
+            byte[] m = MENSAJES[i].getBytes(StandardCharsets.UTF_8);
+            Assert.assertTrue(RESULTADOS_MURMUR3[i] ==
+                              Dispersores.dispersaMurmur3(m));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Dispersores#dispersaXXH32}.
+     */
+    @Test public void testDispersaXXH32() {
+        for (int i = 0; i < MENSAJES.length; i++) {
+            byte[] m = MENSAJES[i].getBytes(StandardCharsets.UTF_8);
+            Assert.assertTrue(RESULTADOS_XXH32[i] ==
+                              Dispersores.dispersaXXH32(m));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Dispersores#dispersaXXH64}.
+     */
+    @Test public void testDispersaXXH64() {
+        for (int i = 0; i < MENSAJES.length; i++) {
+            byte[] m = MENSAJES[i].getBytes(StandardCharsets.UTF_8);
+            Assert.assertTrue(RESULTADOS_XXH64[i] ==
+                              Dispersores.dispersaXXH64(m));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Dispersores#dispersaWy}, con los vectores de
+     * referencia de wyhash <em>final4</em>.
+     */
+    @Test public void testDispersaWy() {
+        for (int i = 0; i < MENSAJES_WY.length; i++) {
+            byte[] m = MENSAJES_WY[i].getBytes(StandardCharsets.UTF_8);
+            Assert.assertTrue(RESULTADOS_WY[i] ==
+                              Dispersores.dispersaWy(m, 0, m.length, i));
+            Assert.assertTrue(Dispersores.dispersaWy(m) ==
+                              Dispersores.dispersaWy(m, 0, m.length, 0));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link Dispersores#dispersaSip}, con los vectores de
+     * referencia de SipHash-2-4: llave 00 01 ... 0f y mensajes 00 01 ... n-1.
+     */
+    @Test public void testDispersaSip() {
+        long k0 = 0x0706050403020100L;
+        long k1 = 0x0f0e0d0c0b0a0908L;
+        int[] longitudes = { 0, 1, 7, 8, 15, 63 };
+        long[] resultados = {
+            0x726fdb47dd0e0e31L, 0x74f839c593dc67fdL, 0xab0200f58b01d137L,
+            0x93f5f5799a932462L, 0xa129ca6149be45e5L, 0x958a324ceb064572L
+        };
+        for (int i = 0; i < longitudes.length; i++) {
+            byte[] m = new byte[longitudes[i]];
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < m.length; j++) {
+                m[j] = (byte)j;
+                sb.append((char)j);
+            }
+            Assert.assertTrue(resultados[i] ==
+                              Dispersores.dispersaSip(m, 0, m.length, k0, k1));
+            Assert.assertTrue(resultados[i] ==
+                              Dispersores.dispersaSip(sb, k0, k1));
+        }
+    }
+
+    /**
+     * Prueba unitaria para las versiones de los dispersores que reciben un rango
+     * de un arreglo.
+     */
+    @Test public void testDispersaRango() {
+        for (int i = 0; i < ARREGLO.length; i++) {
+            for (int n = 0; i + n <= ARREGLO.length; n++) {
+                byte[] sub = new byte[n];
+                for (int j = 0; j < n; j++)
+                    sub[j] = ARREGLO[i + j];
+                Assert.assertTrue(Dispersores.dispersaXOR(sub) ==
+                                  Dispersores.dispersaXOR(ARREGLO, i, n));
+                Assert.assertTrue(Dispersores.dispersaBJ(sub) ==
+                                  Dispersores.dispersaBJ(ARREGLO, i, n));
+                Assert.assertTrue(Dispersores.dispersaDJB(sub) ==
+                                  Dispersores.dispersaDJB(ARREGLO, i, n));
+                Assert.assertTrue(Dispersores.dispersaMurmur3(sub) ==
+                                  Dispersores.dispersaMurmur3(ARREGLO, i, n));
+                Assert.assertTrue(Dispersores.dispersaXXH32(sub) ==
+                                  Dispersores.dispersaXXH32(ARREGLO, i, n));
+                Assert.assertTrue(Dispersores.dispersaXXH64(sub) ==
+                                  Dispersores.dispersaXXH64(ARREGLO, i, n));
+                Assert.assertTrue(Dispersores.dispersaWy(sub) ==
+                                  Dispersores.dispersaWy(ARREGLO, i, n));
+            }
+        }
+    }
+
+    /**
+     * Prueba unitaria para las versiones de los dispersores que reciben una
+     * secuencia de caracteres.
+     */
+    @Test public void testDispersaSecuencia() {
+        Random random = new Random();
+        /* ASCII, dos y tres bytes, pares sustitutos y sustitutos sin pareja. */
+        char[] caracteres = { 'a', 'Z', '0', '\u00e1', '\u00f1', '\u07ff',
+                              '\u0800', '\u20ac', '\uffff', '\ud83d', '\ude00' };
+        /* La última longitud no cabe en el arreglo que se reutiliza. */
+        for (int n = 0; n <= 2000; n = n < 100 ? n + 1 : 20 * n) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < n; i++)
+                sb.append(caracteres[random.nextInt(caracteres.length)]);
+            byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+            Assert.assertTrue(Dispersores.dispersaXOR(bytes) ==
+                              Dispersores.dispersaXOR(sb));
+            Assert.assertTrue(Dispersores.dispersaBJ(bytes) ==
+                              Dispersores.dispersaBJ(sb));
+            Assert.assertTrue(Dispersores.dispersaDJB(bytes) ==
+                              Dispersores.dispersaDJB(sb));
+            Assert.assertTrue(Dispersores.dispersaSip(bytes, 0, bytes.length,
+                                                      n, ~n) ==
+                              Dispersores.dispersaSip(sb, n, ~n));
+            Assert.assertTrue(Dispersores.dispersaMurmur3(bytes) ==
+                              Dispersores.dispersaMurmur3(sb));
+            Assert.assertTrue(Dispersores.dispersaXXH32(bytes) ==
+                              Dispersores.dispersaXXH32(sb));
+            Assert.assertTrue(Dispersores.dispersaXXH64(bytes) ==
+                              Dispersores.dispersaXXH64(sb));
+            Assert.assertTrue(Dispersores.dispersaWy(bytes) ==
+                              Dispersores.dispersaWy(sb));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package mx.unam.ciencias.edd.test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Random;
 import mx.unam.ciencias.edd.AlgoritmoDispersor;
 import mx.unam.ciencias.edd.FabricaDispersores;
@@ -115,4 +116,44 @@ public class TestFabricaDispersores {
         for (String mensaje : MENSAJES)
             Assert.assertTrue(djb.dispersa(mensaje) == DISPERSORES_DJB[i++]);
     }
+
+    /**
+     * Prueba unitaria para {@link FabricaDispersores#dispersorBytes}; para cada
+     * algoritmo, el dispersor de cadenas debe coincidir con el de bytes sobre
+     * los bytes UTF-8 de la cadena.
+     */
+    @Test public void testDispersorBytes() {
+        for (AlgoritmoDispersor algoritmo : AlgoritmoDispersor.values()) {
+            Dispersor<String> cadena =
+                FabricaDispersores.dispersorCadena(algoritmo);
+            Dispersor<byte[]> bytes =
+                FabricaDispersores.dispersorBytes(algoritmo);
+            for (String mensaje : MENSAJES) {
+                byte[] b = mensaje.getBytes(StandardCharsets.UTF_8);
+                Assert.assertTrue(cadena.dispersa(mensaje) ==
+                                  bytes.dispersa(b));
+            }
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link FabricaDispersores#dispersorConSemilla}.
+     */
+    @Test public void testDispersorConSemilla() {
+        Dispersor<String> a = FabricaDispersores.dispersorConSemilla(1L, 2L);
+        Dispersor<String> b = FabricaDispersores.dispersorConSemilla(1L, 2L);
+        Dispersor<String> c = FabricaDispersores.dispersorConSemilla(3L, 4L);
+        int distintas = 0;
+        for (String mensaje : MENSAJES) {
+            Assert.assertTrue(a.dispersa(mensaje) == b.dispersa(mensaje));
+            Assert.assertTrue(a.dispersa(mensaje) ==
+                              a.dispersa(new StringBuilder(mensaje).toString()));
+            if (a.dispersa(mensaje) != c.dispersa(mensaje))
+                distintas++;
+        }
+        Assert.assertTrue(distintas > MENSAJES.length / 2);
+        Dispersor<Integer> d = FabricaDispersores.dispersorConSemilla(1L, 2L);
+        Assert.assertTrue(d.dispersa(Integer.valueOf(1000)) ==
+                          d.dispersa(Integer.valueOf(1000)));
+    }
 }
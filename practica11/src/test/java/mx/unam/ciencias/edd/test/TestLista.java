@@ -1,8 +1,11 @@
 package mx.unam.ciencias.edd.test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
 import mx.unam.ciencias.edd.Coleccion;
 import mx.unam.ciencias.edd.ExcepcionIndiceInvalido;
 import mx.unam.ciencias.edd.IteradorLista;
@@ -551,6 +554,64 @@ public class TestLista {
         } catch (ExcepcionIndiceInvalido eii) {}
     }
 
+    /**
+     * Prueba unitaria para {@link Lista#get} intercalado con modificaciones de
+     * la lista, que tienen que mantener válido el último acceso por índice.
+     */
+    @Test public void testGetConModificaciones() {
+        ArrayList<Integer> modelo = new ArrayList<Integer>();
+        for (int k = 0; k < total * 20; k++) {
+            int e = random.nextInt(total);
+            int i = modelo.isEmpty() ? 0 : random.nextInt(modelo.size());
+            switch (random.nextInt(8)) {
+            case 0:
+                lista.agregaInicio(e);
+                modelo.add(0, e);
+                break;
+            case 1:
+                lista.agregaFinal(e);
+                modelo.add(e);
+                break;
+            case 2:
+                lista.inserta(i, e);
+                modelo.add(i, e);
+                break;
+            case 3:
+                lista.elimina(e);
+                modelo.remove(Integer.valueOf(e));
+                break;
+            case 4:
+                if (!modelo.isEmpty())
+                    Assert.assertTrue(lista.eliminaPrimero().equals(modelo.remove(0)));
+                break;
+            case 5:
+                if (!modelo.isEmpty())
+                    Assert.assertTrue(lista.eliminaUltimo().equals(
+                                      modelo.remove(modelo.size() - 1)));
+                break;
+            case 6:
+                Assert.assertTrue(lista.indiceDe(e) == modelo.indexOf(e));
+                break;
+            default:
+                if (!modelo.isEmpty())
+                    Assert.assertTrue(lista.get(i).equals(modelo.get(i)));
+            }
+            Assert.assertTrue(lista.getLongitud() == modelo.size());
+        }
+        for (int i = 0; i < modelo.size(); i++)
+            Assert.assertTrue(lista.get(i).equals(modelo.get(i)));
+        for (int i = modelo.size() - 1; i >= 0; i--)
+            Assert.assertTrue(lista.get(i).equals(modelo.get(i)));
+        /* Recorrer una lista grande con get tiene que tomar tiempo lineal. */
+        lista.limpia();
+        for (int i = 0; i < 200000; i++)
+            lista.agregaFinal(i);
+        for (int i = 0; i < 200000; i++)
+            Assert.assertTrue(lista.get(i) == i);
+        for (int i = 200000 - 1; i >= 0; i--)
+            Assert.assertTrue(lista.get(i) == i);
+    }
+
     /**
      * Prueba unitaria para {@link Lista#indiceDe}.
      */
@@ -802,6 +863,85 @@ public class TestLista {
         }
     }
 
+    /* Ordena la lista y la compara con el arreglo ordenado. */
+    private void pruebaOrdena(Lista<Integer> lista) {
+        int[] arreglo = new int[lista.getLongitud()];
+        int c = 0;
+        for (int e : lista)
+            arreglo[c++] = e;
+        Arrays.sort(arreglo);
+        lista.ordena((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.getLongitud() == arreglo.length);
+        c = 0;
+        for (int e : lista)
+            Assert.assertTrue(e == arreglo[c++]);
+        if (arreglo.length > 0) {
+            Assert.assertTrue(lista.getPrimero() == arreglo[0]);
+            Assert.assertTrue(lista.getUltimo() == arreglo[arreglo.length - 1]);
+        }
+        validaLista(lista);
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#ordenaParalelo} y {@link
+     * Lista#mergeSortParalelo}.
+     */
+    @Test public void testOrdenaParalelo() {
+        lista.ordenaParalelo((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.esVacia());
+        for (int i = 0; i < 50000; i++)
+            lista.agregaFinal(random.nextInt(total));
+        Lista<Integer> esperada = lista.mergeSort((a, b) -> a.compareTo(b));
+        Lista<Integer> ordenada =
+            lista.mergeSortParalelo((a, b) -> a.compareTo(b));
+        Assert.assertTrue(ordenada.equals(esperada));
+        Assert.assertFalse(lista.equals(esperada));
+        lista.ordenaParalelo((a, b) -> a.compareTo(b));
+        Assert.assertTrue(lista.equals(esperada));
+        validaLista(lista);
+    }
+
+    /**
+     * Prueba unitaria para {@link Lista#ordena}.
+     */
+    @Test public void testOrdena() {
+        pruebaOrdena(lista);
+        lista.agrega(1);
+        pruebaOrdena(lista);
+        lista.limpia();
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(random.nextInt(total));
+        pruebaOrdena(lista);
+        pruebaOrdena(lista);
+        lista.limpia();
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal((total - i) / 3);
+        pruebaOrdena(lista);
+        lista.limpia();
+        for (int i = 0; i < total; i++)
+            lista.agregaFinal(i % 2 == 0 ? i : total - i);
+        pruebaOrdena(lista);
+        /* Una lista grande tiene que ordenarse en menos de la expiración. */
+        lista.limpia();
+        for (int i = 0; i < 200000; i++)
+            lista.agregaFinal(random.nextInt());
+        pruebaOrdena(lista);
+        /* Prueba estabilidad, con corridas descendentes que tienen empates. */
+        Lista<Par> pares = new Lista<Par>();
+        for (int i = 0; i < total * 10; i++)
+            pares.agrega(new Par((total * 10 - i) / 4, i));
+        pares.ordena((a, b) -> a.compareTo(b));
+        Par u = null;
+        for (Par par : pares) {
+            if (u != null) {
+                Assert.assertTrue(u.getValor() <= par.getValor());
+                if (u.getValor() == par.getValor())
+                    Assert.assertTrue(u.getEtiqueta() < par.getEtiqueta());
+            }
+            u = par;
+        }
+    }
+
     /**
      * Prueba unitaria para {@link Lista#busquedaLineal}.
      */
@@ -827,4 +967,25 @@ public class TestLista {
         int o = lista.getPrimero() - 10;
         Assert.assertFalse(Lista.busquedaLineal(lista, o));
     }
+
+    /**
+     * Prueba unitaria para {@link Lista#spliterator}, {@link Lista#stream} y
+     * {@link Lista#parallelStream}.
+     */
+    @Test public void testStream() {
+        Assert.assertTrue(lista.stream().count() == 0);
+        for (int i = 0; i < 10000; i++)
+            lista.agregaFinal(random.nextInt(total));
+        Spliterator<Integer> s = lista.spliterator();
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.ORDERED));
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertTrue(s.getExactSizeIfKnown() == lista.getLongitud());
+        long suma = 0;
+        for (int e : lista)
+            suma += e;
+        Assert.assertTrue(lista.parallelStream().mapToLong(e -> e).sum() == suma);
+        Lista<Integer> copia =
+            lista.parallelStream().collect(Coleccion.colector(Lista::new));
+        Assert.assertTrue(copia.equals(lista));
+    }
 }
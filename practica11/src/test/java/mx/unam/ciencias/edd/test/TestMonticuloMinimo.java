@@ -3,6 +3,7 @@ package mx.unam.ciencias.edd.test;
 import java.util.NoSuchElementException;
 import java.util.Iterator;
 import java.util.Random;
+import mx.unam.ciencias.edd.ArregloLista;
 import mx.unam.ciencias.edd.ComparableIndexable;
 import mx.unam.ciencias.edd.Lista;
 import mx.unam.ciencias.edd.MonticuloMinimo;
@@ -349,4 +350,23 @@ public class TestMonticuloMinimo {
         Lista<Integer> control = Lista.mergeSort(lista);
         Assert.assertTrue(ordenada.equals(control));
     }
+
+    /**
+     * Prueba unitaria para {@link MonticuloMinimo#heapSort} con una colección
+     * de salida.
+     */
+    @Test public void testHeapSortSalida() {
+        Random random = new Random();
+        int total = 10 + random.nextInt(90);
+        Lista<Integer> lista = new Lista<Integer>();
+        for (int i = 0; i < total; i++)
+            lista.agrega(random.nextInt() % total);
+        ArregloLista<Integer> ordenada =
+            MonticuloMinimo.heapSort(lista, new ArregloLista<Integer>());
+        Lista<Integer> control = Lista.mergeSort(lista);
+        Assert.assertTrue(ordenada.getLongitud() == control.getLongitud());
+        int i = 0;
+        for (Integer n : control)
+            Assert.assertTrue(ordenada.get(i++).equals(n));
+    }
 }
@@ -0,0 +1,214 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import mx.unam.ciencias.edd.Cola;
+import mx.unam.ciencias.edd.MeteSaca;
+import mx.unam.ciencias.edd.Pila;
+import mx.unam.ciencias.edd.PilaArreglo;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Clase para pruebas unitarias de la clase {@link PilaArreglo}.
+ */
+public class TestPilaArreglo {
+
+    /** Expiración para que ninguna prueba tarde más de 5 segundos. */
+    @Rule public Timeout expiracion = Timeout.seconds(5);
+
+    /* Generador de números aleatorios. */
+    private Random random;
+    /* Número total de elementos. */
+    private int total;
+    /* La pila. */
+    private PilaArreglo<Integer> pila;
+
+    /**
+     * Crea un generador de números aleatorios para cada prueba, un
+     * número total de elementos para nuestra pila, y una pila.
+     */
+    public TestPilaArreglo() {
+        random = new Random();
+        total = 10 + random.nextInt(90);
+        pila = new PilaArreglo<Integer>();
+    }
+
+    /**
+     * Prueba unitaria para {@link PilaArreglo#PilaArreglo()}.
+     */
+    @Test public void testConstructor() {
+        Assert.assertTrue(pila != null);
+        Assert.assertTrue(pila.esVacia());
+        try {
+            pila.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nse) {}
+    }
+
+    /**
+     * Prueba unitaria para {@link PilaArreglo#mete}.
+     */
+    @Test public void testMete() {
+        try {
+            pila.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            pila.mete(i);
+        int c = total - 1;
+        int t = 0;
+        while (!pila.esVacia()) {
+            Assert.assertTrue(pila.saca() == c--);
+            t++;
+        }
+        Assert.assertTrue(t == total);
+        try {
+            pila.mete(null);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        for (int i = 0; i < total; i++)
+            pila.mete(i);
+        c = total - 1;
+        t = 0;
+        while (!pila.esVacia()) {
+            Assert.assertTrue(pila.saca() == c--);
+            t++;
+        }
+        Assert.assertTrue(t == total);
+    }
+
+    /**
+     * Prueba unitaria para {@link PilaArreglo#saca}.
+     */
+    @Test public void testSaca() {
+        try {
+            pila.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = i;
+            pila.mete(a[i]);
+        }
+        int c = 0;
+        while (!pila.esVacia())
+            Assert.assertTrue(pila.saca() == a[total - ++c]);
+        try {
+            pila.saca();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++)
+            pila.mete(a[i]);
+        c = 0;
+        while (!pila.esVacia())
+            Assert.assertTrue(pila.saca() == a[total - ++c]);
+    }
+
+    /**
+     * Prueba unitaria para {@link MeteSaca#mira}.
+     */
+    @Test public void testMira() {
+        try {
+            pila.mira();
+            Assert.fail();
+        } catch (NoSuchElementException nsee) {}
+        for (int i = 0; i < total; i++) {
+            pila.mete(i);
+            Assert.assertTrue(pila.mira() == i);
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link PilaArreglo#esVacia}.
+     */
+    @Test public void testEsVacia() {
+        Assert.assertTrue(pila.esVacia());
+        pila.mete(1);
+        Assert.assertFalse(pila.esVacia());
+        pila.saca();
+        Assert.assertTrue(pila.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link PilaArreglo#toString}.
+     */
+    @Test public void testToString() {
+        Assert.assertTrue(pila.toString().equals(""));
+        int[] a = new int[total];
+        for (int i = 0; i < total; i++) {
+            a[i] = i;
+            pila.mete(i);
+            String s = "";
+            for (int j = 0; j <= i; j++)
+                s += String.valueOf(a[i-j]) + "\n";
+            Assert.assertTrue(pila.toString().equals(s));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link PilaArreglo#equals}.
+     */
+    @Test public void testEquals() {
+        Assert.assertFalse(pila.equals(null));
+        Assert.assertFalse(pila.equals(""));
+        Assert.assertFalse(pila.equals(new Cola<Integer>()));
+        PilaArreglo<Integer> pila2 = new PilaArreglo<Integer>();
+        Assert.assertTrue(pila.equals(pila2));
+        for (int i = 0; i < total; i++) {
+            pila.mete(i);
+            Assert.assertFalse(pila.equals(pila2));
+            pila2.mete(i);
+            Assert.assertTrue(pila.equals(pila2));
+        }
+    }
+
+    /**
+     * Prueba unitaria para {@link PilaArreglo#mete} intercalado con {@link
+     * PilaArreglo#saca}, de manera que el arreglo crece.
+     */
+    @Test public void testMeteSacaIntercalados() {
+        Pila<Integer> control = new Pila<Integer>();
+        for (int i = 0; i < total * 20; i++) {
+            if (random.nextInt(3) == 0 && !pila.esVacia()) {
+                Assert.assertTrue(pila.saca().equals(control.saca()));
+            } else {
+                pila.mete(i);
+                control.mete(i);
+            }
+            if (!control.esVacia())
+                Assert.assertTrue(pila.mira().equals(control.mira()));
+        }
+        Assert.assertTrue(pila.toString().equals(control.toString()));
+        while (!pila.esVacia())
+            Assert.assertTrue(pila.saca().equals(control.saca()));
+        Assert.assertTrue(control.esVacia());
+    }
+
+    /**
+     * Prueba unitaria para {@link PilaArreglo#ofrece} en una pila acotada.
+     */
+    @Test public void testAcotada() {
+        try {
+            new PilaArreglo<Integer>(0, true);
+            Assert.fail();
+        } catch (IllegalArgumentException iae) {}
+        pila = new PilaArreglo<Integer>(total, true);
+        for (int i = 0; i < total; i++) {
+            Assert.assertFalse(pila.estaLlena());
+            Assert.assertTrue(pila.ofrece(i));
+        }
+        Assert.assertTrue(pila.estaLlena());
+        Assert.assertTrue(pila.getElementos() == total);
+        Assert.assertFalse(pila.ofrece(total));
+        try {
+            pila.mete(total);
+            Assert.fail();
+        } catch (IllegalStateException ise) {}
+        Assert.assertTrue(pila.saca() == total - 1);
+        Assert.assertTrue(pila.ofrece(total));
+        Assert.assertTrue(pila.mira() == total);
+    }
+}
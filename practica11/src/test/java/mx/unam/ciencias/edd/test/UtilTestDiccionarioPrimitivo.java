@@ -0,0 +1,60 @@
+package mx.unam.ciencias.edd.test;
+
+import java.util.Random;
+
+/**
+ * Clase de métodos utilitarios para las pruebas unitarias de los diccionarios
+ * con llaves de tipos primitivos.
+ */
+public class UtilTestDiccionarioPrimitivo {
+
+    /* Nos dice si el elemento está en las primeras n casillas del arreglo. */
+    private static boolean contiene(int[] arreglo, int n, int elemento) {
+        for (int i = 0; i < n; i++)
+            if (arreglo[i] == elemento)
+                return true;
+        return false;
+    }
+
+    /* Nos dice si el elemento está en las primeras n casillas del arreglo. */
+    private static boolean contiene(long[] arreglo, int n, long elemento) {
+        for (int i = 0; i < n; i++)
+            if (arreglo[i] == elemento)
+                return true;
+        return false;
+    }
+
+    /**
+     * Regresa un arreglo de enteros aleatorios distintos.
+     * @param random el generador de números aleatorios.
+     * @param n el número de enteros.
+     * @return un arreglo de n enteros aleatorios distintos.
+     */
+    public static int[] enterosDistintos(Random random, int n) {
+        int[] arreglo = new int[n];
+        for (int i = 0; i < n; i++) {
+            int k = random.nextInt();
+            while (contiene(arreglo, i, k))
+                k = random.nextInt();
+            arreglo[i] = k;
+        }
+        return arreglo;
+    }
+
+    /**
+     * Regresa un arreglo de enteros largos aleatorios distintos.
+     * @param random el generador de números aleatorios.
+     * @param n el número de enteros largos.
+     * @return un arreglo de n enteros largos aleatorios distintos.
+     */
+    public static long[] largosDistintos(Random random, int n) {
+        long[] arreglo = new long[n];
+        for (int i = 0; i < n; i++) {
+            long k = random.nextLong();
+            while (contiene(arreglo, i, k))
+                k = random.nextLong();
+            arreglo[i] = k;
+        }
+        return arreglo;
+    }
+}
@@ -493,38 +493,115 @@ public class Lista<T> implements Coleccion<T> {
      * @return una copia de la lista, pero ordenada.
      */
     public Lista<T> mergeSort(Comparator<T> comparador) {
+        Lista<T> lista = copia();
+        lista.ordena(comparador);
+        return lista;
+    }
+
+    /**
+     * Ordena la lista usando el comparador recibido. El ordenamiento es estable
+     * y se hace en la lista misma, religando sus nodos: primero voltea las
+     * corridas estrictamente descendentes, y después mezcla por pares las
+     * corridas ascendentes que ya trae la lista hasta que sólo queda una. Una
+     * lista que ya está ordenada se ordena en tiempo lineal.
+     *
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordena(Comparator<T> comparador) {
         if (longitud <= 1)
-            return copia();
-        Lista<T> izq = new Lista<T>();
-        Lista<T> der = new Lista<T>();
-        for (int i = 0; i < longitud / 2; i++)
-            izq.agrega(get(i));
-        for (int i = longitud / 2; i < getLongitud(); i++)
-            der.agrega(get(i));
-        izq = izq.mergeSort(comparador);
-        der = der.mergeSort(comparador);
-        
-        Nodo auxIzq = izq.cabeza;
-        Nodo auxDer = der.cabeza;
-        Lista<T> lista = new Lista<T>();
-        while (auxIzq != null && auxDer != null) {
-            if (comparador.compare(auxIzq.elemento, auxDer.elemento) <= 0) {
-                lista.agrega(auxIzq.elemento);
-                auxIzq = auxIzq.siguiente;
-            } else {
-                lista.agrega(auxDer.elemento);
-                auxDer = auxDer.siguiente;
+            return;
+        invierteDescendentes(comparador);
+        boolean mezclo = true;
+        while (mezclo) {
+            mezclo = false;
+            Nodo cola = null;
+            Nodo a = cabeza;
+            while (a != null) {
+                Nodo finA = finCorrida(a, comparador);
+                Nodo b = finA.siguiente;
+                if (b == null) {
+                    pega(cola, a);
+                    break;
+                }
+                Nodo finB = finCorrida(b, comparador);
+                Nodo resto = finB.siguiente;
+                finA.siguiente = finB.siguiente = null;
+                while (a != null && b != null) {
+                    if (comparador.compare(a.elemento, b.elemento) <= 0) {
+                        cola = pega(cola, a);
+                        a = a.siguiente;
+                    } else {
+                        cola = pega(cola, b);
+                        b = b.siguiente;
+                    }
+                }
+                if (a != null) {
+                    pega(cola, a);
+                    cola = finA;
+                } else {
+                    pega(cola, b);
+                    cola = finB;
+                }
+                a = resto;
+                mezclo = true;
             }
         }
-        while (auxIzq != null) {
-            lista.agrega(auxIzq.elemento);
-            auxIzq = auxIzq.siguiente;
+        Nodo anterior = null;
+        for (Nodo n = cabeza; n != null; n = n.siguiente) {
+            n.anterior = anterior;
+            anterior = n;
         }
-        while (auxDer != null) {
-            lista.agrega(auxDer.elemento);
-            auxDer = auxDer.siguiente;
+        rabo = anterior;
+    }
+
+    /*
+     * Cuelga el nodo después de cola, o lo hace la cabeza si cola es null;
+     * regresa el nodo.
+     */
+    private Nodo pega(Nodo cola, Nodo nodo) {
+        if (cola == null)
+            cabeza = nodo;
+        else
+            cola.siguiente = nodo;
+        return nodo;
+    }
+
+    /* Regresa el último nodo de la corrida ascendente que empieza en el nodo. */
+    private Nodo finCorrida(Nodo nodo, Comparator<T> comparador) {
+        while (nodo.siguiente != null &&
+               comparador.compare(nodo.elemento, nodo.siguiente.elemento) <= 0)
+            nodo = nodo.siguiente;
+        return nodo;
+    }
+
+    /*
+     * Voltea las corridas estrictamente descendentes de la lista, usando sólo
+     * las referencias al siguiente nodo. Como son estrictas, no hay elementos
+     * iguales que cambien de orden.
+     */
+    private void invierteDescendentes(Comparator<T> comparador) {
+        Nodo previo = null;
+        Nodo inicio = cabeza;
+        while (inicio != null) {
+            Nodo fin = inicio;
+            while (fin.siguiente != null &&
+                   comparador.compare(fin.elemento, fin.siguiente.elemento) > 0)
+                fin = fin.siguiente;
+            Nodo resto = fin.siguiente;
+            if (fin != inicio) {
+                Nodo volteada = resto;
+                for (Nodo n = inicio; n != resto;) {
+                    Nodo siguiente = n.siguiente;
+                    n.siguiente = volteada;
+                    volteada = n;
+                    n = siguiente;
+                }
+                pega(previo, fin);
+            }
+            previo = inicio;
+            inicio = resto;
         }
-        return lista;
     }
 
     /**
@@ -110,22 +110,36 @@ public abstract class ArbolBinario<T> implements Coleccion<T> {
         }
 
         /**
-         * Regresa la altura del vértice.
+         * Regresa la altura del vértice. Recorre el subárbol siguiendo los
+         * apuntadores a los padres para regresar, así que no usa la pila sin
+         * importar qué tan desbalanceado esté el árbol.
          * 
          * @return la altura del vértice.
          */
         @Override
         public int altura() {
-            int izquierdoAux = -1;
-            int derechoAux = -1;
-            if (hayDerecho())
-                derechoAux = derecho.altura();
-            if (hayIzquierdo())
-                izquierdoAux = izquierdo.altura();
-            if (izquierdoAux >= derechoAux)
-                return izquierdoAux + 1;
-            else
-                return derechoAux + 1;
+            int altura = 0;
+            int profundidad = 0;
+            Vertice v = this;
+            while (true) {
+                if (v.izquierdo != null) {
+                    v = v.izquierdo;
+                    profundidad++;
+                } else if (v.derecho != null) {
+                    v = v.derecho;
+                    profundidad++;
+                } else {
+                    if (profundidad > altura)
+                        altura = profundidad;
+                    while (v != this && (v.padre.derecho == v || v.padre.derecho == null)) {
+                        v = v.padre;
+                        profundidad--;
+                    }
+                    if (v == this)
+                        return altura;
+                    v = v.padre.derecho;
+                }
+            }
         }
 
         /**
@@ -135,10 +149,10 @@ public abstract class ArbolBinario<T> implements Coleccion<T> {
          */
         @Override
         public int profundidad() {
-            if (hayPadre())
-                return padre.profundidad() + 1;
-            else
-                return 0;
+            int profundidad = 0;
+            for (Vertice v = padre; v != null; v = v.padre)
+                profundidad++;
+            return profundidad;
         }
 
         /**
@@ -168,17 +182,30 @@ public abstract class ArbolBinario<T> implements Coleccion<T> {
                 return false;
             @SuppressWarnings("unchecked")
             Vertice vertice = (Vertice) objeto;
-            return raiz.elemento.equals(vertice.elemento) && equals(raiz.izquierdo, vertice.izquierdo)
-                    && equals(raiz.derecho, vertice.derecho);
-        }
-
-        private boolean equals(Vertice izquierdo, Vertice derecho) {
-            if (izquierdo == null && derecho == null)
-                return true;
-            else if (izquierdo != null && derecho == null || izquierdo == null && derecho != null)
-                return false;
-            return izquierdo.elemento.equals(derecho.elemento) && equals(izquierdo.izquierdo, derecho.izquierdo)
-                    && equals(izquierdo.derecho, derecho.derecho);
+            Vertice a = this;
+            Vertice b = vertice;
+            while (true) {
+                if (!a.elemento.equals(b.elemento) || (a.izquierdo == null) != (b.izquierdo == null)
+                        || (a.derecho == null) != (b.derecho == null))
+                    return false;
+                if (a.izquierdo != null) {
+                    a = a.izquierdo;
+                    b = b.izquierdo;
+                } else if (a.derecho != null) {
+                    a = a.derecho;
+                    b = b.derecho;
+                } else {
+                    /* Los dos subárboles tienen la misma forma, así que suben juntos. */
+                    while (a != this && (a.padre.derecho == a || a.padre.derecho == null)) {
+                        a = a.padre;
+                        b = b.padre;
+                    }
+                    if (a == this)
+                        return true;
+                    a = a.padre.derecho;
+                    b = b.padre.derecho;
+                }
+            }
         }
 
         /**
@@ -251,7 +278,9 @@ public abstract class ArbolBinario<T> implements Coleccion<T> {
     }
 
     /**
-     * Nos dice si un elemento está en el árbol binario.
+     * Nos dice si un elemento está en el árbol binario. Usa {@link #busca}, así
+     * que las clases que lo sobrecargan, como los árboles ordenados, también
+     * cambian el costo de este método.
      * 
      * @param elemento el elemento que queremos comprobar si está en el árbol.
      * @return <code>true</code> si el elemento está en el árbol; <code>false</code>
@@ -266,7 +295,8 @@ public abstract class ArbolBinario<T> implements Coleccion<T> {
 
     /**
      * Busca el vértice de un elemento en el árbol. Si no lo encuentra regresa
-     * <code>null</code>.
+     * <code>null</code>. El árbol se recorre en pre-order y la búsqueda termina
+     * en cuanto encuentra el elemento.
      * 
      * @param elemento el elemento para buscar el vértice.
      * @return un vértice que contiene el elemento buscado si lo encuentra;
@@ -277,7 +307,8 @@ public abstract class ArbolBinario<T> implements Coleccion<T> {
     }
 
     /**
-     * Método auxiliar que busca el vértice de un elemento en el árbol.
+     * Método auxiliar que busca el vértice de un elemento en el árbol, en
+     * pre-order y sin recursión.
      * 
      * @param elemento elemento a buscar.
      * @param vertice  vértice donde estamos parados.
@@ -285,13 +316,31 @@ public abstract class ArbolBinario<T> implements Coleccion<T> {
      *         <tt>null</tt> en otro caso.
      */
     private Vertice busca(T elemento, Vertice vertice) {
-        if (vertice == null || elemento == null)
+        if (elemento == null)
             return null;
-        if (vertice.elemento.equals(elemento))
-            return vertice;
-        Vertice i = busca(elemento, vertice.izquierdo);
-        Vertice d = busca(elemento, vertice.derecho);
-        return i != null ? i : d;
+        for (Vertice v = vertice; v != null; v = siguientePreOrder(v))
+            if (v.elemento.equals(elemento))
+                return v;
+        return null;
+    }
+
+    /**
+     * Regresa el vértice que sigue al recibido en un recorrido DFS
+     * <em>pre-order</em> del árbol, o <code>null</code> si es el último. Sólo
+     * usa los apuntadores de los vértices, así que no reserva memoria ni usa la
+     * pila.
+     * 
+     * @param v el vértice actual.
+     * @return el siguiente vértice en pre-order, o <code>null</code>.
+     */
+    protected Vertice siguientePreOrder(Vertice v) {
+        if (v.izquierdo != null)
+            return v.izquierdo;
+        if (v.derecho != null)
+            return v.derecho;
+        while (v.padre != null && (v.padre.derecho == v || v.padre.derecho == null))
+            v = v.padre;
+        return v.padre == null ? null : v.padre.derecho;
     }
 
     /**
@@ -15,6 +15,14 @@ package mx.unam.ciencias.edd;
  * </ol>
  *
  * Los árboles rojinegros se autobalancean.
+ *
+ * <p>
+ * Un árbol rojinegro puede construirse con <em>estadísticos de orden</em>: cada
+ * vértice guarda además el número de elementos de su subárbol, que se mantiene
+ * al agregar, al eliminar y en cada giro. Con esos tamaños {@link #selecciona},
+ * {@link #rango} y {@link #cuentaEnRango} toman tiempo logarítmico en lugar de
+ * recorrer el árbol.
+ * </p>
  */
 public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenado<T> {
 
@@ -25,6 +33,11 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
 
         /** El color del vértice. */
         public Color color;
+        /**
+         * El número de elementos en el subárbol del vértice; sólo se mantiene
+         * si el árbol tiene estadísticos de orden.
+         */
+        public int tamano;
 
         /**
          * Constructor único que recibe un elemento.
@@ -34,6 +47,7 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
         public VerticeRojinegro(T elemento) {
             super(elemento);
             color = Color.NINGUNO;
+            tamano = 1;
         }
 
         /**
@@ -66,6 +80,9 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
         }
     }
 
+    /* Si el árbol mantiene los tamaños de los subárboles. */
+    private boolean estadisticos;
+
     /**
      * Constructor sin parámetros. Para no perder el constructor sin parámetros de
      * {@link ArbolBinarioOrdenado}.
@@ -74,6 +91,18 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
         super();
     }
 
+    /**
+     * Construye un árbol rojinegro vacío, con o sin estadísticos de orden.
+     * 
+     * @param estadisticos si el árbol mantiene los tamaños de los subárboles
+     *                     para {@link #selecciona}, {@link #rango} y
+     *                     {@link #cuentaEnRango}.
+     */
+    public ArbolRojinegro(boolean estadisticos) {
+        super();
+        this.estadisticos = estadisticos;
+    }
+
     /**
      * Construye un árbol rojinegro a partir de una colección. El árbol rojinegro
      * tiene los mismos elementos que la colección recibida.
@@ -84,6 +113,20 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
         super(coleccion);
     }
 
+    /**
+     * Construye un árbol rojinegro a partir de una colección, con o sin
+     * estadísticos de orden.
+     * 
+     * @param coleccion    la colección a partir de la cual creamos el árbol
+     *                     rojinegro.
+     * @param estadisticos si el árbol mantiene los tamaños de los subárboles.
+     */
+    public ArbolRojinegro(Coleccion<T> coleccion, boolean estadisticos) {
+        this(estadisticos);
+        for (T elemento : coleccion)
+            agrega(elemento);
+    }
+
     /**
      * Construye un nuevo vértice, usando una instancia de {@link VerticeRojinegro}.
      * 
@@ -128,6 +171,9 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
         super.agrega(elemento);
         VerticeRojinegro v = verticeRojinegro(super.ultimoAgregado);
         v.color = Color.ROJO;
+        if (estadisticos)
+            for (Vertice p = v.padre; p != null; p = p.padre)
+                verticeRojinegro(p).tamano++;
         agrega(v);
     }
 
@@ -165,11 +211,11 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
         // CASO4
         VerticeRojinegro aux = padre;
         if (abuelo.izquierdo == padre && padre.derecho == v) {
-            super.giraIzquierda(padre);
+            giraIzquierdaContando(padre);
             padre = v;
             v = aux;
         } else if (abuelo.derecho == padre && padre.izquierdo == v) {
-            super.giraDerecha(padre);
+            giraDerechaContando(padre);
             padre = v;
             v = aux;
         }
@@ -178,9 +224,9 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
         padre.color = Color.NEGRO;
         abuelo.color = Color.ROJO;
         if (abuelo.izquierdo == padre)
-            super.giraDerecha(abuelo);
+            giraDerechaContando(abuelo);
         else if (abuelo.derecho == padre)
-            super.giraIzquierda(abuelo);
+            giraIzquierdaContando(abuelo);
     }
 
     private boolean esDerecho(VerticeRojinegro vertice) {
@@ -209,11 +255,15 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
             return;
         if (v.hayIzquierdo() && v.hayDerecho())
             v = verticeRojinegro(intercambiaEliminable(v));
+        if (estadisticos)
+            for (Vertice p = v.padre; p != null; p = p.padre)
+                verticeRojinegro(p).tamano--;
         if (!v.hayIzquierdo() && !v.hayDerecho()) {
             VerticeRojinegro V = verticeRojinegro(nuevoVertice(null));
             v.izquierdo = V;
             V.padre = v;
             V.color = Color.NEGRO;
+            V.tamano = 0;
         }
         VerticeRojinegro hijo = null;
         if (v.hayIzquierdo()) {
@@ -263,10 +313,10 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
             padre.color = Color.ROJO;
             hermano.color = Color.NEGRO;
             if (esIzquierdo(vertice)) {
-                super.giraIzquierda(padre);
+                giraIzquierdaContando(padre);
                 hermano = verticeRojinegro(padre.derecho);
             } else if (esDerecho(vertice)) {
-                super.giraDerecha(padre);
+                giraDerechaContando(padre);
                 hermano = verticeRojinegro(padre.izquierdo);
             }
         }
@@ -293,11 +343,11 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
             hermano.color = Color.ROJO;
             if (esRojo(hijoIzq) && esNegro(hijoDer)) {
                 hijoIzq.color = Color.NEGRO;
-                super.giraDerecha(hermano);
+                giraDerechaContando(hermano);
                 hermano = hijoIzq;
             } else if (esNegro(hijoIzq) && esRojo(hijoDer)) {
                 hijoDer.color = Color.NEGRO;
-                super.giraIzquierda(hermano);
+                giraIzquierdaContando(hermano);
                 hermano = hijoDer;
             }
             hijoDer = verticeRojinegro(hermano.derecho);
@@ -310,12 +360,146 @@ public class ArbolRojinegro<T extends Comparable<T>> extends ArbolBinarioOrdenad
             padre.color = Color.NEGRO;
             if (esIzquierdo(vertice)) {
                 hijoDer.color = Color.NEGRO;
-                super.giraIzquierda(padre);
+                giraIzquierdaContando(padre);
             } else if (esDerecho(vertice)) {
                 hijoIzq.color = Color.NEGRO;
-                super.giraDerecha(padre);
+                giraDerechaContando(padre);
+            }
+        }
+    }
+
+    /* Regresa el tamaño del subárbol del vértice, o 0 si es null. */
+    private int tamano(Vertice v) {
+        return v == null ? 0 : verticeRojinegro(v).tamano;
+    }
+
+    /*
+     * Gira a la izquierda sobre el vértice y, si el árbol tiene estadísticos de
+     * orden, corrige los tamaños de los dos vértices que cambiaron de lugar.
+     */
+    private void giraIzquierdaContando(VerticeRojinegro v) {
+        VerticeRojinegro d = verticeRojinegro(v.derecho);
+        super.giraIzquierda(v);
+        if (estadisticos && d != null) {
+            d.tamano = v.tamano;
+            v.tamano = 1 + tamano(v.izquierdo) + tamano(v.derecho);
+        }
+    }
+
+    /*
+     * Gira a la derecha sobre el vértice y, si el árbol tiene estadísticos de
+     * orden, corrige los tamaños de los dos vértices que cambiaron de lugar.
+     */
+    private void giraDerechaContando(VerticeRojinegro v) {
+        VerticeRojinegro i = verticeRojinegro(v.izquierdo);
+        super.giraDerecha(v);
+        if (estadisticos && i != null) {
+            i.tamano = v.tamano;
+            v.tamano = 1 + tamano(v.izquierdo) + tamano(v.derecho);
+        }
+    }
+
+    /**
+     * Nos dice si el árbol tiene estadísticos de orden.
+     * 
+     * @return <code>true</code> si el árbol mantiene los tamaños de los
+     *         subárboles, <code>false</code> en otro caso.
+     */
+    public boolean tieneEstadisticos() {
+        return estadisticos;
+    }
+
+    /**
+     * Regresa el <em>k</em>-ésimo elemento del árbol en orden, contando desde
+     * 0: el menor es <code>selecciona(0)</code> y el mayor es
+     * <code>selecciona(getElementos() - 1)</code>.
+     * 
+     * @param k el índice del elemento en orden.
+     * @return el <em>k</em>-ésimo elemento del árbol.
+     * @throws IllegalStateException   si el árbol no tiene estadísticos de
+     *                                 orden.
+     * @throws ExcepcionIndiceInvalido si <em>k</em> es menor que cero o mayor o
+     *                                 igual que el número de elementos.
+     */
+    public T selecciona(int k) {
+        if (!estadisticos)
+            throw new IllegalStateException();
+        if (k < 0 || k >= elementos)
+            throw new ExcepcionIndiceInvalido();
+        Vertice v = raiz;
+        while (true) {
+            int t = tamano(v.izquierdo);
+            if (k < t) {
+                v = v.izquierdo;
+            } else if (k == t) {
+                return v.elemento;
+            } else {
+                k -= t + 1;
+                v = v.derecho;
+            }
+        }
+    }
+
+    /**
+     * Regresa el número de elementos del árbol que son menores que el
+     * recibido, que es el índice que tendría en orden si se agregara antes de
+     * sus iguales.
+     * 
+     * @param elemento el elemento del que queremos el rango.
+     * @return el número de elementos menores que el recibido.
+     * @throws IllegalStateException    si el árbol no tiene estadísticos de
+     *                                  orden.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public int rango(T elemento) {
+        if (!estadisticos)
+            throw new IllegalStateException();
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        return cuentaMenores(elemento, false);
+    }
+
+    /**
+     * Regresa el número de elementos del árbol entre <em>a</em> y <em>b</em>,
+     * incluyéndolos. Si <em>a</em> es mayor que <em>b</em>, regresa 0.
+     * 
+     * @param a el extremo inferior del rango.
+     * @param b el extremo superior del rango.
+     * @return el número de elementos <em>e</em> del árbol tales que
+     *         <em>a</em> ≤ <em>e</em> ≤ <em>b</em>.
+     * @throws IllegalStateException    si el árbol no tiene estadísticos de
+     *                                  orden.
+     * @throws IllegalArgumentException si <em>a</em> o <em>b</em> son
+     *                                  <code>null</code>.
+     */
+    public int cuentaEnRango(T a, T b) {
+        if (!estadisticos)
+            throw new IllegalStateException();
+        if (a == null || b == null)
+            throw new IllegalArgumentException();
+        if (a.compareTo(b) > 0)
+            return 0;
+        return cuentaMenores(b, true) - cuentaMenores(a, false);
+    }
+
+    /*
+     * Cuenta los elementos menores que el recibido, o menores o iguales si
+     * iguales es true, bajando por un solo camino del árbol.
+     */
+    private int cuentaMenores(T elemento, boolean iguales) {
+        int cuenta = 0;
+        Vertice v = raiz;
+        while (v != null) {
+            int c = elemento.compareTo(v.elemento);
+            if (c < 0 || (c == 0 && !iguales)) {
+                v = v.izquierdo;
+            } else {
+                cuenta += tamano(v.izquierdo) + 1;
+                v = v.derecho;
             }
         }
+        return cuenta;
     }
 
     /**
@@ -1,6 +1,7 @@
 package mx.unam.ciencias.edd;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * <p>
@@ -55,6 +56,45 @@ public class ArbolBinarioOrdenado<T extends Comparable<T>> extends ArbolBinario<
         }
     }
 
+    /*
+     * Clase interna privada para iteradores de rangos. Recorre en orden desde
+     * el primer vértice del rango, siguiendo a los sucesores mientras sus
+     * elementos no pasen del extremo superior.
+     */
+    private class IteradorRango implements Iterator<T> {
+
+        /* El siguiente vértice a recorrer, o null si ya terminamos. */
+        private Vertice siguiente;
+        /* El extremo superior del rango. */
+        private T cota;
+
+        /* Inicializa al iterador. */
+        public IteradorRango(Vertice primero, T cota) {
+            this.cota = cota;
+            siguiente = primero;
+            if (siguiente != null && siguiente.elemento.compareTo(cota) > 0)
+                siguiente = null;
+        }
+
+        /* Nos dice si hay un elemento siguiente. */
+        @Override
+        public boolean hasNext() {
+            return siguiente != null;
+        }
+
+        /* Regresa el siguiente elemento del rango en orden. */
+        @Override
+        public T next() {
+            if (siguiente == null)
+                throw new NoSuchElementException();
+            T elemento = siguiente.elemento;
+            siguiente = sucesor(siguiente);
+            if (siguiente != null && siguiente.elemento.compareTo(cota) > 0)
+                siguiente = null;
+            return elemento;
+        }
+    }
+
     /**
      * El vértice del último elemento agegado. Este vértice sólo se puede garantizar
      * que existe <em>inmediatamente</em> después de haber agregado un elemento al
@@ -101,26 +141,33 @@ public class ArbolBinarioOrdenado<T extends Comparable<T>> extends ArbolBinario<
     }
 
     /**
-     * Método auxiliar
+     * Método auxiliar que baja desde el vértice hasta el lugar donde va el
+     * elemento y ahí lo cuelga. Los elementos menores o iguales van a la
+     * izquierda.
      * 
-     * @param actual
-     * @param nuevo
+     * @param actual el elemento a agregar.
+     * @param nuevo  el vértice desde donde se baja.
      */
     private void agrega(T actual, Vertice nuevo) {
-        if (actual.compareTo(nuevo.elemento) <= 0) {
-            if (!nuevo.hayIzquierdo()) {
-                nuevo.izquierdo = nuevoVertice(actual);
-                nuevo.izquierdo.padre = nuevo;
-                ultimoAgregado = nuevo.izquierdo;
-            } else
-                agrega(actual, nuevo.izquierdo);
-        } else {
-            if (!nuevo.hayDerecho()) {
-                nuevo.derecho = nuevoVertice(actual);
-                nuevo.derecho.padre = nuevo;
-                ultimoAgregado = nuevo.derecho;
-            } else
-                agrega(actual, nuevo.derecho);
+        Vertice v = nuevo;
+        while (true) {
+            if (actual.compareTo(v.elemento) <= 0) {
+                if (v.izquierdo == null) {
+                    v.izquierdo = nuevoVertice(actual);
+                    v.izquierdo.padre = v;
+                    ultimoAgregado = v.izquierdo;
+                    return;
+                }
+                v = v.izquierdo;
+            } else {
+                if (v.derecho == null) {
+                    v.derecho = nuevoVertice(actual);
+                    v.derecho.padre = v;
+                    ultimoAgregado = v.derecho;
+                    return;
+                }
+                v = v.derecho;
+            }
         }
     }
 
@@ -199,7 +246,21 @@ public class ArbolBinarioOrdenado<T extends Comparable<T>> extends ArbolBinario<
     }
 
     /**
-     * Busca un elemento en el árbol recorriéndolo in-order. Si lo encuentra,
+     * Nos dice si un elemento está en el árbol. Baja desde la raíz comparando
+     * el elemento con el de cada vértice, así que toma tiempo proporcional a la
+     * altura del árbol: logarítmico en los árboles rojinegros y AVL.
+     * 
+     * @param elemento el elemento que queremos comprobar si está en el árbol.
+     * @return <code>true</code> si el elemento está en el árbol; <code>false</code>
+     *         en otro caso.
+     */
+    @Override
+    public boolean contiene(T elemento) {
+        return busca(elemento, raiz) != null;
+    }
+
+    /**
+     * Busca un elemento en el árbol bajando desde la raíz. Si lo encuentra,
      * regresa el vértice que lo contiene; si no, regresa <code>null</code>.
      * 
      * @param elemento el elemento a buscar.
@@ -212,20 +273,23 @@ public class ArbolBinarioOrdenado<T extends Comparable<T>> extends ArbolBinario<
     }
 
     /**
-     * Función auxiliar busca.
+     * Función auxiliar busca. Baja por el árbol sin recursión.
      * 
      * @param elemento el elemento a buscar.
      * @param vertice  el vertice.
      * @return un vértice que contiene al elemento buscado si lo encuentra;
      */
     private Vertice busca(T elemento, Vertice vertice) {
-        if (vertice == null || elemento == null)
+        if (elemento == null)
             return null;
-        if (elemento.compareTo(vertice.get()) == 0)
-            return vertice;
-        if (elemento.compareTo(vertice.get()) < 0)
-            return busca(elemento, vertice.izquierdo);
-        return busca(elemento, vertice.derecho);
+        Vertice v = vertice;
+        while (v != null) {
+            int c = elemento.compareTo(v.elemento);
+            if (c == 0)
+                return v;
+            v = c < 0 ? v.izquierdo : v.derecho;
+        }
+        return null;
     }
 
     /**
@@ -304,80 +368,235 @@ public class ArbolBinarioOrdenado<T extends Comparable<T>> extends ArbolBinario<
 
     /**
      * Realiza un recorrido DFS <em>pre-order</em> en el árbol, ejecutando la acción
-     * recibida en cada elemento del árbol.
+     * recibida en cada elemento del árbol. El recorrido regresa por los
+     * apuntadores a los padres, así que no reserva memoria ni usa la pila, pero
+     * la acción no debe modificar el árbol.
      * 
      * @param accion la acción a realizar en cada elemento del árbol.
      */
     public void dfsPreOrder(AccionVerticeArbolBinario<T> accion) {
-        dfsPreOrder(accion, raiz);
+        for (Vertice v = raiz; v != null; v = siguientePreOrder(v))
+            accion.actua(v);
     }
 
     /**
-     * Método auxiliar.
+     * Realiza un recorrido DFS <em>in-order</em> en el árbol, ejecutando la acción
+     * recibida en cada elemento del árbol. Como {@link #dfsPreOrder}, no usa la
+     * pila y la acción no debe modificar el árbol.
      * 
-     * @param accion
-     * @param v      Vertice al que se le aplica acción.
+     * @param accion la acción a realizar en cada elemento del árbol.
      */
-    private void dfsPreOrder(AccionVerticeArbolBinario<T> accion, Vertice v) {
-        if (v == null)
+    public void dfsInOrder(AccionVerticeArbolBinario<T> accion) {
+        if (raiz == null)
             return;
-        accion.actua(v);
-        if (v.hayIzquierdo())
-            dfsPreOrder(accion, v.izquierdo);
-        if (v.hayDerecho())
-            dfsPreOrder(accion, v.derecho);
+        Vertice v = raiz;
+        while (v.izquierdo != null)
+            v = v.izquierdo;
+        for (; v != null; v = sucesor(v))
+            accion.actua(v);
     }
 
     /**
-     * Realiza un recorrido DFS <em>in-order</em> en el árbol, ejecutando la acción
-     * recibida en cada elemento del árbol.
+     * Realiza un recorrido DFS <em>post-order</em> en el árbol, ejecutando la
+     * acción recibida en cada elemento del árbol. Como {@link #dfsPreOrder}, no
+     * usa la pila y la acción no debe modificar el árbol.
      * 
      * @param accion la acción a realizar en cada elemento del árbol.
      */
-    public void dfsInOrder(AccionVerticeArbolBinario<T> accion) {
-        dfsInOrder(accion, raiz);
+    public void dfsPostOrder(AccionVerticeArbolBinario<T> accion) {
+        if (raiz == null)
+            return;
+        Vertice v = primeroPostOrder(raiz);
+        while (v != null) {
+            accion.actua(v);
+            Vertice padre = v.padre;
+            if (padre != null && padre.izquierdo == v && padre.derecho != null)
+                v = primeroPostOrder(padre.derecho);
+            else
+                v = padre;
+        }
+    }
+
+    /* Regresa el primer vértice en post-order del subárbol del recibido. */
+    private Vertice primeroPostOrder(Vertice v) {
+        while (true) {
+            if (v.izquierdo != null)
+                v = v.izquierdo;
+            else if (v.derecho != null)
+                v = v.derecho;
+            else
+                return v;
+        }
+    }
+
+    /* Regresa el vértice que sigue en orden al recibido, o null si es el último. */
+    private Vertice sucesor(Vertice v) {
+        if (v.derecho != null) {
+            v = v.derecho;
+            while (v.izquierdo != null)
+                v = v.izquierdo;
+            return v;
+        }
+        while (v.padre != null && v.padre.derecho == v)
+            v = v.padre;
+        return v.padre;
+    }
+
+    /*
+     * Regresa el primer vértice en orden cuyo elemento es mayor o igual que el
+     * recibido, o mayor si estricto es true; o null si no hay.
+     */
+    private Vertice techo(T elemento, boolean estricto) {
+        Vertice techo = null;
+        Vertice v = raiz;
+        while (v != null) {
+            int c = v.elemento.compareTo(elemento);
+            if (c > 0 || (c == 0 && !estricto)) {
+                techo = v;
+                v = v.izquierdo;
+            } else {
+                v = v.derecho;
+            }
+        }
+        return techo;
+    }
+
+    /*
+     * Regresa el último vértice en orden cuyo elemento es menor o igual que el
+     * recibido, o menor si estricto es true; o null si no hay.
+     */
+    private Vertice piso(T elemento, boolean estricto) {
+        Vertice piso = null;
+        Vertice v = raiz;
+        while (v != null) {
+            int c = v.elemento.compareTo(elemento);
+            if (c < 0 || (c == 0 && !estricto)) {
+                piso = v;
+                v = v.derecho;
+            } else {
+                v = v.izquierdo;
+            }
+        }
+        return piso;
     }
 
     /**
-     * Método auxiliar.
+     * Regresa el mayor elemento del árbol que es menor o igual que el
+     * recibido.
      * 
-     * @param accion
-     * @param v      Vertice al que se le aplica acción.
+     * @param elemento el elemento a comparar.
+     * @return el mayor elemento menor o igual que el recibido, o
+     *         <code>null</code> si no hay.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
      */
-    private void dfsInOrder(AccionVerticeArbolBinario<T> accion, Vertice v) {
-        if (v == null)
-            return;
-        if (v.hayIzquierdo())
-            dfsInOrder(accion, v.izquierdo);
-        accion.actua(v);
-        if (v.hayDerecho())
-            dfsInOrder(accion, v.derecho);
+    public T piso(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        Vertice v = piso(elemento, false);
+        return v == null ? null : v.elemento;
     }
 
     /**
-     * Realiza un recorrido DFS <em>post-order</em> en el árbol, ejecutando la
-     * acción recibida en cada elemento del árbol.
+     * Regresa el menor elemento del árbol que es mayor o igual que el
+     * recibido.
      * 
-     * @param accion la acción a realizar en cada elemento del árbol.
+     * @param elemento el elemento a comparar.
+     * @return el menor elemento mayor o igual que el recibido, o
+     *         <code>null</code> si no hay.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
      */
-    public void dfsPostOrder(AccionVerticeArbolBinario<T> accion) {
-        dfsPostOrder(accion, raiz);
+    public T techo(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        Vertice v = techo(elemento, false);
+        return v == null ? null : v.elemento;
     }
 
     /**
-     * Método auxiliar.
+     * Regresa el mayor elemento del árbol que es estrictamente menor que el
+     * recibido.
      * 
-     * @param accion
-     * @param v      Vertice al que se le aplica acción.
+     * @param elemento el elemento a comparar.
+     * @return el mayor elemento menor que el recibido, o <code>null</code> si
+     *         no hay.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
      */
-    private void dfsPostOrder(AccionVerticeArbolBinario<T> accion, Vertice v) {
-        if (v == null)
-            return;
-        if (v.hayIzquierdo())
-            dfsPostOrder(accion, v.izquierdo);
-        if (v.hayDerecho())
-            dfsPostOrder(accion, v.derecho);
-        accion.actua(v);
+    public T menor(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        Vertice v = piso(elemento, true);
+        return v == null ? null : v.elemento;
+    }
+
+    /**
+     * Regresa el menor elemento del árbol que es estrictamente mayor que el
+     * recibido.
+     * 
+     * @param elemento el elemento a comparar.
+     * @return el menor elemento mayor que el recibido, o <code>null</code> si
+     *         no hay.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public T mayor(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        Vertice v = techo(elemento, true);
+        return v == null ? null : v.elemento;
+    }
+
+    /**
+     * Regresa el menor elemento del árbol.
+     * 
+     * @return el menor elemento del árbol.
+     * @throws NoSuchElementException si el árbol es vacío.
+     */
+    public T minimo() {
+        if (raiz == null)
+            throw new NoSuchElementException();
+        Vertice v = raiz;
+        while (v.izquierdo != null)
+            v = v.izquierdo;
+        return v.elemento;
+    }
+
+    /**
+     * Regresa el mayor elemento del árbol.
+     * 
+     * @return el mayor elemento del árbol.
+     * @throws NoSuchElementException si el árbol es vacío.
+     */
+    public T maximo() {
+        if (raiz == null)
+            throw new NoSuchElementException();
+        Vertice v = raiz;
+        while (v.derecho != null)
+            v = v.derecho;
+        return v.elemento;
+    }
+
+    /**
+     * Regresa un iterador para los elementos del árbol entre <em>a</em> y
+     * <em>b</em>, incluyéndolos, en orden. El iterador baja una vez por el
+     * árbol para encontrar el primero, y de ahí avanza por los sucesores sin
+     * copiar nada, así que recorrer <em>k</em> elementos toma tiempo
+     * O(log <em>n</em> + <em>k</em>). Si <em>a</em> es mayor que <em>b</em>, el
+     * iterador es vacío. El árbol no debe modificarse mientras se usa el
+     * iterador.
+     * 
+     * @param a el extremo inferior del rango.
+     * @param b el extremo superior del rango.
+     * @return un iterador para los elementos del rango.
+     * @throws IllegalArgumentException si <em>a</em> o <em>b</em> son
+     *                                  <code>null</code>.
+     */
+    public Iterator<T> rango(T a, T b) {
+        if (a == null || b == null)
+            throw new IllegalArgumentException();
+        return new IteradorRango(techo(a, false), b);
     }
 
     /**
@@ -0,0 +1,512 @@
+package mx.unam.ciencias.edd;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * <p>
+ * Clase genérica para listas respaldadas por un arreglo que crece.
+ * </p>
+ *
+ * <p>
+ * Ofrece las mismas operaciones que {@link Lista}, pero guarda sus elementos
+ * contiguos en un arreglo en lugar de crear un nodo por elemento. Agregar al
+ * final y acceder por índice toman tiempo constante; agregar al inicio,
+ * insertar y eliminar recorren los elementos que están después. Es la mejor
+ * opción para secuencias que se llenan una vez y después sólo se recorren.
+ * </p>
+ *
+ * <p>
+ * Las listas no aceptan a <code>null</code> como elemento.
+ * </p>
+ *
+ * @param <T> El tipo de los elementos de la lista.
+ */
+public class ArregloLista<T> implements Coleccion<T> {
+
+    /* Clase interna privada para iteradores. */
+    private class Iterador implements IteradorLista<T> {
+        /* El índice del elemento siguiente. */
+        public int siguiente;
+
+        /* Construye un nuevo iterador. */
+        public Iterador() {
+            siguiente = 0;
+        }
+
+        /* Nos dice si hay un elemento siguiente. */
+        @Override
+        public boolean hasNext() {
+            return siguiente < longitud;
+        }
+
+        /* Nos da el elemento siguiente. */
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return elementos[siguiente++];
+        }
+
+        /* Nos dice si hay un elemento anterior. */
+        @Override
+        public boolean hasPrevious() {
+            return siguiente > 0;
+        }
+
+        /* Nos da el elemento anterior. */
+        @Override
+        public T previous() {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            return elementos[--siguiente];
+        }
+
+        /* Mueve el iterador al inicio de la lista. */
+        @Override
+        public void start() {
+            siguiente = 0;
+        }
+
+        /* Mueve el iterador al final de la lista. */
+        @Override
+        public void end() {
+            siguiente = longitud;
+        }
+    }
+
+    /* Capacidad mínima; decidida arbitrariamente a 2^4. */
+    private static final int MINIMA_CAPACIDAD = 16;
+
+    /* Los elementos de la lista. */
+    private T[] elementos;
+    /* Número de elementos en la lista. */
+    private int longitud;
+
+    /* Truco para crear un arreglo genérico. */
+    @SuppressWarnings("unchecked")
+    private T[] nuevoArreglo(int n) {
+        return (T[]) new Object[n];
+    }
+
+    /**
+     * Construye una lista vacía.
+     */
+    public ArregloLista() {
+        this(MINIMA_CAPACIDAD);
+    }
+
+    /**
+     * Construye una lista vacía, con espacio para un número determinado de
+     * elementos sin tener que crecer.
+     *
+     * @param capacidad el número tentativo de elementos.
+     */
+    public ArregloLista(int capacidad) {
+        elementos = nuevoArreglo(Math.max(capacidad, MINIMA_CAPACIDAD));
+    }
+
+    /**
+     * Construye una lista con los elementos de la colección recibida, en el
+     * orden en que la colección los itera.
+     *
+     * @param coleccion la colección de la que se toman los elementos.
+     */
+    public ArregloLista(Coleccion<T> coleccion) {
+        this(coleccion.getElementos());
+        for (T elemento : coleccion)
+            agregaFinal(elemento);
+    }
+
+    /* Se asegura de que quepan n elementos más. */
+    private void reserva(int n) {
+        if (longitud + n <= elementos.length)
+            return;
+        int capacidad = elementos.length;
+        while (capacidad < longitud + n)
+            capacidad *= 2;
+        T[] nuevo = nuevoArreglo(capacidad);
+        System.arraycopy(elementos, 0, nuevo, 0, longitud);
+        elementos = nuevo;
+    }
+
+    /**
+     * Regresa la longitud de la lista. El método es idéntico a
+     * {@link #getElementos}.
+     *
+     * @return la longitud de la lista, el número de elementos que contiene.
+     */
+    public int getLongitud() {
+        return longitud;
+    }
+
+    /**
+     * Regresa el número elementos en la lista. El método es idéntico a
+     * {@link #getLongitud}.
+     *
+     * @return el número elementos en la lista.
+     */
+    @Override
+    public int getElementos() {
+        return longitud;
+    }
+
+    /**
+     * Nos dice si la lista es vacía.
+     *
+     * @return <code>true</code> si la lista es vacía, <code>false</code> en otro
+     *         caso.
+     */
+    @Override
+    public boolean esVacia() {
+        return longitud == 0;
+    }
+
+    /**
+     * Agrega un elemento a la lista. Si la lista no tiene elementos, el elemento a
+     * agregar será el primero y último. El método es idéntico a
+     * {@link #agregaFinal}.
+     *
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    @Override
+    public void agrega(T elemento) {
+        agregaFinal(elemento);
+    }
+
+    /**
+     * Agrega un elemento al final de la lista. Si la lista no tiene elementos, el
+     * elemento a agregar será el primero y último.
+     *
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public void agregaFinal(T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        reserva(1);
+        elementos[longitud++] = elemento;
+    }
+
+    /**
+     * Agrega un elemento al inicio de la lista. Si la lista no tiene elementos, el
+     * elemento a agregar será el primero y último.
+     *
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public void agregaInicio(T elemento) {
+        inserta(0, elemento);
+    }
+
+    /**
+     * Inserta un elemento en un índice explícito.
+     *
+     * Si el índice es menor o igual que cero, el elemento se agrega al inicio de la
+     * lista. Si el índice es mayor o igual que el número de elementos en la lista,
+     * el elemento se agrega al final de la misma. En otro caso, después de mandar
+     * llamar el método, el elemento tendrá el índice que se especifica en la lista.
+     *
+     * @param i        el índice dónde insertar el elemento. Si es menor que 0 el
+     *                 elemento se agrega al inicio de la lista, y si es mayor o
+     *                 igual que el número de elementos en la lista se agrega al
+     *                 final.
+     * @param elemento el elemento a insertar.
+     * @throws IllegalArgumentException si <code>elemento</code> es
+     *                                  <code>null</code>.
+     */
+    public void inserta(int i, T elemento) {
+        if (elemento == null)
+            throw new IllegalArgumentException();
+        i = Math.max(0, Math.min(i, longitud));
+        reserva(1);
+        System.arraycopy(elementos, i, elementos, i + 1, longitud - i);
+        elementos[i] = elemento;
+        longitud++;
+    }
+
+    /* Elimina el elemento en el índice i y lo regresa. */
+    private T eliminaIndice(int i) {
+        T elemento = elementos[i];
+        System.arraycopy(elementos, i + 1, elementos, i, longitud - i - 1);
+        elementos[--longitud] = null;
+        return elemento;
+    }
+
+    /**
+     * Elimina un elemento de la lista. Si el elemento no está contenido en la
+     * lista, el método no la modifica.
+     *
+     * @param elemento el elemento a eliminar.
+     */
+    @Override
+    public void elimina(T elemento) {
+        int i = indiceDe(elemento);
+        if (i != -1)
+            eliminaIndice(i);
+    }
+
+    /**
+     * Elimina el primer elemento de la lista y lo regresa.
+     *
+     * @return el primer elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaPrimero() {
+        if (esVacia())
+            throw new NoSuchElementException();
+        return eliminaIndice(0);
+    }
+
+    /**
+     * Elimina el último elemento de la lista y lo regresa.
+     *
+     * @return el último elemento de la lista antes de eliminarlo.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T eliminaUltimo() {
+        if (esVacia())
+            throw new NoSuchElementException();
+        return eliminaIndice(longitud - 1);
+    }
+
+    /**
+     * Nos dice si un elemento está en la lista.
+     *
+     * @param elemento el elemento que queremos saber si está en la lista.
+     * @return <code>true</code> si <code>elemento</code> está en la lista,
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean contiene(T elemento) {
+        return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Regresa la reversa de la lista.
+     *
+     * @return una nueva lista que es la reversa la que manda llamar el método.
+     */
+    public ArregloLista<T> reversa() {
+        ArregloLista<T> reversa = new ArregloLista<T>(longitud);
+        for (int i = longitud - 1; i >= 0; i--)
+            reversa.elementos[reversa.longitud++] = elementos[i];
+        return reversa;
+    }
+
+    /**
+     * Regresa una copia de la lista. La copia tiene los mismos elementos que la
+     * lista que manda llamar el método, en el mismo orden.
+     *
+     * @return una copia de la lista.
+     */
+    public ArregloLista<T> copia() {
+        ArregloLista<T> copia = new ArregloLista<T>(longitud);
+        System.arraycopy(elementos, 0, copia.elementos, 0, longitud);
+        copia.longitud = longitud;
+        return copia;
+    }
+
+    /**
+     * Limpia la lista de elementos, dejándola vacía.
+     */
+    @Override
+    public void limpia() {
+        elementos = nuevoArreglo(MINIMA_CAPACIDAD);
+        longitud = 0;
+    }
+
+    /**
+     * Regresa el primer elemento de la lista.
+     *
+     * @return el primer elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getPrimero() {
+        if (esVacia())
+            throw new NoSuchElementException();
+        return elementos[0];
+    }
+
+    /**
+     * Regresa el último elemento de la lista.
+     *
+     * @return el último elemento de la lista.
+     * @throws NoSuchElementException si la lista es vacía.
+     */
+    public T getUltimo() {
+        if (esVacia())
+            throw new NoSuchElementException();
+        return elementos[longitud - 1];
+    }
+
+    /**
+     * Regresa el <em>i</em>-ésimo elemento de la lista.
+     *
+     * @param i el índice del elemento que queremos.
+     * @return el <em>i</em>-ésimo elemento de la lista.
+     * @throws ExcepcionIndiceInvalido si <em>i</em> es menor que cero o mayor o
+     *                                 igual que el número de elementos en la lista.
+     */
+    public T get(int i) {
+        if (i < 0 || i >= longitud)
+            throw new ExcepcionIndiceInvalido();
+        return elementos[i];
+    }
+
+    /**
+     * Regresa el índice del elemento recibido en la lista.
+     *
+     * @param elemento el elemento del que se busca el índice.
+     * @return el índice del elemento recibido en la lista, o -1 si el elemento no
+     *         está contenido en la lista.
+     */
+    public int indiceDe(T elemento) {
+        if (elemento == null)
+            return -1;
+        for (int i = 0; i < longitud; i++)
+            if (elementos[i].equals(elemento))
+                return i;
+        return -1;
+    }
+
+    /**
+     * Regresa una representación en cadena de la lista.
+     *
+     * @return una representación en cadena de la lista.
+     */
+    @Override
+    public String toString() {
+        String representacion = "[";
+        for (int i = 0; i < longitud; i++) {
+            if (i > 0)
+                representacion += ", ";
+            representacion += elementos[i];
+        }
+        return representacion + "]";
+    }
+
+    /**
+     * Nos dice si la lista es igual al objeto recibido.
+     *
+     * @param objeto el objeto con el que hay que comparar.
+     * @return <code>true</code> si la lista es igual al objeto recibido;
+     *         <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object objeto) {
+        if (objeto == null || getClass() != objeto.getClass())
+            return false;
+        @SuppressWarnings("unchecked")
+        ArregloLista<T> lista = (ArregloLista<T>) objeto;
+        if (lista.longitud != longitud)
+            return false;
+        for (int i = 0; i < longitud; i++)
+            if (!elementos[i].equals(lista.elementos[i]))
+                return false;
+        return true;
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en una dirección.
+     *
+     * @return un iterador para recorrer la lista en una dirección.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    /**
+     * Regresa un iterador para recorrer la lista en ambas direcciones.
+     *
+     * @return un iterador para recorrer la lista en ambas direcciones.
+     */
+    public IteradorLista<T> iteradorLista() {
+        return new Iterador();
+    }
+
+    /**
+     * Regresa un {@link Spliterator} para recorrer la lista en orden. Recorre
+     * directamente el arreglo, y se parte por la mitad sin copiar.
+     * 
+     * @return un {@link Spliterator} para recorrer la lista.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elementos, 0, longitud,
+                                        Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Regresa una copia de la lista, pero ordenada. Para poder hacer el
+     * ordenamiento, el método necesita una instancia de {@link Comparator} para
+     * poder comparar los elementos de la lista.
+     *
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     * @return una copia de la lista, pero ordenada.
+     */
+    public ArregloLista<T> mergeSort(Comparator<T> comparador) {
+        ArregloLista<T> lista = copia();
+        lista.ordena(comparador);
+        return lista;
+    }
+
+    /**
+     * Ordena la lista usando el comparador recibido. El ordenamiento es estable
+     * y usa un arreglo auxiliar de la mitad del tamaño de la lista.
+     *
+     * @param comparador el comparador que la lista usará para hacer el
+     *                   ordenamiento.
+     */
+    public void ordena(Comparator<T> comparador) {
+        if (longitud > 1)
+            mergeSort(comparador, nuevoArreglo(longitud / 2 + 1), 0, longitud);
+    }
+
+    /*
+     * Ordena el rango [a, b) de los elementos. Mezcla copiando sólo la mitad
+     * izquierda al auxiliar, y no mezcla si las mitades ya están en orden.
+     */
+    private void mergeSort(Comparator<T> comparador, T[] auxiliar, int a, int b) {
+        if (b - a < 2)
+            return;
+        int m = (a + b) >>> 1;
+        mergeSort(comparador, auxiliar, a, m);
+        mergeSort(comparador, auxiliar, m, b);
+        if (comparador.compare(elementos[m - 1], elementos[m]) <= 0)
+            return;
+        System.arraycopy(elementos, a, auxiliar, 0, m - a);
+        int i = 0, j = m, k = a;
+        while (i < m - a && j < b) {
+            if (comparador.compare(elementos[j], auxiliar[i]) < 0)
+                elementos[k++] = elementos[j++];
+            else
+                elementos[k++] = auxiliar[i++];
+        }
+        while (i < m - a)
+            elementos[k++] = auxiliar[i++];
+    }
+
+    /**
+     * Regresa una copia de la lista recibida, pero ordenada. La lista recibida
+     * tiene que contener nada más elementos que implementan la interfaz
+     * {@link Comparable}.
+     *
+     * @param <T>   tipo del que puede ser la lista.
+     * @param lista la lista que se ordenará.
+     * @return una copia de la lista recibida, pero ordenada.
+     */
+    public static <T extends Comparable<T>>
+    ArregloLista<T> mergeSort(ArregloLista<T> lista) {
+        return lista.mergeSort((a, b) -> a.compareTo(b));
+    }
+}
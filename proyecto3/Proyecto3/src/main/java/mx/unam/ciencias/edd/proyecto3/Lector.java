@@ -5,11 +5,11 @@ import java.io.File;
 
 public class Lector {
 
-    private Lista<String> archivos;
+    private ArregloLista<String> archivos;
     private String carpeta;
 
     Lector(String[] args) {
-        archivos = new Lista<String>();
+        archivos = new ArregloLista<String>();
         lectura(args);
     }
 
@@ -58,7 +58,7 @@ public class Lector {
      * 
      * @return Lista con los archivos.
      */
-    public Lista<String> getArchivos() {
+    public ArregloLista<String> getArchivos() {
         return this.archivos;
     }
 }
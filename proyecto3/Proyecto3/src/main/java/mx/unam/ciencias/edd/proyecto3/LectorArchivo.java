@@ -12,7 +12,7 @@ import java.io.File;
 public class LectorArchivo {
 
     private String archivo;
-    private Lista<Palabra> palabrasSinRepeticion;
+    private ArregloLista<Palabra> palabrasSinRepeticion;
     public Diccionario<Palabra, Integer> palabrasConRepeticion;
     private Diccionario<Palabra, Integer> masFrecuentes;
     private Conjunto<Palabra> conjuntoSiete;
@@ -32,7 +32,7 @@ public class LectorArchivo {
             throw new NoSuchElementException();
 
         BufferedReader br = new BufferedReader(new FileReader(f));
-        Lista<Palabra> lista = new Lista<>();
+        ArregloLista<Palabra> lista = new ArregloLista<>();
         String linea;
         String[] aux;
 